@@ -69,6 +69,8 @@ project(":mcp-server") {
     dependencies {
         //모듈 의존성 (mcp-server <- infrastructures:elasticsearch)
         implementation(project(":infrastructures:elasticsearch"))
+        // 도구 호출 지연/응답 크기/오류 메트릭
+        implementation("io.micrometer:micrometer-core")
     }
 }
 
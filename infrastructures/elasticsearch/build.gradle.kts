@@ -2,6 +2,11 @@ import org.springframework.boot.gradle.tasks.bundling.BootJar
 import org.yaml.snakeyaml.Yaml
 import java.io.FileInputStream
 
+plugins {
+    // 응답 파싱 벤치마크 (src/jmh/java, 실행: ./gradlew :infrastructures:elasticsearch:jmh)
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 val jar: Jar by tasks
 val bootJar: BootJar by tasks
 
@@ -25,7 +30,11 @@ val elasticsearchVersion = esConfig["version"] as String
 dependencies {
     // Elasticsearch Java API Client
     implementation("co.elastic.clients:elasticsearch-java:$elasticsearchVersion")
+    // 노드 탐색 (elasticsearch.search.sniffer.*), 버전은 RestClient와 같이 Spring Boot가 관리
+    implementation("org.elasticsearch.client:elasticsearch-rest-client-sniffer")
     implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     // Test dependencies
     testImplementation("org.junit.platform:junit-platform-commons:1.10.0") // Align JUnit Platform Commons version
@@ -35,6 +44,15 @@ dependencies {
     testImplementation("org.mockito:mockito-junit-jupiter:5.5.0")
 }
 
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    // gc 프로파일러로 연산당 할당량(gc.alloc.rate.norm)을 함께 기록
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 // Configure the test task to use JUnit Platform
 tasks.withType<Test> {
     useJUnitPlatform()
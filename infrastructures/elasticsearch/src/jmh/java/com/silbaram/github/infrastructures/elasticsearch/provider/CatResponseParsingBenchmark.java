@@ -0,0 +1,56 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import com.silbaram.github.infrastructures.elasticsearch.model.AliasInfo;
+import com.silbaram.github.infrastructures.elasticsearch.model.IndexInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * _cat/indices, _cat/aliases 응답을 레코드로 읽는 처리량을 인덱스/별칭 수별로 측정합니다.
+ * 할당률은 gc 프로파일러(gc.alloc.rate.norm)로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CatResponseParsingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private ElasticsearchIndicesProvider indicesProvider;
+    private ElasticsearchAliasesProvider aliasesProvider;
+    private byte[] catIndices;
+    private byte[] catAliases;
+
+    @Setup
+    public void setUp() {
+        // 파싱 경로만 측정하므로 RestClient는 사용하지 않습니다.
+        JsonCodec jsonCodec = new JsonCodec();
+        indicesProvider = new ElasticsearchIndicesProvider(null, jsonCodec);
+        aliasesProvider = new ElasticsearchAliasesProvider(null, jsonCodec);
+        catIndices = ResponseFixtures.jsonArray("cat-indices-row.json", rows);
+        catAliases = ResponseFixtures.jsonArray("cat-aliases-row.json", rows);
+    }
+
+    @Benchmark
+    public List<IndexInfo> parseCatIndices() throws IOException {
+        return indicesProvider.parseIndices(new ByteArrayInputStream(catIndices));
+    }
+
+    @Benchmark
+    public List<AliasInfo> parseCatAliases() throws IOException {
+        return aliasesProvider.parseAliases(new ByteArrayInputStream(catAliases));
+    }
+}
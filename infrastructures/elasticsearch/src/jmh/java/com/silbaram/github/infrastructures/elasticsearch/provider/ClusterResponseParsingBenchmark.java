@@ -0,0 +1,54 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterStatistics;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * _cluster/stats, _cluster/health 응답 파싱의 처리량을 측정합니다.
+ * _cluster/stats는 매핑 필드 타입 수에 따라 응답이 커지므로 field_types 항목 수를 바꿔 가며 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClusterResponseParsingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int fieldTypes;
+
+    private ElasticsearchClusterStatisticsProvider statisticsProvider;
+    private ElasticsearchHealthProvider healthProvider;
+    private byte[] clusterStats;
+    private byte[] clusterHealth;
+
+    @Setup
+    public void setUp() {
+        JsonCodec jsonCodec = new JsonCodec();
+        statisticsProvider = new ElasticsearchClusterStatisticsProvider(null, jsonCodec);
+        healthProvider = new ElasticsearchHealthProvider(null, jsonCodec);
+        clusterStats = ResponseFixtures.document("cluster-stats.json", "field_types", "cluster-stats-field-type.json", fieldTypes);
+        clusterHealth = ResponseFixtures.document("cluster-health.json");
+    }
+
+    @Benchmark
+    public ClusterStatistics parseClusterStatistics() throws IOException {
+        return statisticsProvider.parseClusterStatistics(new ByteArrayInputStream(clusterStats));
+    }
+
+    @Benchmark
+    public Map<String, String> parseClusterHealth() throws IOException {
+        return healthProvider.parseClusterHealth(new ByteArrayInputStream(clusterHealth));
+    }
+}
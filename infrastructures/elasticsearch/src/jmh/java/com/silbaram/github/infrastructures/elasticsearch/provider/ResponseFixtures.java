@@ -0,0 +1,57 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 녹화한 응답 템플릿(src/jmh/resources/fixtures)을 원하는 규모로 늘려 벤치마크 입력을 만듭니다.
+ * 템플릿의 {{n}}은 행 번호로 치환되어 행마다 서로 다른 문자열이 만들어집니다.
+ */
+final class ResponseFixtures {
+
+    private ResponseFixtures() {
+    }
+
+    /**
+     * 행 템플릿을 rows개 반복한 JSON 배열을 만듭니다. (_cat API 형식)
+     */
+    static byte[] jsonArray(String rowTemplate, int rows) {
+        return ("[" + joinRows(load(rowTemplate), rows) + "]").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 문서 템플릿의 {{placeholder}}를 행 템플릿을 rows개 이어 붙인 값으로 치환합니다.
+     */
+    static byte[] document(String documentTemplate, String placeholder, String rowTemplate, int rows) {
+        String document = load(documentTemplate).replace("{{" + placeholder + "}}", joinRows(load(rowTemplate), rows));
+        return document.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] document(String documentTemplate) {
+        return load(documentTemplate).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String joinRows(String rowTemplate, int rows) {
+        StringBuilder builder = new StringBuilder(rowTemplate.length() * rows + rows);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(rowTemplate.replace("{{n}}", Integer.toString(i)));
+        }
+        return builder.toString();
+    }
+
+    private static String load(String name) {
+        try (InputStream inputStream = ResponseFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Missing fixture: " + name);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
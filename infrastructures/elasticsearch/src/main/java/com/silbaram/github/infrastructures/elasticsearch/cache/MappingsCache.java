@@ -0,0 +1,99 @@
+package com.silbaram.github.infrastructures.elasticsearch.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchMappingsProvider;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인덱스(또는 패턴)별 매핑 JSON을 보관하는 크기 기반 캐시입니다.
+ * <p>
+ * 캐시 값은 조회 당시 각 인덱스의 mapping_version과 함께 저장되며,
+ * revalidate-interval이 지난 뒤의 조회에서는 filter_path로 줄인 _cluster/state/metadata 호출로
+ * 버전만 다시 확인해 달라졌을 때만 매핑을 새로 받아옵니다.
+ */
+@Component
+public class MappingsCache {
+
+    private final ElasticsearchMappingsProvider mappingsProvider;
+    private final boolean enabled;
+    private final long revalidateIntervalNanos;
+    private final Cache<String, CachedMappings> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public MappingsCache(ElasticsearchMappingsProvider mappingsProvider, ElasticsearchProperties props) {
+        ElasticsearchProperties.MappingCache settings = props.getMappingCache();
+        this.mappingsProvider = mappingsProvider;
+        this.enabled = settings.isEnabled();
+        this.revalidateIntervalNanos = settings.getRevalidateInterval().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(settings.getMaxSize().toBytes())
+                // max-size는 메모리 기준이므로 문자 수가 아닌 문자열이 차지하는 대략적인 바이트(UTF-16, 문자당 2바이트)로 잽니다.
+                .weigher((String index, CachedMappings value) -> value.mappings().length() * 2)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 매핑 JSON을 캐시에서 조회하고, 없거나 mapping_version이 바뀐 경우 클러스터에서 다시 받아옵니다.
+     * @param index 대상 인덱스명 또는 패턴
+     * @return 매핑 정보 JSON 문자열을 방출하는 Mono
+     */
+    public Mono<String> getMappings(String index) {
+        if (!enabled) {
+            return mappingsProvider.getCatMappingsAsync(index);
+        }
+
+        CachedMappings cached = cache.getIfPresent(index);
+        if (cached != null && System.nanoTime() - cached.validatedAtNanos() < revalidateIntervalNanos) {
+            hits.increment();
+            return Mono.just(cached.mappings());
+        }
+
+        // 버전을 먼저 조회한 뒤 매핑을 받으므로, 그 사이 매핑이 바뀌어도 다음 확인에서 다시 갱신됩니다.
+        return mappingsProvider.getMappingVersionsAsync(index).flatMap(versions -> {
+            if (cached != null && cached.mappingVersions().equals(versions)) {
+                hits.increment();
+                cache.put(index, cached.revalidated(System.nanoTime()));
+                return Mono.just(cached.mappings());
+            }
+            if (cached != null) {
+                invalidations.increment();
+            }
+            misses.increment();
+            return mappingsProvider.getCatMappingsAsync(index)
+                    .doOnNext(mappings -> cache.put(index, new CachedMappings(mappings, versions, System.nanoTime())));
+        });
+    }
+
+    /**
+     * 지정된 인덱스의 캐시 항목을 제거합니다.
+     */
+    public void invalidate(String index) {
+        cache.invalidate(index);
+    }
+
+    public MappingsCacheStats stats() {
+        return new MappingsCacheStats(
+                hits.sum(),
+                misses.sum(),
+                invalidations.sum(),
+                cache.stats().evictionCount(),
+                cache.estimatedSize()
+        );
+    }
+
+    private record CachedMappings(String mappings, Map<String, Long> mappingVersions, long validatedAtNanos) {
+        CachedMappings revalidated(long nanos) {
+            return new CachedMappings(mappings, mappingVersions, nanos);
+        }
+    }
+}
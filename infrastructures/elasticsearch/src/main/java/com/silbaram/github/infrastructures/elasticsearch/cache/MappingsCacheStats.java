@@ -0,0 +1,13 @@
+package com.silbaram.github.infrastructures.elasticsearch.cache;
+
+/**
+ * 매핑 캐시의 누적 통계입니다.
+ *
+ * @param hits 캐시에서 응답한 횟수
+ * @param misses 클러스터에서 매핑을 받아온 횟수
+ * @param invalidations mapping_version 변경으로 캐시 값을 버린 횟수
+ * @param evictions 크기 제한으로 제거된 항목 수
+ * @param size 현재 캐시 항목 수 (추정치)
+ */
+public record MappingsCacheStats(long hits, long misses, long invalidations, long evictions, long size) {
+}
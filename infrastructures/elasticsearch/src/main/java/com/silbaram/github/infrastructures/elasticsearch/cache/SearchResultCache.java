@@ -0,0 +1,185 @@
+package com.silbaram.github.infrastructures.elasticsearch.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchIndicesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 인덱스와 정규화한 쿼리 DSL을 키로 검색 결과 JSON을 보관하는 크기 기반 캐시입니다.
+ * <p>
+ * 쿼리는 객체 키를 정렬하고 공백을 제거한 형태로 바꿔 키로 사용하므로, 같은 쿼리를 다른 키 순서나 들여쓰기로
+ * 보내도 같은 항목을 찾습니다. 캐시 값은 조회 당시 인덱스별 refresh/indexing 카운터와 함께 저장되며,
+ * revalidate-interval이 지난 뒤의 조회에서는 filter_path로 줄인 _stats 호출로 카운터만 다시 확인해
+ * 달라졌을 때만 검색을 다시 실행합니다. now 같은 상대 시간을 쓰는 쿼리는 인덱스가 바뀌지 않아도 결과가
+ * 달라질 수 있으므로, 모든 항목은 ttl이 지나면 버립니다.
+ */
+@Component
+public class SearchResultCache {
+
+    private final ElasticsearchIndicesProvider indicesProvider;
+    private final JsonCodec jsonCodec;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long revalidateIntervalNanos;
+    private final Cache<String, CachedResult> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public SearchResultCache(ElasticsearchIndicesProvider indicesProvider, JsonCodec jsonCodec, ElasticsearchProperties props) {
+        ElasticsearchProperties.SearchCache settings = props.getSearchCache();
+        this.indicesProvider = indicesProvider;
+        this.jsonCodec = jsonCodec;
+        this.enabled = settings.isEnabled();
+        this.ttlNanos = settings.getTtl().toNanos();
+        this.revalidateIntervalNanos = settings.getRevalidateInterval().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(settings.getMaxSize().toBytes())
+                // max-size는 메모리 기준이므로 문자열이 차지하는 대략적인 바이트(UTF-16, 문자당 2바이트)로 잽니다.
+                .weigher((String key, CachedResult value) -> (key.length() + value.result().length()) * 2)
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 검색 결과를 캐시에서 조회하고, 없거나 인덱스가 바뀐 경우 search를 실행해 결과를 저장합니다.
+     * 캐시가 꺼져 있거나 쿼리가 올바른 JSON이 아니면 캐시 없이 search를 그대로 실행합니다.
+     *
+     * @param index 대상 인덱스명 또는 패턴
+     * @param queryBody 검색 쿼리 DSL
+     * @param search 실제 검색을 실행하는 Mono 공급자
+     * @return 검색 결과 JSON 문자열을 방출하는 Mono
+     */
+    public Mono<String> getOrSearch(String index, String queryBody, Supplier<Mono<String>> search) {
+        if (!enabled) {
+            return Mono.defer(search);
+        }
+        String key = cacheKey(index, queryBody);
+        if (key == null) {
+            misses.increment();
+            return Mono.defer(search);
+        }
+
+        CachedResult cached = cache.getIfPresent(key);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.fetchedAtNanos() >= ttlNanos) {
+            // 재확인으로 다시 저장된 항목은 Caffeine의 만료 시각이 밀리므로 최초 조회 시각으로 ttl을 확인합니다.
+            invalidations.increment();
+            cache.invalidate(key);
+            cached = null;
+        }
+        if (cached != null && now - cached.validatedAtNanos() < revalidateIntervalNanos) {
+            hits.increment();
+            return Mono.just(cached.result());
+        }
+
+        CachedResult previous = cached;
+        // 카운터를 먼저 조회한 뒤 검색하므로, 그 사이 인덱스가 바뀌어도 다음 확인에서 다시 검색합니다.
+        return indicesProvider.getChangeCountersAsync(index.trim())
+                .map(Optional::of)
+                // 카운터를 확인할 수 없으면 캐시 값을 믿지 않고 캐시 없이 검색합니다. (검색 오류는 그대로 전달)
+                .onErrorResume(e -> Mono.just(Optional.empty()))
+                .flatMap(counters -> {
+                    if (counters.isEmpty()) {
+                        misses.increment();
+                        return Mono.defer(search);
+                    }
+                    if (previous != null && previous.changeCounters().equals(counters.get())) {
+                        hits.increment();
+                        cache.put(key, previous.revalidated(System.nanoTime()));
+                        return Mono.just(previous.result());
+                    }
+                    if (previous != null) {
+                        invalidations.increment();
+                    }
+                    misses.increment();
+                    long fetchedAt = System.nanoTime();
+                    return Mono.defer(search)
+                            .doOnNext(result -> cache.put(key, new CachedResult(result, counters.get(), fetchedAt, fetchedAt)));
+                });
+    }
+
+    /**
+     * 캐시된 검색 결과를 모두 제거합니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public SearchResultCacheStats stats() {
+        return new SearchResultCacheStats(
+                hits.sum(),
+                misses.sum(),
+                invalidations.sum(),
+                cache.stats().evictionCount(),
+                cache.estimatedSize()
+        );
+    }
+
+    /**
+     * 인덱스명과 정규화한 쿼리로 캐시 키를 만듭니다. 쿼리를 해석할 수 없으면 null을 반환합니다.
+     */
+    String cacheKey(String index, String queryBody) {
+        if (index == null || index.isBlank()) {
+            return null;
+        }
+        JsonNode query;
+        try {
+            query = (queryBody == null || queryBody.isBlank())
+                    ? jsonCodec.objectMapper().createObjectNode()
+                    : jsonCodec.objectMapper().readTree(queryBody);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        if (query == null || !query.isObject()) {
+            return null;
+        }
+        return index.trim() + '\n' + canonicalize(query).toString();
+    }
+
+    // 객체 키를 이름순으로 정렬한 사본을 만듭니다. 배열 순서는 의미가 있으므로 유지합니다.
+    private JsonNode canonicalize(JsonNode node) {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            names.sort(null);
+            ObjectNode sorted = jsonCodec.objectMapper().createObjectNode();
+            for (String name : names) {
+                sorted.set(name, canonicalize(node.get(name)));
+            }
+            return sorted;
+        }
+        if (node.isArray()) {
+            ArrayNode array = jsonCodec.objectMapper().createArrayNode();
+            for (Iterator<JsonNode> elements = node.elements(); elements.hasNext(); ) {
+                array.add(canonicalize(elements.next()));
+            }
+            return array;
+        }
+        return node;
+    }
+
+    private record CachedResult(String result, Map<String, Long> changeCounters, long fetchedAtNanos, long validatedAtNanos) {
+        CachedResult revalidated(long nanos) {
+            return new CachedResult(result, changeCounters, fetchedAtNanos, nanos);
+        }
+    }
+}
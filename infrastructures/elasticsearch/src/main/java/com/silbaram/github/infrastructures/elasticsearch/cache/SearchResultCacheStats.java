@@ -0,0 +1,13 @@
+package com.silbaram.github.infrastructures.elasticsearch.cache;
+
+/**
+ * 검색 결과 캐시의 누적 통계입니다.
+ *
+ * @param hits 캐시에서 응답한 횟수
+ * @param misses 클러스터에서 검색을 실행한 횟수 (캐시할 수 없는 쿼리 포함)
+ * @param invalidations 인덱스 변경 카운터 변경이나 ttl 만료로 캐시 값을 버린 횟수
+ * @param evictions 크기 제한으로 제거된 항목 수
+ * @param size 현재 캐시 항목 수 (추정치)
+ */
+public record SearchResultCacheStats(long hits, long misses, long invalidations, long evictions, long size) {
+}
@@ -0,0 +1,40 @@
+package com.silbaram.github.infrastructures.elasticsearch.cluster;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 여러 클러스터에 동시에 보낸 요청 중 한 클러스터의 결과입니다.
+ * 느리거나 실패한 클러스터가 있어도 나머지 클러스터의 결과는 그대로 반환하기 위해 상태를 함께 담습니다.
+ *
+ * @param cluster 클러스터 이름
+ * @param status {@code ok}, {@code timeout}, {@code error} 중 하나
+ * @param tookMs 응답을 받거나 포기하기까지 걸린 시간 (밀리초)
+ * @param result 성공한 경우의 결과
+ * @param error 실패한 경우의 원인 메시지
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterResult<T>(
+        String cluster,
+        String status,
+        @JsonProperty("took_ms") long tookMs,
+        T result,
+        String error
+) {
+
+    public static final String OK = "ok";
+    public static final String TIMEOUT = "timeout";
+    public static final String ERROR = "error";
+
+    public static <T> ClusterResult<T> ok(String cluster, long tookMs, T result) {
+        return new ClusterResult<>(cluster, OK, tookMs, result, null);
+    }
+
+    public static <T> ClusterResult<T> timeout(String cluster, long tookMs) {
+        return new ClusterResult<>(cluster, TIMEOUT, tookMs, null, "no response within " + tookMs + " ms");
+    }
+
+    public static <T> ClusterResult<T> error(String cluster, long tookMs, String message) {
+        return new ClusterResult<>(cluster, ERROR, tookMs, null, message);
+    }
+}
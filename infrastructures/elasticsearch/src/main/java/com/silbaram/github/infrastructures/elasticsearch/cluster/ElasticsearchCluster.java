@@ -0,0 +1,55 @@
+package com.silbaram.github.infrastructures.elasticsearch.cluster;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchAliasesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchAsyncSearchProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchCatAllocationProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchClusterStatisticsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchHealthProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchIndicesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchMappingsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchSearchProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.elasticsearch.client.RestClient;
+
+/**
+ * 이름 붙은 클러스터 하나와 그 클러스터의 RestClient로 요청하는 provider 묶음입니다.
+ *
+ * @param name 클러스터 이름 (기본 클러스터는 {@link ElasticsearchClusterRegistry#DEFAULT_CLUSTER})
+ */
+public record ElasticsearchCluster(
+        String name,
+        ElasticsearchHealthProvider health,
+        ElasticsearchClusterStatisticsProvider statistics,
+        ElasticsearchIndicesProvider indices,
+        ElasticsearchAliasesProvider aliases,
+        ElasticsearchMappingsProvider mappings,
+        ElasticsearchCatAllocationProvider allocation,
+        ElasticsearchSearchProvider search,
+        ElasticsearchAsyncSearchProvider asyncSearch
+) {
+
+    /**
+     * 주어진 RestClient로 요청하는 provider를 새로 만들어 클러스터를 구성합니다.
+     * 기본 클러스터는 스프링 빈으로 등록된 provider를 그대로 사용하므로 추가 클러스터에만 사용합니다.
+     */
+    public static ElasticsearchCluster create(
+            String name,
+            RestClient restClient,
+            JsonCodec jsonCodec,
+            ElasticsearchProperties props,
+            HttpCompression httpCompression) {
+        return new ElasticsearchCluster(
+                name,
+                new ElasticsearchHealthProvider(restClient, jsonCodec),
+                new ElasticsearchClusterStatisticsProvider(restClient, jsonCodec),
+                new ElasticsearchIndicesProvider(restClient, jsonCodec),
+                new ElasticsearchAliasesProvider(restClient, jsonCodec),
+                new ElasticsearchMappingsProvider(restClient, jsonCodec),
+                new ElasticsearchCatAllocationProvider(restClient, jsonCodec),
+                new ElasticsearchSearchProvider(restClient, jsonCodec, props, httpCompression),
+                new ElasticsearchAsyncSearchProvider(restClient, jsonCodec, props, httpCompression)
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package com.silbaram.github.infrastructures.elasticsearch.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 이름 붙은 Elasticsearch 클러스터 목록입니다.
+ * <p>
+ * 기본 클러스터({@code elasticsearch.search.hosts})는 {@value #DEFAULT_CLUSTER} 이름으로 등록되고,
+ * {@code elasticsearch.search.clusters.<이름>}에 정의한 클러스터가 그 뒤에 등록됩니다.
+ * {@link #fanOut(Function)}은 모든 클러스터에 동시에 요청을 보내고 클러스터별 타임아웃을 적용해,
+ * 일부 클러스터가 느리거나 실패해도 나머지 결과를 반환합니다.
+ * 추가 클러스터의 RestClient와 유휴 연결 정리 스레드는 이 레지스트리가 종료할 때 함께 닫습니다.
+ */
+public class ElasticsearchClusterRegistry implements DisposableBean {
+
+    public static final String DEFAULT_CLUSTER = "default";
+
+    private static final Logger logger = LoggerFactory.getLogger(ElasticsearchClusterRegistry.class);
+
+    private final Map<String, ElasticsearchCluster> clusters;
+    private final Duration fanOutTimeout;
+    private final List<AutoCloseable> resources;
+
+    /**
+     * @param defaultCluster 스프링 빈 provider로 구성한 기본 클러스터
+     * @param additionalClusters 추가 클러스터 (등록 순서 유지)
+     * @param fanOutTimeout 동시 조회 시 클러스터별 응답 대기 시간
+     * @param resources 종료 시 닫을 추가 클러스터의 자원 (RestClient, 유휴 연결 정리 스레드)
+     */
+    public ElasticsearchClusterRegistry(
+            ElasticsearchCluster defaultCluster,
+            List<ElasticsearchCluster> additionalClusters,
+            Duration fanOutTimeout,
+            List<AutoCloseable> resources) {
+        Map<String, ElasticsearchCluster> registered = new LinkedHashMap<>();
+        registered.put(DEFAULT_CLUSTER, defaultCluster);
+        for (ElasticsearchCluster cluster : additionalClusters) {
+            if (registered.putIfAbsent(cluster.name(), cluster) != null) {
+                throw new IllegalStateException("Duplicate Elasticsearch cluster name: " + cluster.name());
+            }
+        }
+        this.clusters = Collections.unmodifiableMap(registered);
+        this.fanOutTimeout = fanOutTimeout;
+        this.resources = List.copyOf(resources);
+    }
+
+    /**
+     * 도구 인자로 받은 클러스터 이름이 기본 클러스터를 가리키는지 확인합니다. 비어 있으면 기본 클러스터입니다.
+     */
+    public static boolean isDefault(String name) {
+        return name == null || name.isBlank() || DEFAULT_CLUSTER.equals(name.trim());
+    }
+
+    /**
+     * @param name 클러스터 이름, 비어 있으면 기본 클러스터
+     * @throws IllegalArgumentException 등록되지 않은 이름인 경우
+     */
+    public ElasticsearchCluster cluster(String name) {
+        String key = isDefault(name) ? DEFAULT_CLUSTER : name.trim();
+        ElasticsearchCluster cluster = clusters.get(key);
+        if (cluster == null) {
+            throw new IllegalArgumentException("Unknown Elasticsearch cluster '" + name + "'; known clusters: " + names());
+        }
+        return cluster;
+    }
+
+    /**
+     * @return 등록 순서의 클러스터 이름 (기본 클러스터가 처음)
+     */
+    public List<String> names() {
+        return new ArrayList<>(clusters.keySet());
+    }
+
+    public Collection<ElasticsearchCluster> clusters() {
+        return clusters.values();
+    }
+
+    public Duration fanOutTimeout() {
+        return fanOutTimeout;
+    }
+
+    /**
+     * 모든 클러스터에 동시에 요청을 보냅니다.
+     * 클러스터마다 {@code elasticsearch.search.fan-out.timeout}을 적용하며, 시간 안에 응답하지 않은 요청은 취소하고
+     * {@code timeout}으로, 실패한 요청은 {@code error}로 표시합니다. 결과는 클러스터 등록 순서로 반환합니다.
+     *
+     * @param call 클러스터 하나에 보낼 요청
+     * @return 클러스터별 결과 목록 (실패하지 않음)
+     */
+    public <T> Mono<List<ClusterResult<T>>> fanOut(Function<ElasticsearchCluster, Mono<T>> call) {
+        return Flux.fromIterable(clusters.values())
+                .flatMapSequential(cluster -> callOne(cluster, call), Math.max(1, clusters.size()))
+                .collectList();
+    }
+
+    private <T> Mono<ClusterResult<T>> callOne(ElasticsearchCluster cluster, Function<ElasticsearchCluster, Mono<T>> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Mono.defer(() -> call.apply(cluster))
+                    .timeout(fanOutTimeout)
+                    .map(result -> ClusterResult.ok(cluster.name(), elapsedMillis(start), result))
+                    .switchIfEmpty(Mono.fromSupplier(() -> ClusterResult.<T>ok(cluster.name(), elapsedMillis(start), null)))
+                    .onErrorResume(TimeoutException.class, e -> Mono.just(ClusterResult.<T>timeout(cluster.name(), elapsedMillis(start))))
+                    .onErrorResume(e -> Mono.just(ClusterResult.<T>error(cluster.name(), elapsedMillis(start), String.valueOf(e.getMessage()))));
+        });
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    @Override
+    public void destroy() {
+        for (AutoCloseable resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close Elasticsearch cluster resource", e);
+            }
+        }
+    }
+}
@@ -4,17 +4,44 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchCluster;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
 import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchAliasesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchAsyncSearchProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchCatAllocationProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchClusterStatisticsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchHealthProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchIndicesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchMappingsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchSearchProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Configuration
@@ -23,34 +50,244 @@ public class ElasticsearchClientConfig {
 
     private final ElasticsearchProperties props;
     private static final String EMPTY_VALUE = "EMPTY";
+    // 노드 실패 시 즉시 노드 목록을 갱신합니다. RestClient를 만들 때 등록하고 sniffer가 만들어진 뒤 연결됩니다.
+    private final SniffOnFailureListener sniffOnFailureListener = new SniffOnFailureListener();
 
     public ElasticsearchClientConfig(ElasticsearchProperties props) {
         this.props = props;
     }
 
+    /**
+     * RestClient가 사용하는 연결 풀입니다.
+     * 연결 수 제한과 IO 리액터 스레드 수를 elasticsearch.search.connection.* 설정으로 지정합니다.
+     * 종료는 RestClient.close()가 담당하므로 별도의 destroy 메서드를 두지 않습니다.
+     */
+    @Bean(destroyMethod = "")
+    public PoolingNHttpClientConnectionManager elasticsearchConnectionManager() throws IOReactorException {
+        return connectionManager("elasticsearch-rest-client-io-");
+    }
+
     @Bean
-    public RestClient restClient() {
+    public ElasticsearchIdleConnectionEvictor elasticsearchIdleConnectionEvictor(PoolingNHttpClientConnectionManager elasticsearchConnectionManager) {
+        ElasticsearchProperties.Connection connection = props.getConnection();
+        return new ElasticsearchIdleConnectionEvictor(
+            elasticsearchConnectionManager, connection.getIdleEvictionInterval(), connection.getMaxIdleTime()
+        );
+    }
 
-        HttpHost[] httpHosts = props.getHosts().stream()
-                .map(HttpHost::create)
-                .toArray(HttpHost[]::new);
+    @Bean
+    public HttpCompression httpCompression() {
+        return new HttpCompression(props);
+    }
 
-            // 아이디, 패스워드가 있을 때만 인증 추가
-            if (!Objects.equals(props.getUsername(), EMPTY_VALUE) && !Objects.equals(props.getPassword(), EMPTY_VALUE)) {
-                final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-                credentialsProvider.setCredentials(
-                    AuthScope.ANY,
-                    new UsernamePasswordCredentials(props.getUsername(), props.getPassword())
+    @Bean
+    public RestClient restClient(PoolingNHttpClientConnectionManager elasticsearchConnectionManager, HttpCompression httpCompression) {
+        return restClient(
+            props.getHosts(),
+            credentialsProvider(props.getUsername(), props.getPassword()),
+            elasticsearchConnectionManager,
+            httpCompression,
+            isSniffOnFailure() ? sniffOnFailureListener : null
+        );
+    }
+
+    /**
+     * 기본 클러스터와 elasticsearch.search.clusters.* 에 정의한 추가 클러스터를 등록합니다.
+     * 추가 클러스터마다 별도의 연결 풀, 유휴 연결 정리 스레드, RestClient를 만들며
+     * 연결 풀/타임아웃/압축/노드 선택 설정은 기본 클러스터 설정을 따릅니다. (노드 탐색은 기본 클러스터에만 적용)
+     */
+    @Bean
+    public ElasticsearchClusterRegistry elasticsearchClusterRegistry(
+            JsonCodec jsonCodec,
+            HttpCompression httpCompression,
+            ElasticsearchHealthProvider elasticsearchHealthProvider,
+            ElasticsearchClusterStatisticsProvider elasticsearchClusterStatisticsProvider,
+            ElasticsearchIndicesProvider elasticsearchIndicesProvider,
+            ElasticsearchAliasesProvider elasticsearchAliasesProvider,
+            ElasticsearchMappingsProvider elasticsearchMappingsProvider,
+            ElasticsearchCatAllocationProvider elasticsearchCatAllocationProvider,
+            ElasticsearchSearchProvider elasticsearchSearchProvider,
+            ElasticsearchAsyncSearchProvider elasticsearchAsyncSearchProvider) throws IOReactorException {
+        ElasticsearchCluster defaultCluster = new ElasticsearchCluster(
+            ElasticsearchClusterRegistry.DEFAULT_CLUSTER,
+            elasticsearchHealthProvider,
+            elasticsearchClusterStatisticsProvider,
+            elasticsearchIndicesProvider,
+            elasticsearchAliasesProvider,
+            elasticsearchMappingsProvider,
+            elasticsearchCatAllocationProvider,
+            elasticsearchSearchProvider,
+            elasticsearchAsyncSearchProvider
+        );
+
+        // 연결 풀을 만들기 전에 모든 항목을 검증해, 설정 오류로 이미 만든 IO 리액터가 남지 않게 합니다.
+        props.getClusters().forEach(this::validateCluster);
+
+        List<ElasticsearchCluster> additionalClusters = new ArrayList<>();
+        List<AutoCloseable> resources = new ArrayList<>();
+        // RestClient를 만들기 전에 실패하면 연결 풀은 어떤 자원에도 속하지 않으므로 따로 닫습니다.
+        List<AutoCloseable> connectionManagers = new ArrayList<>();
+        ElasticsearchProperties.Connection connection = props.getConnection();
+        try {
+            for (Map.Entry<String, ElasticsearchProperties.Cluster> entry : props.getClusters().entrySet()) {
+                String name = entry.getKey();
+                ElasticsearchProperties.Cluster cluster = entry.getValue();
+
+                PoolingNHttpClientConnectionManager connectionManager = connectionManager("elasticsearch-" + name + "-io-");
+                connectionManagers.add(connectionManager::shutdown);
+                ElasticsearchIdleConnectionEvictor evictor = new ElasticsearchIdleConnectionEvictor(
+                    connectionManager, connection.getIdleEvictionInterval(), connection.getMaxIdleTime()
+                );
+                evictor.afterPropertiesSet();
+                resources.add(evictor::destroy);
+
+                RestClient clusterRestClient = restClient(
+                    cluster.getHosts(),
+                    credentialsProvider(cluster.getUsername(), cluster.getPassword()),
+                    connectionManager,
+                    httpCompression,
+                    null
                 );
+                resources.add(clusterRestClient);
+                additionalClusters.add(ElasticsearchCluster.create(name, clusterRestClient, jsonCodec, props, httpCompression));
+            }
+        } catch (IOReactorException | RuntimeException e) {
+            // 빈 생성이 실패하면 destroy가 호출되지 않으므로, 이미 만든 클라이언트와 정리 스레드를 여기서 닫습니다.
+            closeQuietly(resources, e);
+            closeQuietly(connectionManagers, e);
+            throw e;
+        }
+        return new ElasticsearchClusterRegistry(defaultCluster, additionalClusters, props.getFanOut().getTimeout(), resources);
+    }
 
-                return RestClient.builder(httpHosts)
-                        .setHttpClientConfigCallback(httpClientBuilder ->
-                            httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider)
-                        )
-                        .build();
-            } else {
-                return RestClient.builder(httpHosts).build();
+    private void validateCluster(String name, ElasticsearchProperties.Cluster cluster) {
+        if (ElasticsearchClusterRegistry.isDefault(name)) {
+            throw new IllegalStateException("'" + ElasticsearchClusterRegistry.DEFAULT_CLUSTER
+                + "' is reserved for elasticsearch.search.hosts; rename elasticsearch.search.clusters." + name);
+        }
+        if (cluster.getHosts() == null || cluster.getHosts().isEmpty()) {
+            throw new IllegalStateException("elasticsearch.search.clusters." + name + ".hosts must not be empty");
+        }
+    }
+
+    private static void closeQuietly(List<AutoCloseable> resources, Exception failure) {
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            try {
+                resources.get(i).close();
+            } catch (Exception e) {
+                failure.addSuppressed(e);
             }
+        }
+    }
+
+    @Bean
+    public ElasticsearchNodeSniffer elasticsearchNodeSniffer(RestClient restClient) {
+        // 탐색한 노드도 hosts에 설정한 scheme(http/https)으로 접속합니다.
+        String scheme = HttpHost.create(props.getHosts().get(0)).getSchemeName();
+        return new ElasticsearchNodeSniffer(
+            restClient,
+            props.getSniffer(),
+            "https".equalsIgnoreCase(scheme) ? ElasticsearchNodesSniffer.Scheme.HTTPS : ElasticsearchNodesSniffer.Scheme.HTTP,
+            isSniffOnFailure() ? sniffOnFailureListener : null
+        );
+    }
+
+    private boolean isSniffOnFailure() {
+        return props.getSniffer().isEnabled() && props.getSniffer().isSniffOnFailure();
+    }
+
+    /**
+     * 클러스터마다 같은 설정으로 별도의 연결 풀을 만들며, IO 리액터 스레드 이름으로 클러스터를 구분합니다.
+     */
+    private PoolingNHttpClientConnectionManager connectionManager(String threadNamePrefix) throws IOReactorException {
+        ElasticsearchProperties.Connection connection = props.getConnection();
+
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom().setSoKeepAlive(true);
+        if (connection.getIoThreadCount() > 0) {
+            ioReactorConfig.setIoThreadCount(connection.getIoThreadCount());
+        }
+        DefaultConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(
+            ioReactorConfig.build(), new CustomizableThreadFactory(threadNamePrefix)
+        );
+
+        PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(ioReactor);
+        connectionManager.setMaxTotal(connection.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(connection.getMaxPerRoute());
+        return connectionManager;
+    }
+
+    private RestClient restClient(
+            List<String> hosts,
+            CredentialsProvider credentialsProvider,
+            PoolingNHttpClientConnectionManager connectionManager,
+            HttpCompression httpCompression,
+            RestClient.FailureListener failureListener) {
+
+        HttpHost[] httpHosts = hosts.stream()
+                .map(HttpHost::create)
+                .toArray(HttpHost[]::new);
+
+        ElasticsearchProperties.Connection connection = props.getConnection();
+
+        RestClientBuilder builder = RestClient.builder(httpHosts)
+                // 압축 사용 시 Accept-Encoding: gzip (gzip 응답은 RestClient가 해제합니다)
+                .setDefaultHeaders(httpCompression.defaultHeaders())
+                .setNodeSelector(new ElasticsearchNodeSelector(props.getNodeSelector()))
+                .setRequestConfigCallback(requestConfigBuilder -> applyTimeouts(requestConfigBuilder, connection))
+                .setHttpClientConfigCallback(httpClientBuilder -> {
+                    httpClientBuilder.setConnectionManager(connectionManager);
+                    if (connection.getKeepAlive() != null) {
+                        httpClientBuilder.setKeepAliveStrategy(keepAliveStrategy(connection.getKeepAlive()));
+                    }
+                    if (httpCompression.isEnabled()) {
+                        httpClientBuilder.addInterceptorLast(httpCompression);
+                    }
+                    // 아이디, 패스워드가 있을 때만 인증 추가
+                    if (credentialsProvider != null) {
+                        httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+                    }
+                    return httpClientBuilder;
+                });
+        if (failureListener != null) {
+            builder.setFailureListener(failureListener);
+        }
+        return builder.build();
+    }
+
+    private CredentialsProvider credentialsProvider(String username, String password) {
+        if (username == null || password == null || Objects.equals(username, EMPTY_VALUE) || Objects.equals(password, EMPTY_VALUE)) {
+            return null;
+        }
+        final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(
+            AuthScope.ANY,
+            new UsernamePasswordCredentials(username, password)
+        );
+        return credentialsProvider;
+    }
+
+    private RequestConfig.Builder applyTimeouts(RequestConfig.Builder requestConfigBuilder, ElasticsearchProperties.Connection connection) {
+        if (connection.getConnectTimeout() != null) {
+            requestConfigBuilder.setConnectTimeout(Math.toIntExact(connection.getConnectTimeout().toMillis()));
+        }
+        if (connection.getSocketTimeout() != null) {
+            requestConfigBuilder.setSocketTimeout(Math.toIntExact(connection.getSocketTimeout().toMillis()));
+        }
+        if (connection.getConnectionRequestTimeout() != null) {
+            requestConfigBuilder.setConnectionRequestTimeout(Math.toIntExact(connection.getConnectionRequestTimeout().toMillis()));
+        }
+        return requestConfigBuilder;
+    }
+
+    /**
+     * 서버가 보낸 Keep-Alive 값을 따르되, 설정된 최대 시간보다 오래 연결을 재사용하지 않습니다.
+     */
+    private ConnectionKeepAliveStrategy keepAliveStrategy(Duration maxKeepAlive) {
+        long maxKeepAliveMillis = maxKeepAlive.toMillis();
+        return (response, context) -> {
+            long serverKeepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAliveMillis < 0 ? maxKeepAliveMillis : Math.min(serverKeepAliveMillis, maxKeepAliveMillis);
+        };
     }
 
     @Bean
@@ -65,4 +302,4 @@ public class ElasticsearchClientConfig {
         return new ElasticsearchClient(elasticsearchTransport);
     }
 
-}
\ No newline at end of file
+}
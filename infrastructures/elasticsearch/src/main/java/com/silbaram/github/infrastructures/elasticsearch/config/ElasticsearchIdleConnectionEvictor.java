@@ -0,0 +1,56 @@
+package com.silbaram.github.infrastructures.elasticsearch.config;
+
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 HTTP 클라이언트의 연결 풀에서 만료되었거나 오래 유휴 상태인 연결을 주기적으로 닫습니다.
+ * HttpAsyncClient에는 동기 클라이언트의 evictIdleConnections 같은 기능이 없어 직접 정리합니다.
+ */
+public class ElasticsearchIdleConnectionEvictor implements InitializingBean, DisposableBean {
+
+    private final NHttpClientConnectionManager connectionManager;
+    private final Duration evictionInterval;
+    private final Duration maxIdleTime;
+    private ScheduledExecutorService scheduler;
+
+    public ElasticsearchIdleConnectionEvictor(NHttpClientConnectionManager connectionManager, Duration evictionInterval, Duration maxIdleTime) {
+        this.connectionManager = connectionManager;
+        this.evictionInterval = evictionInterval;
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 주기가 0이거나 설정되지 않았으면 정리 스레드를 만들지 않습니다.
+        if (evictionInterval == null || evictionInterval.isZero() || evictionInterval.isNegative()) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("elasticsearch-idle-evictor-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long intervalMillis = evictionInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::evict, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void evict() {
+        connectionManager.closeExpiredConnections();
+        if (maxIdleTime != null) {
+            connectionManager.closeIdleConnections(maxIdleTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
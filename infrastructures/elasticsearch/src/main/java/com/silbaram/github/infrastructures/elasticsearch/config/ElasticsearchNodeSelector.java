@@ -0,0 +1,78 @@
+package com.silbaram.github.infrastructures.elasticsearch.config;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * elasticsearch.search.node-selector.* 설정에 따라 요청을 보낼 노드를 고릅니다.
+ * <p>
+ * 역할과 속성은 sniffer가 찾은 노드에만 있으므로, sniffer 없이 hosts로만 지정한 노드는 역할 정보가 없어 마스터 전용으로 제외되지 않습니다.
+ * 선호 조건(코디네이팅 전용, 노드 속성)은 만족하는 노드가 하나라도 있을 때만 후보를 좁히고, 없으면 나머지 노드를 그대로 사용합니다.
+ */
+public class ElasticsearchNodeSelector implements NodeSelector {
+
+    private final boolean skipDedicatedMasters;
+    private final boolean preferCoordinatingOnly;
+    private final Map<String, String> preferAttributes;
+
+    public ElasticsearchNodeSelector(ElasticsearchProperties.NodeSelection settings) {
+        this.skipDedicatedMasters = settings.isSkipDedicatedMasters();
+        this.preferCoordinatingOnly = settings.isPreferCoordinatingOnly();
+        this.preferAttributes = settings.getPreferAttributes() == null ? Map.of() : Map.copyOf(settings.getPreferAttributes());
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        if (skipDedicatedMasters) {
+            NodeSelector.SKIP_DEDICATED_MASTERS.select(nodes);
+        }
+
+        List<Node> candidates = new ArrayList<>();
+        nodes.forEach(candidates::add);
+        if (preferCoordinatingOnly) {
+            candidates = preferred(candidates, ElasticsearchNodeSelector::isCoordinatingOnly);
+        }
+        if (!preferAttributes.isEmpty()) {
+            candidates = preferred(candidates, this::hasPreferredAttributes);
+        }
+
+        for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext(); ) {
+            if (!candidates.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static List<Node> preferred(List<Node> candidates, Predicate<Node> condition) {
+        List<Node> matching = candidates.stream().filter(condition).toList();
+        return matching.isEmpty() ? candidates : matching;
+    }
+
+    private static boolean isCoordinatingOnly(Node node) {
+        Node.Roles roles = node.getRoles();
+        return roles != null && !roles.isMasterEligible() && !roles.isData() && !roles.isIngest();
+    }
+
+    private boolean hasPreferredAttributes(Node node) {
+        Map<String, List<String>> attributes = node.getAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        return preferAttributes.entrySet().stream()
+                .allMatch(entry -> attributes.getOrDefault(entry.getKey(), List.of()).contains(entry.getValue()));
+    }
+
+    @Override
+    public String toString() {
+        return "ElasticsearchNodeSelector[skipDedicatedMasters=" + skipDedicatedMasters
+                + ", preferCoordinatingOnly=" + preferCoordinatingOnly
+                + ", preferAttributes=" + preferAttributes + "]";
+    }
+}
@@ -0,0 +1,66 @@
+package com.silbaram.github.infrastructures.elasticsearch.config;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * elasticsearch.search.sniffer.enabled일 때 _nodes/http로 살아 있는 HTTP 노드를 주기적으로 찾아 RestClient의 노드 목록을 교체합니다.
+ * sniff-on-failure를 사용하면 RestClient에 등록된 {@link SniffOnFailureListener}가 노드 실패 시 바로 갱신을 요청합니다.
+ * RestClient보다 먼저 종료되어야 하므로 RestClient에 의존하는 빈으로 등록합니다.
+ */
+public class ElasticsearchNodeSniffer implements InitializingBean, DisposableBean {
+
+    private final RestClient restClient;
+    private final ElasticsearchProperties.Sniffer settings;
+    private final ElasticsearchNodesSniffer.Scheme scheme;
+    private final SniffOnFailureListener sniffOnFailureListener;
+    private Sniffer sniffer;
+
+    /**
+     * @param restClient 노드 목록을 갱신할 RestClient
+     * @param settings 노드 탐색 설정
+     * @param scheme 탐색한 노드에 사용할 scheme (hosts 설정과 같게 맞춤)
+     * @param sniffOnFailureListener RestClient에 등록된 실패 리스너 (sniff-on-failure를 사용하지 않으면 null)
+     */
+    public ElasticsearchNodeSniffer(
+        RestClient restClient,
+        ElasticsearchProperties.Sniffer settings,
+        ElasticsearchNodesSniffer.Scheme scheme,
+        SniffOnFailureListener sniffOnFailureListener
+    ) {
+        this.restClient = restClient;
+        this.settings = settings;
+        this.scheme = scheme;
+        this.sniffOnFailureListener = sniffOnFailureListener;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        ElasticsearchNodesSniffer nodesSniffer = new ElasticsearchNodesSniffer(
+            restClient, settings.getRequestTimeout().toMillis(), scheme
+        );
+        sniffer = Sniffer.builder(restClient)
+                .setNodesSniffer(nodesSniffer)
+                .setSniffIntervalMillis(Math.toIntExact(settings.getInterval().toMillis()))
+                .setSniffAfterFailureDelayMillis(Math.toIntExact(settings.getDelayAfterFailure().toMillis()))
+                .build();
+        if (sniffOnFailureListener != null) {
+            sniffOnFailureListener.setSniffer(sniffer);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (sniffer != null) {
+            sniffer.close();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.silbaram.github.infrastructures.elasticsearch.config;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JsonCodecConfig {
+
+    @Bean
+    public JsonCodec jsonCodec(ElasticsearchProperties props) {
+        // provider 전체가 공유하는 JSON 코덱 (타입별 ObjectReader 캐시)
+        return new JsonCodec(props.getJson().isBytecodeAcceleration());
+    }
+}
@@ -0,0 +1,34 @@
+package com.silbaram.github.infrastructures.elasticsearch.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * _cat/aliases 응답의 한 행입니다. _cat API는 지정되지 않은 값을 "-"로 반환합니다.
+ *
+ * @param alias 별칭 이름
+ * @param index 별칭이 가리키는 인덱스
+ * @param filter 별칭 필터 ("*" 또는 "-")
+ * @param routingIndex 색인 라우팅 값
+ * @param routingSearch 검색 라우팅 값
+ * @param isWriteIndex 쓰기 인덱스 여부 ("true", "false" 또는 "-")
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AliasInfo(
+        String alias,
+        String index,
+        String filter,
+        @JsonAlias("routing.index") String routingIndex,
+        @JsonAlias("routing.search") String routingSearch,
+        @JsonAlias("is_write_index") String isWriteIndex
+) {
+
+    /**
+     * @return 점(.)으로 시작하는 시스템/숨김 별칭이면 true
+     */
+    @JsonIgnore
+    public boolean isSystemAlias() {
+        return alias != null && alias.startsWith(".");
+    }
+}
@@ -0,0 +1,32 @@
+package com.silbaram.github.infrastructures.elasticsearch.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * _cat/allocation 응답의 한 행(노드별 샤드 수와 디스크 사용량)입니다. 요청에 bytes=b를 지정하므로 크기는 바이트 단위 숫자로 받습니다.
+ * 할당되지 않은 샤드는 node가 "UNASSIGNED"인 행으로 반환되며, 이 행의 디스크 값은 0입니다.
+ *
+ * @param shards 노드에 할당된 샤드 수
+ * @param diskIndicesBytes 인덱스가 사용하는 디스크 크기 (바이트)
+ * @param diskUsedBytes 사용 중인 디스크 크기 (바이트)
+ * @param diskAvailBytes 남은 디스크 크기 (바이트)
+ * @param diskTotalBytes 전체 디스크 크기 (바이트)
+ * @param diskPercent 디스크 사용률 (%)
+ * @param host 노드 호스트
+ * @param ip 노드 IP
+ * @param node 노드 이름
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AllocationInfo(
+        int shards,
+        @JsonAlias("disk.indices") long diskIndicesBytes,
+        @JsonAlias("disk.used") long diskUsedBytes,
+        @JsonAlias("disk.avail") long diskAvailBytes,
+        @JsonAlias("disk.total") long diskTotalBytes,
+        @JsonAlias("disk.percent") int diskPercent,
+        String host,
+        String ip,
+        String node
+) {
+}
@@ -0,0 +1,173 @@
+package com.silbaram.github.infrastructures.elasticsearch.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장애 대응용 클러스터 요약입니다. health, stats, allocation, 인덱스 목록 결과를 한 번에 합쳐
+ * 상태, 미할당 샤드, 디스크 사용률이 높은 노드, 큰 인덱스와 red 인덱스만 남깁니다.
+ *
+ * @param clusterName 클러스터 이름
+ * @param status 클러스터 상태 (green, yellow, red)
+ * @param nodes 노드 수와 자원 사용량
+ * @param shards 샤드 상태별 개수
+ * @param indexCount 인덱스 수
+ * @param docCount 문서 수
+ * @param diskHotspots 디스크 사용률이 기준 이상인 노드 (사용률 높은 순)
+ * @param largestIndices 저장 크기가 큰 인덱스 (큰 순)
+ * @param redIndices red 상태인 인덱스 이름
+ * @param snapshotAgeMs health/stats/allocation을 백그라운드 스냅샷에서 가져온 경우 스냅샷 나이 (밀리초), 아니면 null
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterOverview(
+        @JsonProperty("cluster_name") String clusterName,
+        String status,
+        Nodes nodes,
+        Shards shards,
+        @JsonProperty("index_count") long indexCount,
+        @JsonProperty("doc_count") long docCount,
+        @JsonProperty("disk_hotspots") List<DiskHotspot> diskHotspots,
+        @JsonProperty("largest_indices") List<IndexInfo> largestIndices,
+        @JsonProperty("red_indices") List<String> redIndices,
+        @JsonProperty("snapshot_age_ms") Long snapshotAgeMs
+) {
+
+    /** _cat/allocation에서 할당되지 않은 샤드를 나타내는 노드 이름 */
+    private static final String UNASSIGNED_NODE = "UNASSIGNED";
+
+    /**
+     * @param total 전체 노드 수
+     * @param data 데이터 노드 수
+     * @param heapUsedPercent JVM 힙 사용률 (%)
+     * @param memUsedPercent OS 메모리 사용률 (%)
+     */
+    public record Nodes(
+            int total,
+            int data,
+            @JsonProperty("heap_used_percent") double heapUsedPercent,
+            @JsonProperty("mem_used_percent") int memUsedPercent
+    ) {
+    }
+
+    /**
+     * @param active 활성 샤드 수
+     * @param unassigned 미할당 샤드 수
+     * @param initializing 초기화 중인 샤드 수
+     * @param relocating 이동 중인 샤드 수
+     * @param activePercent 활성 샤드 비율 (%)
+     * @param pendingTasks 대기 중인 클러스터 작업 수
+     */
+    public record Shards(
+            int active,
+            int unassigned,
+            int initializing,
+            int relocating,
+            @JsonProperty("active_percent") double activePercent,
+            @JsonProperty("pending_tasks") int pendingTasks
+    ) {
+    }
+
+    /**
+     * @param node 노드 이름
+     * @param diskPercent 디스크 사용률 (%)
+     * @param diskAvailBytes 남은 디스크 크기 (바이트)
+     * @param shards 노드에 할당된 샤드 수
+     */
+    public record DiskHotspot(
+            String node,
+            @JsonProperty("disk_percent") int diskPercent,
+            @JsonProperty("disk_avail_bytes") long diskAvailBytes,
+            int shards
+    ) {
+    }
+
+    /**
+     * 조회 결과를 합쳐 요약을 만듭니다.
+     *
+     * @param health {@code ElasticsearchHealthProvider}가 반환한 cat 형식의 health 값 (cluster, node.total, unassign 등)
+     * @param statistics _cluster/stats 결과
+     * @param allocation _cat/allocation 결과
+     * @param largestIndices 저장 크기 순으로 정렬해 조회한 인덱스
+     * @param redIndices red 상태로 필터링해 조회한 인덱스
+     * @param diskWatermarkPercent 이 사용률(%) 이상인 노드를 디스크 hotspot으로 표시
+     * @param limit hotspot, 인덱스 목록 각각의 최대 개수
+     * @param snapshotAgeMs 스냅샷에서 가져온 경우 스냅샷 나이, 아니면 null
+     */
+    public static ClusterOverview summarize(
+            Map<String, String> health,
+            ClusterStatistics statistics,
+            List<AllocationInfo> allocation,
+            List<IndexInfo> largestIndices,
+            List<IndexInfo> redIndices,
+            int diskWatermarkPercent,
+            int limit,
+            Long snapshotAgeMs) {
+        List<DiskHotspot> diskHotspots = allocation.stream()
+                .filter(row -> !UNASSIGNED_NODE.equals(row.node()) && row.diskPercent() >= diskWatermarkPercent)
+                .sorted(Comparator.comparingInt(AllocationInfo::diskPercent).reversed())
+                .limit(limit)
+                .map(row -> new DiskHotspot(row.node(), row.diskPercent(), row.diskAvailBytes(), row.shards()))
+                .toList();
+
+        return new ClusterOverview(
+                textValue(health, "cluster", statistics.cluster().name()),
+                textValue(health, "status", statistics.cluster().status()),
+                new Nodes(
+                        intValue(health, "node.total", statistics.nodes().total()),
+                        intValue(health, "node.data", statistics.nodes().data()),
+                        statistics.nodes().heapUsedPercent(),
+                        statistics.nodes().memUsedPercent()),
+                new Shards(
+                        intValue(health, "shards", statistics.indices().shards().total()),
+                        intValue(health, "unassign", 0),
+                        intValue(health, "init", 0),
+                        intValue(health, "relo", 0),
+                        percentValue(health, "active_shards_percent"),
+                        intValue(health, "pending_tasks", 0)),
+                statistics.indices().count(),
+                statistics.indices().docs().count(),
+                diskHotspots,
+                largestIndices.stream().limit(limit).toList(),
+                redIndices.stream().limit(limit).map(IndexInfo::index).toList(),
+                snapshotAgeMs
+        );
+    }
+
+    // health 값이 없으면 "-"로 채워지므로 기본값을 사용합니다.
+    private static String textValue(Map<String, String> health, String key, String defaultValue) {
+        String value = health.get(key);
+        return value == null || "-".equals(value) ? defaultValue : value;
+    }
+
+    private static int intValue(Map<String, String> health, String key, int defaultValue) {
+        String value = health.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    // active_shards_percent는 "90.0%"처럼 % 기호가 붙어 있습니다.
+    private static double percentValue(Map<String, String> health, String key) {
+        String value = health.get(key);
+        if (value == null) {
+            return 0.0;
+        }
+        if (value.endsWith("%")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.silbaram.github.infrastructures.elasticsearch.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * _cluster/stats 응답에서 추린 클러스터 요약 통계입니다.
+ *
+ * @param cluster 클러스터 식별 정보
+ * @param nodes 노드 수와 자원 사용량
+ * @param indices 인덱스, 샤드, 문서 수
+ */
+public record ClusterStatistics(Cluster cluster, Nodes nodes, Indices indices) {
+
+    /**
+     * @param name 클러스터 이름
+     * @param uuid 클러스터 UUID
+     * @param status 클러스터 상태 (green, yellow, red)
+     * @param timestamp 통계 수집 시각 (epoch millis)
+     */
+    public record Cluster(String name, String uuid, String status, long timestamp) {
+    }
+
+    /**
+     * @param total 전체 노드 수
+     * @param data 데이터 노드 수
+     * @param master 마스터 후보 노드 수
+     * @param ingest 인제스트 노드 수
+     * @param memUsedPercent OS 메모리 사용률 (%)
+     * @param processors 사용 가능한 프로세서 수
+     * @param heapUsedBytes 전체 노드의 JVM 힙 사용량 (바이트)
+     * @param heapMaxBytes 전체 노드의 JVM 힙 최대 크기 (바이트)
+     * @param heapUsedPercent JVM 힙 사용률 (%)
+     */
+    public record Nodes(
+            int total,
+            int data,
+            int master,
+            int ingest,
+            @JsonProperty("mem_used_percent") int memUsedPercent,
+            int processors,
+            @JsonProperty("heap_used_bytes") long heapUsedBytes,
+            @JsonProperty("heap_max_bytes") long heapMaxBytes,
+            @JsonProperty("heap_used_percent") double heapUsedPercent
+    ) {
+    }
+
+    /**
+     * @param count 인덱스 수
+     * @param shards 샤드 수
+     * @param docs 문서 수
+     */
+    public record Indices(long count, Shards shards, Docs docs) {
+    }
+
+    /**
+     * @param total 전체 샤드 수
+     * @param primaries 주 샤드 수
+     * @param replication 주 샤드 대비 복제본 비율
+     */
+    public record Shards(int total, int primaries, double replication) {
+    }
+
+    /**
+     * @param count 문서 수
+     * @param deleted 삭제된 문서 수
+     */
+    public record Docs(long count, long deleted) {
+    }
+}
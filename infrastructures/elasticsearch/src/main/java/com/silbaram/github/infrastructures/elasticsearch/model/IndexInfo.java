@@ -0,0 +1,28 @@
+package com.silbaram.github.infrastructures.elasticsearch.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * _cat/indices 응답의 한 행입니다. 요청에 bytes=b를 지정하므로 크기는 바이트 단위 숫자로 받습니다.
+ * 닫힌 인덱스처럼 값이 없는 숫자 필드는 0입니다.
+ *
+ * @param index 인덱스 이름
+ * @param health 인덱스 상태 (green, yellow, red)
+ * @param status 열림 상태 (open, close)
+ * @param docsCount 문서 수
+ * @param docsDeleted 삭제된 문서 수
+ * @param priStoreSizeBytes 주 샤드 저장 크기 (바이트)
+ * @param storeSizeBytes 전체 저장 크기 (바이트)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record IndexInfo(
+        String index,
+        String health,
+        String status,
+        @JsonAlias("docs.count") long docsCount,
+        @JsonAlias("docs.deleted") long docsDeleted,
+        @JsonAlias("pri.store.size") long priStoreSizeBytes,
+        @JsonAlias("store.size") long storeSizeBytes
+) {
+}
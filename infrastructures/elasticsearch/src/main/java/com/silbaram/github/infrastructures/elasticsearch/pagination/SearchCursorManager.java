@@ -0,0 +1,289 @@
+package com.silbaram.github.infrastructures.elasticsearch.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchPointInTimeProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PIT + search_after 기반 페이지 검색의 커서를 관리합니다.
+ * <p>
+ * 커서는 외부에 임의의 토큰으로만 노출되며, 내부적으로 PIT id, 쿼리, 마지막 sort 값을 보관합니다.
+ * 마지막 페이지를 반환했거나 idle-timeout 동안 사용되지 않은 커서는 PIT와 함께 닫힙니다.
+ * 페이지 조회 중 오류가 나면 커서를 정리하고 오류를 그대로 전달합니다.
+ */
+@Component
+public class SearchCursorManager implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchCursorManager.class);
+
+    private final ElasticsearchPointInTimeProvider pointInTimeProvider;
+    private final JsonCodec jsonCodec;
+    private final ElasticsearchProperties.Pagination settings;
+    private final Map<String, SearchCursor> cursors = new ConcurrentHashMap<>();
+    // 열린 커서와 PIT를 여는 중인 요청 수. PIT를 열기 전에 자리를 예약해 동시 요청도 max-open-cursors를 넘지 않게 합니다.
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private ScheduledExecutorService reaper;
+
+    public SearchCursorManager(ElasticsearchPointInTimeProvider pointInTimeProvider, JsonCodec jsonCodec, ElasticsearchProperties props) {
+        this.pointInTimeProvider = pointInTimeProvider;
+        this.jsonCodec = jsonCodec;
+        this.settings = props.getPagination();
+    }
+
+    /**
+     * PIT를 열고 첫 페이지를 조회합니다.
+     * @param index 대상 인덱스명 또는 패턴
+     * @param queryBody 검색에 사용될 JSON 쿼리 문자열
+     * @param pageSize 페이지 크기 (null이면 elasticsearch.search.pagination.page-size)
+     * @return 첫 페이지 JSON 문자열 (다음 페이지가 있으면 cursor 포함)
+     */
+    public Mono<String> open(String index, String queryBody, Integer pageSize) {
+        return Mono.defer(() -> {
+            ObjectNode query;
+            try {
+                query = jsonCodec.readQuery(queryBody);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            if (!reserveSlot()) {
+                return Mono.error(new IllegalStateException("Too many open search cursors; close unused cursors and retry"));
+            }
+            int size = pageSize != null && pageSize > 0 ? pageSize : settings.getPageSize();
+            // 커서로 등록되면 예약한 자리는 discard가 반환하고, 등록 전에 끝나면(실패, 취소) 여기서 반환합니다.
+            AtomicBoolean registered = new AtomicBoolean();
+            return pointInTimeProvider.openPointInTimeAsync(index, keepAlive())
+                    .flatMap(pointInTimeId -> {
+                        SearchCursor cursor = new SearchCursor(UUID.randomUUID().toString(), pointInTimeId, query, size);
+                        cursor.acquire();
+                        cursors.put(cursor.id, cursor);
+                        registered.set(true);
+                        return fetchPage(cursor);
+                    })
+                    .doFinally(signal -> {
+                        if (!registered.get()) {
+                            reservedSlots.decrementAndGet();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 커서의 다음 페이지를 조회합니다.
+     * @param cursorId open 또는 이전 next 호출이 반환한 cursor 값
+     * @return 다음 페이지 JSON 문자열
+     */
+    public Mono<String> next(String cursorId) {
+        return Mono.defer(() -> {
+            SearchCursor cursor = cursorId == null ? null : cursors.get(cursorId);
+            if (cursor == null) {
+                return Mono.error(new IllegalArgumentException("Unknown or expired search cursor: " + cursorId));
+            }
+            if (!cursor.acquire()) {
+                return Mono.error(new IllegalStateException("Search cursor is already fetching a page: " + cursorId));
+            }
+            return fetchPage(cursor);
+        });
+    }
+
+    /**
+     * 커서와 PIT를 닫습니다.
+     * @param cursorId 닫을 커서
+     * @return 커서가 존재해 닫혔는지 여부
+     */
+    public Mono<Boolean> close(String cursorId) {
+        return Mono.defer(() -> {
+            SearchCursor cursor = cursorId == null ? null : cursors.get(cursorId);
+            if (cursor == null) {
+                return Mono.just(false);
+            }
+            return discard(cursor).thenReturn(true);
+        });
+    }
+
+    /**
+     * @return 현재 열려 있는 커서 수
+     */
+    public int openCursorCount() {
+        return cursors.size();
+    }
+
+    /**
+     * idle-timeout보다 오래 사용되지 않은 커서를 닫습니다.
+     */
+    void reapIdleCursors() {
+        long idleTimeoutNanos = settings.getIdleTimeout().toNanos();
+        long now = System.nanoTime();
+        for (SearchCursor cursor : List.copyOf(cursors.values())) {
+            if (!cursor.busy.get() && now - cursor.lastAccessNanos > idleTimeoutNanos) {
+                logger.debug("Closing idle search cursor {}", cursor.id);
+                discard(cursor).subscribe();
+            }
+        }
+    }
+
+    private Mono<String> fetchPage(SearchCursor cursor) {
+        return pointInTimeProvider.searchPageAsync(cursor.pointInTimeId, keepAlive(), cursor.query, cursor.pageSize, cursor.searchAfter)
+                .flatMap(response -> {
+                    ArrayNode hits = readPage(cursor, response);
+                    boolean exhausted = hits.size() < cursor.pageSize;
+                    String page;
+                    try {
+                        page = writePage(cursor, response, hits, exhausted);
+                    } catch (IOException e) {
+                        return Mono.error(e);
+                    }
+                    return exhausted ? discard(cursor).thenReturn(page) : Mono.just(page);
+                })
+                .onErrorResume(e -> discard(cursor).then(Mono.error(e)))
+                .doFinally(signal -> cursor.release());
+    }
+
+    private ArrayNode readPage(SearchCursor cursor, JsonNode response) {
+        // PIT id는 요청마다 바뀔 수 있으므로 응답의 최신 값을 사용합니다.
+        JsonNode pointInTimeId = response.get("pit_id");
+        if (pointInTimeId != null && pointInTimeId.isTextual()) {
+            cursor.pointInTimeId = pointInTimeId.asText();
+        }
+
+        ArrayNode hits = jsonCodec.objectMapper().createArrayNode();
+        JsonNode lastSort = null;
+        for (JsonNode hit : response.path("hits").path("hits")) {
+            ObjectNode slim = hits.addObject();
+            slim.set("_index", hit.get("_index"));
+            slim.set("_id", hit.get("_id"));
+            slim.set("_source", hit.get("_source"));
+            lastSort = hit.get("sort");
+        }
+        if (lastSort != null) {
+            cursor.searchAfter = lastSort;
+        }
+        cursor.pages++;
+        return hits;
+    }
+
+    private String writePage(SearchCursor cursor, JsonNode response, ArrayNode hits, boolean exhausted) throws IOException {
+        ObjectNode page = jsonCodec.objectMapper().createObjectNode();
+        if (exhausted) {
+            page.putNull("cursor");
+        } else {
+            page.put("cursor", cursor.id);
+        }
+        page.put("exhausted", exhausted);
+        page.put("page", cursor.pages);
+        page.set("took", response.get("took"));
+        page.set("total", response.path("hits").get("total"));
+        page.put("returned_hits", hits.size());
+        page.set("hits", hits);
+        return jsonCodec.objectMapper().writeValueAsString(page);
+    }
+
+    private boolean reserveSlot() {
+        int maxOpenCursors = settings.getMaxOpenCursors();
+        while (true) {
+            int reserved = reservedSlots.get();
+            if (reserved >= maxOpenCursors) {
+                return false;
+            }
+            if (reservedSlots.compareAndSet(reserved, reserved + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private Mono<Void> discard(SearchCursor cursor) {
+        if (!cursors.remove(cursor.id, cursor)) {
+            return Mono.empty();
+        }
+        reservedSlots.decrementAndGet();
+        return pointInTimeProvider.closePointInTimeAsync(cursor.pointInTimeId)
+                .doOnError(e -> logger.warn("Failed to close point-in-time for cursor {}: {}", cursor.id, e.getMessage()))
+                .onErrorResume(e -> Mono.just(false))
+                .then();
+    }
+
+    private String keepAlive() {
+        return Math.max(1L, settings.getKeepAlive().toSeconds()) + "s";
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Duration idleTimeout = settings.getIdleTimeout();
+        if (idleTimeout == null || idleTimeout.isZero() || idleTimeout.isNegative()) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("elasticsearch-cursor-reaper-");
+        threadFactory.setDaemon(true);
+        reaper = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long periodMillis = Math.max(1000L, idleTimeout.toMillis() / 2);
+        reaper.scheduleWithFixedDelay(this::reapIdleCursors, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+        // 종료 시 남은 PIT를 정리해 클러스터 리소스가 keep_alive까지 남지 않도록 합니다.
+        try {
+            Flux.fromIterable(List.copyOf(cursors.values()))
+                    .flatMap(this::discard)
+                    .blockLast(Duration.ofSeconds(5));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to close open search cursors on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private static final class SearchCursor {
+        private final String id;
+        private final ObjectNode query;
+        private final int pageSize;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile String pointInTimeId;
+        private volatile JsonNode searchAfter;
+        private volatile long lastAccessNanos = System.nanoTime();
+        private volatile int pages;
+
+        private SearchCursor(String id, String pointInTimeId, ObjectNode query, int pageSize) {
+            this.id = id;
+            this.pointInTimeId = pointInTimeId;
+            this.query = query;
+            this.pageSize = pageSize;
+        }
+
+        private boolean acquire() {
+            if (!busy.compareAndSet(false, true)) {
+                return false;
+            }
+            lastAccessNanos = System.nanoTime();
+            return true;
+        }
+
+        private void release() {
+            lastAccessNanos = System.nanoTime();
+            busy.set(false);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.silbaram.github.infrastructures.elasticsearch.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @ConfigurationProperties(prefix = "elasticsearch.search")
 public class ElasticsearchProperties {
@@ -10,6 +14,34 @@ public class ElasticsearchProperties {
     private List<String> hosts;
     private String username;
     private String password;
+    /** HTTP 연결 풀, IO 리액터, 타임아웃 설정 (elasticsearch.search.connection.*) */
+    private Connection connection = new Connection();
+    /** JSON 역직렬화 설정 (elasticsearch.search.json.*) */
+    private Json json = new Json();
+    /** 스트리밍 검색 결과 예산 설정 (elasticsearch.search.streaming.*) */
+    private Streaming streaming = new Streaming();
+    /** 매핑 캐시 설정 (elasticsearch.search.mapping-cache.*) */
+    private MappingCache mappingCache = new MappingCache();
+    /** 클러스터 스냅샷 폴링 설정 (elasticsearch.search.snapshot.*) */
+    private Snapshot snapshot = new Snapshot();
+    /** PIT 기반 페이지 검색 설정 (elasticsearch.search.pagination.*) */
+    private Pagination pagination = new Pagination();
+    /** _msearch 배치 검색 설정 (elasticsearch.search.multi-search.*) */
+    private MultiSearch multiSearch = new MultiSearch();
+    /** HTTP 본문 압축 설정 (elasticsearch.search.compression.*) */
+    private Compression compression = new Compression();
+    /** 노드 탐색 설정 (elasticsearch.search.sniffer.*) */
+    private Sniffer sniffer = new Sniffer();
+    /** 요청을 보낼 노드 선택 설정 (elasticsearch.search.node-selector.*) */
+    private NodeSelection nodeSelector = new NodeSelection();
+    /** 검색 결과 캐시 설정 (elasticsearch.search.search-cache.*) */
+    private SearchCache searchCache = new SearchCache();
+    /** _async_search 설정 (elasticsearch.search.async-search.*) */
+    private AsyncSearch asyncSearch = new AsyncSearch();
+    /** 기본 클러스터 외에 추가로 조회할 이름 붙은 클러스터 (elasticsearch.search.clusters.<이름>.*) */
+    private Map<String, Cluster> clusters = new LinkedHashMap<>();
+    /** 여러 클러스터 동시 조회 설정 (elasticsearch.search.fan-out.*) */
+    private FanOut fanOut = new FanOut();
 
     public List<String> getHosts() {
         return hosts;
@@ -31,4 +63,550 @@ public class ElasticsearchProperties {
     public void setPassword(String password) {
         this.password = password;
     }
+
+    public Connection getConnection() {
+        return connection;
+    }
+    public void setConnection(Connection connection) {
+        this.connection = connection;
+    }
+
+    public Json getJson() {
+        return json;
+    }
+    public void setJson(Json json) {
+        this.json = json;
+    }
+
+    public static class Connection {
+        /** 전체 최대 연결 수 */
+        private int maxTotal = 30;
+        /** 노드(route)별 최대 연결 수 */
+        private int maxPerRoute = 10;
+        /** IO 리액터 스레드 수 (0이면 라이브러리 기본값: 가용 프로세서 수) */
+        private int ioThreadCount = 0;
+        /** 연결 수립 타임아웃 */
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        /** 응답 대기(소켓) 타임아웃 */
+        private Duration socketTimeout = Duration.ofSeconds(30);
+        /** 풀에서 연결을 빌릴 때의 최대 대기 시간 (미설정 시 라이브러리 기본값) */
+        private Duration connectionRequestTimeout;
+        /** 유휴 연결을 재사용할 최대 시간 (미설정 시 서버의 Keep-Alive 헤더를 따름) */
+        private Duration keepAlive;
+        /** 유휴/만료 연결 정리 주기 (0이면 정리하지 않음) */
+        private Duration idleEvictionInterval = Duration.ofSeconds(30);
+        /** 이 시간보다 오래 유휴 상태인 연결은 정리 대상 */
+        private Duration maxIdleTime = Duration.ofSeconds(60);
+
+        public int getMaxTotal() {
+            return maxTotal;
+        }
+        public void setMaxTotal(int maxTotal) {
+            this.maxTotal = maxTotal;
+        }
+
+        public int getMaxPerRoute() {
+            return maxPerRoute;
+        }
+        public void setMaxPerRoute(int maxPerRoute) {
+            this.maxPerRoute = maxPerRoute;
+        }
+
+        public int getIoThreadCount() {
+            return ioThreadCount;
+        }
+        public void setIoThreadCount(int ioThreadCount) {
+            this.ioThreadCount = ioThreadCount;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getSocketTimeout() {
+            return socketTimeout;
+        }
+        public void setSocketTimeout(Duration socketTimeout) {
+            this.socketTimeout = socketTimeout;
+        }
+
+        public Duration getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public Duration getIdleEvictionInterval() {
+            return idleEvictionInterval;
+        }
+        public void setIdleEvictionInterval(Duration idleEvictionInterval) {
+            this.idleEvictionInterval = idleEvictionInterval;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+    }
+
+    public static class Json {
+        /** true이면 Blackbird 모듈로 바이트코드 기반 역직렬화 가속을 사용 */
+        private boolean bytecodeAcceleration = false;
+
+        public boolean isBytecodeAcceleration() {
+            return bytecodeAcceleration;
+        }
+        public void setBytecodeAcceleration(boolean bytecodeAcceleration) {
+            this.bytecodeAcceleration = bytecodeAcceleration;
+        }
+    }
+
+    public Streaming getStreaming() {
+        return streaming;
+    }
+    public void setStreaming(Streaming streaming) {
+        this.streaming = streaming;
+    }
+
+    public static class Streaming {
+        /** 스트리밍 검색 결과에 포함할 최대 히트 수 */
+        private int maxHits = 100;
+        /** 스트리밍 검색 결과의 히트와 aggregations에 사용할 최대 크기 */
+        private DataSize maxBytes = DataSize.ofKilobytes(256);
+
+        public int getMaxHits() {
+            return maxHits;
+        }
+        public void setMaxHits(int maxHits) {
+            this.maxHits = maxHits;
+        }
+
+        public DataSize getMaxBytes() {
+            return maxBytes;
+        }
+        public void setMaxBytes(DataSize maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+    }
+
+    public MappingCache getMappingCache() {
+        return mappingCache;
+    }
+    public void setMappingCache(MappingCache mappingCache) {
+        this.mappingCache = mappingCache;
+    }
+
+    public static class MappingCache {
+        /** 매핑 캐시 사용 여부 */
+        private boolean enabled = true;
+        /** 캐시에 보관할 매핑 JSON이 차지하는 최대 메모리 (문자당 2바이트로 계산) */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+        /** 이 시간 안에 다시 조회하면 mapping_version 확인 없이 캐시 값을 그대로 반환 */
+        private Duration revalidateInterval = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getRevalidateInterval() {
+            return revalidateInterval;
+        }
+        public void setRevalidateInterval(Duration revalidateInterval) {
+            this.revalidateInterval = revalidateInterval;
+        }
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+    public void setSnapshot(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public static class Snapshot {
+        /** 백그라운드 폴링 사용 여부 */
+        private boolean enabled = false;
+        /** _cluster/health, _cluster/stats, _cat/allocation 갱신 주기 */
+        private Duration interval = Duration.ofSeconds(10);
+        /** 이 시간보다 오래된 스냅샷은 사용하지 않고 클러스터에 직접 조회 */
+        private Duration maxAge = Duration.ofSeconds(60);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+    }
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+    public void setPagination(Pagination pagination) {
+        this.pagination = pagination;
+    }
+
+    public static class Pagination {
+        /** 요청마다 연장되는 PIT keep_alive 값 */
+        private Duration keepAlive = Duration.ofMinutes(1);
+        /** 이 시간 동안 다음 페이지 요청이 없으면 커서와 PIT를 닫음 */
+        private Duration idleTimeout = Duration.ofMinutes(1);
+        /** 페이지 크기 기본값 */
+        private int pageSize = 100;
+        /** 동시에 열어 둘 수 있는 최대 커서 수 */
+        private int maxOpenCursors = 64;
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getMaxOpenCursors() {
+            return maxOpenCursors;
+        }
+        public void setMaxOpenCursors(int maxOpenCursors) {
+            this.maxOpenCursors = maxOpenCursors;
+        }
+    }
+
+    public MultiSearch getMultiSearch() {
+        return multiSearch;
+    }
+    public void setMultiSearch(MultiSearch multiSearch) {
+        this.multiSearch = multiSearch;
+    }
+
+    public static class MultiSearch {
+        /** 클러스터가 동시에 실행할 최대 검색 수 (0이면 Elasticsearch 기본값) */
+        private int maxConcurrentSearches = 0;
+        /** 한 번의 요청에 담을 수 있는 최대 쿼리 수 */
+        private int maxQueries = 50;
+
+        public int getMaxConcurrentSearches() {
+            return maxConcurrentSearches;
+        }
+        public void setMaxConcurrentSearches(int maxConcurrentSearches) {
+            this.maxConcurrentSearches = maxConcurrentSearches;
+        }
+
+        public int getMaxQueries() {
+            return maxQueries;
+        }
+        public void setMaxQueries(int maxQueries) {
+            this.maxQueries = maxQueries;
+        }
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+
+    public static class Compression {
+        /** true이면 응답을 gzip으로 받고, 기준 크기 이상의 요청 본문을 gzip으로 압축 */
+        private boolean enabled = false;
+        /** 이 크기 이상인 요청 본문만 압축 */
+        private DataSize requestThreshold = DataSize.ofKilobytes(4);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getRequestThreshold() {
+            return requestThreshold;
+        }
+        public void setRequestThreshold(DataSize requestThreshold) {
+            this.requestThreshold = requestThreshold;
+        }
+    }
+
+    public Sniffer getSniffer() {
+        return sniffer;
+    }
+    public void setSniffer(Sniffer sniffer) {
+        this.sniffer = sniffer;
+    }
+
+    public static class Sniffer {
+        /** true이면 _nodes/http로 살아 있는 HTTP 노드를 주기적으로 찾아 hosts 목록을 교체 */
+        private boolean enabled = false;
+        /** 노드 목록 갱신 주기 */
+        private Duration interval = Duration.ofMinutes(5);
+        /** true이면 노드 요청이 실패했을 때 바로 노드 목록을 다시 갱신 */
+        private boolean sniffOnFailure = true;
+        /** 실패로 갱신한 뒤 다음 갱신까지의 간격 */
+        private Duration delayAfterFailure = Duration.ofMinutes(1);
+        /** _nodes/http 요청 타임아웃 */
+        private Duration requestTimeout = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public boolean isSniffOnFailure() {
+            return sniffOnFailure;
+        }
+        public void setSniffOnFailure(boolean sniffOnFailure) {
+            this.sniffOnFailure = sniffOnFailure;
+        }
+
+        public Duration getDelayAfterFailure() {
+            return delayAfterFailure;
+        }
+        public void setDelayAfterFailure(Duration delayAfterFailure) {
+            this.delayAfterFailure = delayAfterFailure;
+        }
+
+        public Duration getRequestTimeout() {
+            return requestTimeout;
+        }
+        public void setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+        }
+    }
+
+    public NodeSelection getNodeSelector() {
+        return nodeSelector;
+    }
+    public void setNodeSelector(NodeSelection nodeSelector) {
+        this.nodeSelector = nodeSelector;
+    }
+
+    public static class NodeSelection {
+        /** true이면 마스터 전용 노드로는 요청을 보내지 않음 */
+        private boolean skipDedicatedMasters = true;
+        /** true이면 코디네이팅 전용 노드가 있을 때 그 노드들로만 요청 */
+        private boolean preferCoordinatingOnly = false;
+        /** 이 노드 속성(예: zone: us-east-1a)을 모두 가진 노드가 있을 때 그 노드들로만 요청 */
+        private Map<String, String> preferAttributes = new LinkedHashMap<>();
+
+        public boolean isSkipDedicatedMasters() {
+            return skipDedicatedMasters;
+        }
+        public void setSkipDedicatedMasters(boolean skipDedicatedMasters) {
+            this.skipDedicatedMasters = skipDedicatedMasters;
+        }
+
+        public boolean isPreferCoordinatingOnly() {
+            return preferCoordinatingOnly;
+        }
+        public void setPreferCoordinatingOnly(boolean preferCoordinatingOnly) {
+            this.preferCoordinatingOnly = preferCoordinatingOnly;
+        }
+
+        public Map<String, String> getPreferAttributes() {
+            return preferAttributes;
+        }
+        public void setPreferAttributes(Map<String, String> preferAttributes) {
+            this.preferAttributes = preferAttributes;
+        }
+    }
+
+    public SearchCache getSearchCache() {
+        return searchCache;
+    }
+    public void setSearchCache(SearchCache searchCache) {
+        this.searchCache = searchCache;
+    }
+
+    public static class SearchCache {
+        /** true이면 get_document_search_by_index 결과를 인덱스와 정규화한 쿼리 기준으로 캐시 */
+        private boolean enabled = false;
+        /** 캐시에 보관할 검색 결과 JSON이 차지하는 최대 메모리 (문자당 2바이트로 계산) */
+        private DataSize maxSize = DataSize.ofMegabytes(32);
+        /** 변경 여부와 관계없이 결과를 보관하는 최대 시간 (now 등 상대 시간 쿼리의 상한) */
+        private Duration ttl = Duration.ofMinutes(1);
+        /** 이 시간 안의 재조회는 인덱스 변경 카운터 확인 없이 캐시에서 응답 */
+        private Duration revalidateInterval = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getRevalidateInterval() {
+            return revalidateInterval;
+        }
+        public void setRevalidateInterval(Duration revalidateInterval) {
+            this.revalidateInterval = revalidateInterval;
+        }
+    }
+
+    public AsyncSearch getAsyncSearch() {
+        return asyncSearch;
+    }
+    public void setAsyncSearch(AsyncSearch asyncSearch) {
+        this.asyncSearch = asyncSearch;
+    }
+
+    public static class AsyncSearch {
+        /** 제출 시 결과를 기다리는 기본 시간. 이 안에 끝나지 않으면 부분 결과와 id를 반환 */
+        private Duration waitForCompletionTimeout = Duration.ofSeconds(2);
+        /** 요청으로 지정할 수 있는 최대 대기 시간 (도구 호출 타임아웃보다 짧게 설정) */
+        private Duration maxWaitForCompletionTimeout = Duration.ofSeconds(20);
+        /** 조회가 없을 때 클러스터가 결과를 보관하는 시간 (조회할 때마다 연장) */
+        private Duration keepAlive = Duration.ofMinutes(5);
+
+        public Duration getWaitForCompletionTimeout() {
+            return waitForCompletionTimeout;
+        }
+        public void setWaitForCompletionTimeout(Duration waitForCompletionTimeout) {
+            this.waitForCompletionTimeout = waitForCompletionTimeout;
+        }
+
+        public Duration getMaxWaitForCompletionTimeout() {
+            return maxWaitForCompletionTimeout;
+        }
+        public void setMaxWaitForCompletionTimeout(Duration maxWaitForCompletionTimeout) {
+            this.maxWaitForCompletionTimeout = maxWaitForCompletionTimeout;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    public Map<String, Cluster> getClusters() {
+        return clusters;
+    }
+    public void setClusters(Map<String, Cluster> clusters) {
+        this.clusters = clusters;
+    }
+
+    public FanOut getFanOut() {
+        return fanOut;
+    }
+    public void setFanOut(FanOut fanOut) {
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * 추가 클러스터 정의입니다. 클러스터마다 별도의 연결 풀과 RestClient를 만들며,
+     * 연결 풀/타임아웃/압축/노드 선택 설정은 기본 클러스터 설정을 그대로 사용합니다.
+     */
+    public static class Cluster {
+        private List<String> hosts;
+        private String username;
+        private String password;
+
+        public List<String> getHosts() {
+            return hosts;
+        }
+        public void setHosts(List<String> hosts) {
+            this.hosts = hosts;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+
+    public static class FanOut {
+        /** 클러스터별 응답 대기 시간. 넘기면 해당 클러스터만 timeout으로 표시하고 나머지 결과를 반환 */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
 }
@@ -1,80 +1,147 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silbaram.github.infrastructures.elasticsearch.model.AliasInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTable;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTableReader;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Component
 public class ElasticsearchAliasesProvider {
 
+    // 컬럼형 결과의 열 (AliasInfo와 같은 이름 사용, alias가 첫 번째 열)
+    private static final List<CatTableReader.Column> CAT_ALIASES_COLUMNS = List.of(
+            new CatTableReader.Column("alias", "alias"),
+            new CatTableReader.Column("index", "index"),
+            new CatTableReader.Column("filter", "filter"),
+            new CatTableReader.Column("routing.index", "routingIndex"),
+            new CatTableReader.Column("routing.search", "routingSearch"),
+            new CatTableReader.Column("is_write_index", "isWriteIndex")
+    );
+
+    private static final String CAT_ALIASES_HEADERS = "alias,index,filter,routing.index,routing.search,is_write_index";
+
     private final RestClient restClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
 
-    public ElasticsearchAliasesProvider(RestClient restClient) {
+    public ElasticsearchAliasesProvider(RestClient restClient, JsonCodec jsonCodec) {
         this.restClient = restClient;
-        this.objectMapper = new ObjectMapper();
+        this.jsonCodec = jsonCodec;
     }
 
     /**
      * Elasticsearch: /_cat/aliases API
      * 모든 별칭 정보를 조회하며, '.'으로 시작하는 시스템 별칭은 제외합니다.
      */
-    public List<Map<String, Object>> getCatAliases() throws IOException {
-        Request request = new Request("GET", "/_cat/aliases?format=json");
-        Response response = restClient.performRequest(request);
-        try (InputStream inputStream = response.getEntity().getContent()) {
-            List<Map<String, Object>> rawAliases = objectMapper.readValue(inputStream, new TypeReference<List<Map<String, Object>>>() {});
-            return processAliases(rawAliases);
-        }
+    public List<AliasInfo> getCatAliases() throws IOException {
+        return listAliases(null, CatListOptions.NONE);
+    }
+
+    /**
+     * {@link #getCatAliases()}의 비동기 버전입니다.
+     */
+    public Mono<List<AliasInfo>> getCatAliasesAsync() {
+        return listAliasesAsync(null, CatListOptions.NONE);
     }
 
     /**
      * Elasticsearch: /_cat/aliases/{name} API
      * 지정된 이름 또는 패턴과 일치하는 별칭 정보를 조회하며, 시스템 별칭은 제외합니다.
      */
-    public List<Map<String, Object>> getCatAliasesByName(String aliasName) throws IOException {
-        Request request = new Request("GET", "/_cat/aliases/" + aliasName + "?format=json");
+    public List<AliasInfo> getCatAliasesByName(String aliasName) throws IOException {
+        return listAliases(aliasName, CatListOptions.NONE);
+    }
+
+    /**
+     * {@link #getCatAliasesByName(String)}의 비동기 버전입니다.
+     */
+    public Mono<List<AliasInfo>> getCatAliasesByNameAsync(String aliasName) {
+        return listAliasesAsync(aliasName, CatListOptions.NONE);
+    }
+
+    /**
+     * 별칭 이름 패턴과 정렬, 범위 조건으로 별칭 정보를 조회합니다.
+     * 필요한 열(h)과 정렬(s)은 클러스터에서 처리되며, 점(.)으로 시작하는 시스템 별칭 제외와 offset/limit은 응답을 읽으면서 적용됩니다.
+     * 별칭 조회는 모두 이 메서드를 거치며, 닫힌 인덱스와 숨김 인덱스의 별칭도 빠지지 않도록 expand_wildcards=all로 요청합니다.
+     *
+     * @param aliasPattern 별칭 이름 또는 와일드카드 패턴 (null이면 전체)
+     * @param options 정렬, 범위 조건 (health/status는 인덱스 전용이라 지정할 수 없음)
+     * @return 조건에 맞는 별칭 정보 목록
+     * @throws IOException API 호출에 실패한 경우
+     */
+    public List<AliasInfo> listAliases(String aliasPattern, CatListOptions options) throws IOException {
+        Request request = buildListRequest(aliasPattern, options);
+        Response response = restClient.performRequest(request);
+        return readAliases(response, options);
+    }
+
+    /**
+     * {@link #listAliases(String, CatListOptions)}의 비동기 버전입니다.
+     */
+    public Mono<List<AliasInfo>> listAliasesAsync(String aliasPattern, CatListOptions options) {
+        return Mono.defer(() -> ReactiveRestClientSupport.performRequest(restClient, buildListRequest(aliasPattern, options),
+                response -> readAliases(response, options)));
+    }
+
+    /**
+     * {@link #listAliases(String, CatListOptions)}와 같은 조건으로 조회한 결과를 컬럼형으로 반환합니다.
+     */
+    public CatTable listAliasesTable(String aliasPattern, CatListOptions options) throws IOException {
+        Request request = buildListRequest(aliasPattern, options);
         Response response = restClient.performRequest(request);
+        return readAliasesTable(response, options);
+    }
+
+    /**
+     * {@link #listAliasesTable(String, CatListOptions)}의 비동기 버전입니다.
+     */
+    public Mono<CatTable> listAliasesTableAsync(String aliasPattern, CatListOptions options) {
+        return Mono.defer(() -> ReactiveRestClientSupport.performRequest(restClient, buildListRequest(aliasPattern, options),
+                response -> readAliasesTable(response, options)));
+    }
+
+    private Request buildListRequest(String aliasPattern, CatListOptions options) {
+        if (options.health() != null || options.status() != null) {
+            throw new IllegalArgumentException("health and status filters apply to indices only");
+        }
+        String endpoint = aliasPattern == null || aliasPattern.isBlank() ? "/_cat/aliases" : "/_cat/aliases/" + aliasPattern.trim();
+        Request request = new Request("GET", endpoint);
+        request.addParameter("format", "json");
+        request.addParameter("h", CAT_ALIASES_HEADERS);
+        // _cat/aliases의 기본값과 같게 모든 인덱스의 별칭을 받고, 시스템 별칭은 읽을 때 이름으로 거른다.
+        request.addParameter("expand_wildcards", "all");
+        options.addSortParameter(request, CAT_ALIASES_COLUMNS);
+        return request;
+    }
+
+    private CatTable readAliasesTable(Response response, CatListOptions options) throws IOException {
         try (InputStream inputStream = response.getEntity().getContent()) {
-            List<Map<String, Object>> rawAliases = objectMapper.readValue(inputStream, new TypeReference<List<Map<String, Object>>>() {});
-            return processAliases(rawAliases);
+            return new CatTableReader(jsonCodec.jsonFactory()).read(inputStream, CAT_ALIASES_COLUMNS,
+                    row -> !(row[0] instanceof String alias && alias.startsWith(".")), options.skip(), options.max());
+        }
+    }
+
+    private List<AliasInfo> readAliases(Response response, CatListOptions options) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            return jsonCodec.readArray(inputStream, AliasInfo.class, alias -> !alias.isSystemAlias(), options.skip(), options.max());
         }
     }
 
     /**
-     * Elasticsearch로부터 받은 원시 별칭 맵 목록을 처리합니다.
-     * 필드를 원하는 이름으로 매핑하고 시스템 별칭을 필터링합니다.
-     * @param rawAliases Elasticsearch의 별칭 데이터 목록입니다.
-     * @return 처리된 별칭 목록입니다.
+     * _cat/aliases 응답 본문을 {@link AliasInfo} 목록으로 읽으며, 점(.)으로 시작하는 시스템/숨김 별칭은 제외합니다.
+     * (벤치마크에서 직접 호출하기 위해 package-private)
      */
-    private List<Map<String, Object>> processAliases(List<Map<String, Object>> rawAliases) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        for (Map<String, Object> rawAliasRecord : rawAliases) {
-            String alias = (String) rawAliasRecord.get("alias");
-            // 점(.)으로 시작하면 시스템/숨김 별칭이므로 건너뛴다 (Skip system/hidden aliases starting with a dot)
-            if (alias != null && alias.startsWith(".")) {
-                continue;
-            }
-
-            Map<String, Object> aliasMap = new HashMap<>();
-            aliasMap.put("alias", rawAliasRecord.get("alias"));
-            aliasMap.put("index", rawAliasRecord.get("index"));
-            aliasMap.put("filter", rawAliasRecord.get("filter"));
-            aliasMap.put("routingIndex", rawAliasRecord.get("routing.index")); // JSON field is "routing.index"
-            aliasMap.put("routingSearch", rawAliasRecord.get("routing.search")); // JSON field is "routing.search"
-            aliasMap.put("isWriteIndex", rawAliasRecord.get("is_write_index")); // JSON field is "is_write_index"
-            result.add(aliasMap);
-        }
-        return result;
+    List<AliasInfo> parseAliases(InputStream inputStream) throws IOException {
+        return jsonCodec.readArray(inputStream, AliasInfo.class, alias -> !alias.isSystemAlias(), 0, Integer.MAX_VALUE);
     }
 }
@@ -0,0 +1,150 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 오래 걸리는 검색을 위한 _async_search API를 제공합니다.
+ * <p>
+ * 제출한 검색이 wait_for_completion_timeout 안에 끝나지 않으면 Elasticsearch가 부분 결과와 id를 바로 반환하고
+ * 검색은 클러스터에서 계속 실행됩니다. 이후 id로 결과를 다시 조회하거나 삭제할 수 있으며,
+ * keep_alive 동안 조회가 없으면 결과는 클러스터에서 자동으로 삭제됩니다.
+ */
+@Component
+public class ElasticsearchAsyncSearchProvider {
+
+    private final RestClient restClient;
+    private final JsonCodec jsonCodec;
+    private final ElasticsearchProperties props;
+    private final HttpCompression httpCompression;
+
+    public ElasticsearchAsyncSearchProvider(RestClient restClient, JsonCodec jsonCodec, ElasticsearchProperties props, HttpCompression httpCompression) {
+        this.restClient = restClient;
+        this.jsonCodec = jsonCodec;
+        this.props = props;
+        this.httpCompression = httpCompression;
+    }
+
+    /**
+     * Elasticsearch: POST /{index}/_async_search API
+     *
+     * @param index 대상 인덱스명 또는 패턴
+     * @param queryBody 검색에 사용될 JSON 쿼리 문자열
+     * @param waitForCompletion 결과를 기다릴 시간 (null이면 설정값, 최대 max-wait-for-completion)
+     * @return 완료된 결과 또는 부분 결과와 id를 담은 _async_search 응답 JSON 문자열
+     * @throws IOException API 호출 실패 시
+     */
+    public String submit(String index, String queryBody, Duration waitForCompletion) throws IOException {
+        Response response = restClient.performRequest(submitRequest(index, queryBody, waitForCompletion));
+        return EntityUtils.toString(response.getEntity());
+    }
+
+    /**
+     * {@link #submit(String, String, Duration)}의 비동기 버전입니다.
+     */
+    public Mono<String> submitAsync(String index, String queryBody, Duration waitForCompletion) {
+        return Mono.defer(() -> ReactiveRestClientSupport.performRequest(restClient, submitRequest(index, queryBody, waitForCompletion),
+                response -> EntityUtils.toString(response.getEntity())));
+    }
+
+    /**
+     * Elasticsearch: GET /_async_search/{id} API
+     * 조회할 때마다 결과의 keep_alive가 연장됩니다.
+     *
+     * @param id submit 응답의 id
+     * @param waitForCompletion 검색이 실행 중일 때 완료를 기다릴 시간 (null이면 기다리지 않음, 최대 max-wait-for-completion)
+     * @return 현재까지의 _async_search 응답 JSON 문자열
+     * @throws IOException API 호출 실패 시 (만료되었거나 없는 id이면 404)
+     */
+    public String get(String id, Duration waitForCompletion) throws IOException {
+        Response response = restClient.performRequest(getRequest(id, waitForCompletion));
+        return EntityUtils.toString(response.getEntity());
+    }
+
+    /**
+     * {@link #get(String, Duration)}의 비동기 버전입니다.
+     */
+    public Mono<String> getAsync(String id, Duration waitForCompletion) {
+        return Mono.defer(() -> ReactiveRestClientSupport.performRequest(restClient, getRequest(id, waitForCompletion),
+                response -> EntityUtils.toString(response.getEntity())));
+    }
+
+    /**
+     * Elasticsearch: DELETE /_async_search/{id} API
+     * 실행 중인 검색은 취소되고 저장된 결과는 삭제됩니다.
+     *
+     * @param id submit 응답의 id
+     * @return 삭제가 승인되었는지 여부
+     * @throws IOException API 호출 실패 시
+     */
+    public boolean delete(String id) throws IOException {
+        Response response = restClient.performRequest(deleteRequest(id));
+        return readAcknowledged(response);
+    }
+
+    /**
+     * {@link #delete(String)}의 비동기 버전입니다.
+     */
+    public Mono<Boolean> deleteAsync(String id) {
+        return Mono.defer(() -> ReactiveRestClientSupport.performRequest(restClient, deleteRequest(id), this::readAcknowledged));
+    }
+
+    private Request submitRequest(String index, String queryBody, Duration waitForCompletion) {
+        ElasticsearchProperties.AsyncSearch settings = props.getAsyncSearch();
+        Request request = new Request("POST", "/" + index + "/_async_search");
+        request.addParameter("wait_for_completion_timeout", timeValue(resolveWait(waitForCompletion, settings.getWaitForCompletionTimeout())));
+        request.addParameter("keep_alive", timeValue(settings.getKeepAlive()));
+        // 제한 시간 안에 끝난 검색은 결과를 클러스터에 남기지 않습니다.
+        request.addParameter("keep_on_completion", "false");
+        httpCompression.setJsonEntity(request, queryBody == null || queryBody.isBlank() ? "{}" : queryBody);
+        return request;
+    }
+
+    private Request getRequest(String id, Duration waitForCompletion) {
+        Request request = new Request("GET", "/_async_search/" + encodeId(id));
+        request.addParameter("wait_for_completion_timeout", timeValue(resolveWait(waitForCompletion, Duration.ZERO)));
+        request.addParameter("keep_alive", timeValue(props.getAsyncSearch().getKeepAlive()));
+        return request;
+    }
+
+    private Request deleteRequest(String id) {
+        return new Request("DELETE", "/_async_search/" + encodeId(id));
+    }
+
+    private boolean readAcknowledged(Response response) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            return jsonCodec.objectMapper().readTree(inputStream).path("acknowledged").asBoolean(false);
+        }
+    }
+
+    private Duration resolveWait(Duration waitForCompletion, Duration defaultWait) {
+        Duration wait = waitForCompletion != null && !waitForCompletion.isNegative() ? waitForCompletion : defaultWait;
+        Duration max = props.getAsyncSearch().getMaxWaitForCompletionTimeout();
+        return wait.compareTo(max) > 0 ? max : wait;
+    }
+
+    private static String encodeId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Async search id must not be empty");
+        }
+        return URLEncoder.encode(id.trim(), StandardCharsets.UTF_8);
+    }
+
+    private static String timeValue(Duration duration) {
+        return duration.toMillis() + "ms";
+    }
+}
@@ -1,16 +1,19 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silbaram.github.infrastructures.elasticsearch.model.AllocationInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTable;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTableReader;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Provides methods to retrieve allocation information from Elasticsearch.
@@ -18,45 +21,111 @@ import java.util.Map;
 @Component
 public class ElasticsearchCatAllocationProvider {
 
+    // 컬럼형 결과의 열 (AllocationInfo와 같은 이름과 숫자 타입 사용)
+    private static final List<CatTableReader.Column> CAT_ALLOCATION_COLUMNS = List.of(
+            new CatTableReader.Column("shards", "shards", true),
+            new CatTableReader.Column("disk.indices", "diskIndicesBytes", true),
+            new CatTableReader.Column("disk.used", "diskUsedBytes", true),
+            new CatTableReader.Column("disk.avail", "diskAvailBytes", true),
+            new CatTableReader.Column("disk.total", "diskTotalBytes", true),
+            new CatTableReader.Column("disk.percent", "diskPercent", true),
+            new CatTableReader.Column("host", "host"),
+            new CatTableReader.Column("ip", "ip"),
+            new CatTableReader.Column("node", "node")
+    );
+
     private final RestClient restClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
 
     /**
      * Constructs an ElasticsearchCatAllocationProvider with the given RestClient.
      *
      * @param restClient The Elasticsearch RestClient.
+     * @param jsonCodec The shared JSON codec used to parse responses.
      */
-    public ElasticsearchCatAllocationProvider(RestClient restClient) {
+    public ElasticsearchCatAllocationProvider(RestClient restClient, JsonCodec jsonCodec) {
         this.restClient = restClient;
-        this.objectMapper = new ObjectMapper();
+        this.jsonCodec = jsonCodec;
     }
 
     /**
      * Elasticsearch의 cat allocation 정보를 조회합니다.
      *
-     * @return 각 노드의 할당 정보를 나타내는 Map의 List입니다.
+     * @return 각 노드의 할당 정보를 나타내는 AllocationInfo의 List입니다.
      * @throws IOException API 호출에 실패한 경우 발생합니다.
      */
-    public List<Map<String, Object>> getCatAllocation() throws IOException {
-        Request request = new Request("GET", "/_cat/allocation?format=json");
+    public List<AllocationInfo> getCatAllocation() throws IOException {
+        Request request = new Request("GET", "/_cat/allocation?format=json&bytes=b");
         Response response = restClient.performRequest(request);
-        try (InputStream inputStream = response.getEntity().getContent()) {
-            return objectMapper.readValue(inputStream, new TypeReference<List<Map<String, Object>>>() {});
-        }
+        return readAllocation(response);
+    }
+
+    /**
+     * {@link #getCatAllocation()}의 비동기 버전입니다.
+     *
+     * @return 각 노드의 할당 정보를 방출하는 Mono입니다.
+     */
+    public Mono<List<AllocationInfo>> getCatAllocationAsync() {
+        Request request = new Request("GET", "/_cat/allocation?format=json&bytes=b");
+        return ReactiveRestClientSupport.performRequest(restClient, request, this::readAllocation);
     }
 
     /**
      * Elasticsearch에서 특정 노드의 cat allocation 정보를 조회합니다.
      *
      * @param nodeId 노드 ID입니다.
-     * @return 해당 노드의 할당 정보를 나타내는 Map의 List입니다.
+     * @return 해당 노드의 할당 정보를 나타내는 AllocationInfo의 List입니다.
      * @throws IOException API 호출에 실패하거나 nodeId가 유효하지 않은 경우 발생합니다.
      */
-    public List<Map<String, Object>> getCatAllocation(String nodeId) throws IOException {
-        Request request = new Request("GET", "/_cat/allocation/" + nodeId + "?format=json");
+    public List<AllocationInfo> getCatAllocation(String nodeId) throws IOException {
+        Request request = new Request("GET", "/_cat/allocation/" + nodeId + "?format=json&bytes=b");
+        Response response = restClient.performRequest(request);
+        return readAllocation(response);
+    }
+
+    /**
+     * {@link #getCatAllocation(String)}의 비동기 버전입니다.
+     *
+     * @param nodeId 노드 ID입니다.
+     * @return 해당 노드의 할당 정보를 방출하는 Mono입니다.
+     */
+    public Mono<List<AllocationInfo>> getCatAllocationAsync(String nodeId) {
+        Request request = new Request("GET", "/_cat/allocation/" + nodeId + "?format=json&bytes=b");
+        return ReactiveRestClientSupport.performRequest(restClient, request, this::readAllocation);
+    }
+
+    /**
+     * {@link #getCatAllocation()}와 같은 정보를 열 이름 배열과 행 값 배열의 컬럼형으로 반환합니다.
+     * 열 이름과 순서는 {@link AllocationInfo}를 따릅니다.
+     *
+     * @return 컬럼형 할당 정보입니다.
+     * @throws IOException API 호출에 실패한 경우 발생합니다.
+     */
+    public CatTable getCatAllocationTable() throws IOException {
+        Request request = new Request("GET", "/_cat/allocation?format=json&bytes=b");
         Response response = restClient.performRequest(request);
+        return readAllocationTable(response);
+    }
+
+    /**
+     * {@link #getCatAllocationTable()}의 비동기 버전입니다.
+     *
+     * @return 컬럼형 할당 정보를 방출하는 Mono입니다.
+     */
+    public Mono<CatTable> getCatAllocationTableAsync() {
+        Request request = new Request("GET", "/_cat/allocation?format=json&bytes=b");
+        return ReactiveRestClientSupport.performRequest(restClient, request, this::readAllocationTable);
+    }
+
+    private CatTable readAllocationTable(Response response) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            return new CatTableReader(jsonCodec.jsonFactory()).read(inputStream, CAT_ALLOCATION_COLUMNS, null);
+        }
+    }
+
+    private List<AllocationInfo> readAllocation(Response response) throws IOException {
         try (InputStream inputStream = response.getEntity().getContent()) {
-            return objectMapper.readValue(inputStream, new TypeReference<List<Map<String, Object>>>() {});
+            return jsonCodec.readArray(inputStream, AllocationInfo.class);
         }
     }
 }
@@ -1,126 +1,179 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterStatistics;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 @Component
 public class ElasticsearchClusterStatisticsProvider {
 
+    /**
+     * 요약에 사용하는 _cluster/stats 필드 목록입니다. filter_path로 이 필드만 요청하므로,
+     * 아래 응답 레코드에 필드를 추가할 때는 이 목록에도 함께 추가해야 합니다.
+     */
+    static final List<String> CLUSTER_STATS_FIELDS = List.of(
+            "cluster_name",
+            "cluster_uuid",
+            "status",
+            "timestamp",
+            "nodes.count.total",
+            "nodes.count.data",
+            "nodes.count.master",
+            "nodes.count.ingest",
+            "nodes.os.mem.used_percent",
+            "nodes.os.available_processors",
+            "nodes.jvm.mem.heap_used_in_bytes",
+            "nodes.jvm.mem.heap_max_in_bytes",
+            "indices.count",
+            "indices.shards.total",
+            "indices.shards.primaries",
+            "indices.shards.replication",
+            "indices.docs.count",
+            "indices.docs.deleted"
+    );
+    // plugins, versions, field_types 등 큰 항목을 받지 않도록 필요한 필드만 요청합니다.
+    private static final String CLUSTER_STATS_FILTER_PATH = String.join(",", CLUSTER_STATS_FIELDS);
+
     private final RestClient restClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
 
-    public ElasticsearchClusterStatisticsProvider(RestClient restClient) {
+    public ElasticsearchClusterStatisticsProvider(RestClient restClient, JsonCodec jsonCodec) {
         this.restClient = restClient;
-        this.objectMapper = new ObjectMapper();
+        this.jsonCodec = jsonCodec;
     }
 
     /**
      * Elasticsearch: /_cluster/stats API
      * 클러스터 통계 정보를 조회합니다.
-     * @return 클러스터 통계 정보를 담은 Map
+     * @return 클러스터 요약 통계
      * @throws IOException API 호출 실패 시
      */
-    @SuppressWarnings("unchecked") // JSON 파싱 시 Map 캐스팅에 대한 경고를 무시합니다.
-    public Map<String, Object> getClusterStatistics() throws IOException {
+    public ClusterStatistics getClusterStatistics() throws IOException {
+        Response response = restClient.performRequest(clusterStatsRequest());
+        return readClusterStatistics(response);
+    }
+
+    /**
+     * {@link #getClusterStatistics()}의 비동기 버전입니다.
+     * @return 클러스터 통계 정보를 방출하는 Mono
+     */
+    public Mono<ClusterStatistics> getClusterStatisticsAsync() {
+        return ReactiveRestClientSupport.performRequest(restClient, clusterStatsRequest(), this::readClusterStatistics);
+    }
+
+    private Request clusterStatsRequest() {
         Request request = new Request("GET", "/_cluster/stats");
-        Response response = restClient.performRequest(request);
-        Map<String, Object> rootJsonMap;
+        request.addParameter("filter_path", CLUSTER_STATS_FILTER_PATH);
+        return request;
+    }
+
+    private ClusterStatistics readClusterStatistics(Response response) throws IOException {
         try (InputStream inputStream = response.getEntity().getContent()) {
-            rootJsonMap = objectMapper.readValue(inputStream, new TypeReference<Map<String, Object>>() {});
+            return parseClusterStatistics(inputStream);
         }
+    }
 
-        Map<String, Object> result = new HashMap<>();
+    /**
+     * _cluster/stats 응답 본문을 파싱해 요약 정보를 만듭니다. (벤치마크에서 직접 호출하기 위해 package-private)
+     * 필요한 필드만 레코드로 바로 역직렬화하고, 나머지 필드(field_types 등)는 객체로 만들지 않고 건너뜁니다.
+     */
+    ClusterStatistics parseClusterStatistics(InputStream inputStream) throws IOException {
+        ClusterStatsResponse response = jsonCodec.readerFor(ClusterStatsResponse.class).readValue(inputStream);
 
-        // 클러스터 정보 (Cluster Info)
-        Map<String, Object> clusterInfo = new HashMap<>();
-        clusterInfo.put("name", rootJsonMap.get("cluster_name"));
-        clusterInfo.put("uuid", rootJsonMap.get("cluster_uuid"));
-        clusterInfo.put("status", rootJsonMap.get("status")); // JSON 응답의 status 필드 (예: "green", "yellow", "red")
-        clusterInfo.put("timestamp", rootJsonMap.get("timestamp"));
-        result.put("cluster", clusterInfo);
+        ClusterStatistics.Cluster cluster = new ClusterStatistics.Cluster(
+                response.clusterName(), response.clusterUuid(), response.status(), response.timestamp());
 
         // 노드 정보 (Nodes Info)
-        Map<String, Object> nodesData = (Map<String, Object>) rootJsonMap.get("nodes");
-        Map<String, Object> nodesInfo = new HashMap<>();
-        if (nodesData != null) {
-            Map<String, Object> countData = (Map<String, Object>) nodesData.get("count");
-            if (countData != null) {
-                nodesInfo.put("total", countData.get("total"));
-                nodesInfo.put("data", countData.get("data"));
-                nodesInfo.put("master", countData.get("master"));
-                nodesInfo.put("ingest", countData.get("ingest"));
-            }
-
-            Map<String, Object> osData = (Map<String, Object>) nodesData.get("os");
-            if (osData != null) {
-                Map<String, Object> memData = (Map<String, Object>) osData.get("mem");
-                if (memData != null) {
-                    nodesInfo.put("mem_used_percent", memData.get("used_percent"));
-                }
-                nodesInfo.put("processors", osData.get("available_processors"));
-            }
-
-            Map<String, Object> jvmData = (Map<String, Object>) nodesData.get("jvm");
-            if (jvmData != null) {
-                Map<String, Object> jvmMemData = (Map<String, Object>) jvmData.get("mem");
-                if (jvmMemData != null) {
-                    // JVM 힙 사용량 계산 (Calculating JVM heap usage)
-                    Object heapUsedBytesObj = jvmMemData.get("heap_used_in_bytes");
-                    Object heapMaxBytesObj = jvmMemData.get("heap_max_in_bytes");
-
-                    if (heapUsedBytesObj instanceof Number && heapMaxBytesObj instanceof Number) {
-                        long heapUsedBytes = ((Number) heapUsedBytesObj).longValue();
-                        long heapMaxBytes = ((Number) heapMaxBytesObj).longValue();
-                        double heapUsedPercent = heapMaxBytes > 0 ? (double) heapUsedBytes / heapMaxBytes * 100 : 0.0;
-                        nodesInfo.put("heap_used_bytes", heapUsedBytes);
-                        nodesInfo.put("heap_max_bytes", heapMaxBytes);
-                        nodesInfo.put("heap_used_percent", heapUsedPercent);
-                    } else {
-                        nodesInfo.put("heap_used_bytes", 0L);
-                        nodesInfo.put("heap_max_bytes", 0L);
-                        nodesInfo.put("heap_used_percent", 0.0);
-                    }
-                }
-            }
-        }
-        result.put("nodes", nodesInfo);
+        NodesStats nodes = response.nodes();
+        NodeCounts counts = nodes == null ? null : nodes.count();
+        OsStats os = nodes == null ? null : nodes.os();
+        JvmMemStats jvmMem = nodes == null || nodes.jvm() == null ? null : nodes.jvm().mem();
+        long heapUsedBytes = jvmMem == null ? 0L : jvmMem.heapUsedInBytes();
+        long heapMaxBytes = jvmMem == null ? 0L : jvmMem.heapMaxInBytes();
+        // JVM 힙 사용량 계산 (Calculating JVM heap usage)
+        double heapUsedPercent = heapMaxBytes > 0 ? (double) heapUsedBytes / heapMaxBytes * 100 : 0.0;
+        ClusterStatistics.Nodes nodesInfo = new ClusterStatistics.Nodes(
+                counts == null ? 0 : counts.total(),
+                counts == null ? 0 : counts.data(),
+                counts == null ? 0 : counts.master(),
+                counts == null ? 0 : counts.ingest(),
+                os == null || os.mem() == null ? 0 : os.mem().usedPercent(),
+                os == null ? 0 : os.availableProcessors(),
+                heapUsedBytes,
+                heapMaxBytes,
+                heapUsedPercent);
 
         // 인덱스 정보 (Indices Info)
-        Map<String, Object> indicesData = (Map<String, Object>) rootJsonMap.get("indices");
-        Map<String, Object> indicesInfo = new HashMap<>();
-        if (indicesData != null) {
-            indicesInfo.put("count", indicesData.get("count"));
-
-            Map<String, Object> shardsData = (Map<String, Object>) indicesData.get("shards");
-            Map<String, Object> shardsInfo = new HashMap<>();
-            if (shardsData != null) {
-                shardsInfo.put("total", shardsData.get("total"));
-                shardsInfo.put("primaries", shardsData.get("primaries"));
-                // 'replication' 필드는 _cluster/stats API 응답에 직접적으로 없을 수 있습니다.
-                // 이전 클라이언트는 이를 계산했을 수 있으나, 여기서는 응답에 있다면 사용하고 없다면 기본값을 설정합니다.
-                shardsInfo.put("replication", shardsData.getOrDefault("replication", 0.0f)); // Assuming float or default
-            }
-            indicesInfo.put("shards", shardsInfo);
-
-            Map<String, Object> docsData = (Map<String, Object>) indicesData.get("docs");
-            Map<String, Object> docsInfo = new HashMap<>();
-            if (docsData != null) {
-                docsInfo.put("count", docsData.get("count"));
-                docsInfo.put("deleted", docsData.get("deleted"));
-            }
-            indicesInfo.put("docs", docsInfo);
-        }
-        result.put("indices", indicesInfo);
+        IndicesStats indices = response.indices();
+        ClusterStatistics.Shards shards = indices == null || indices.shards() == null
+                ? new ClusterStatistics.Shards(0, 0, 0.0)
+                : new ClusterStatistics.Shards(indices.shards().total(), indices.shards().primaries(), indices.shards().replication());
+        ClusterStatistics.Docs docs = indices == null || indices.docs() == null
+                ? new ClusterStatistics.Docs(0L, 0L)
+                : new ClusterStatistics.Docs(indices.docs().count(), indices.docs().deleted());
+        ClusterStatistics.Indices indicesInfo = new ClusterStatistics.Indices(indices == null ? 0L : indices.count(), shards, docs);
+
+        return new ClusterStatistics(cluster, nodesInfo, indicesInfo);
+    }
+
+    // _cluster/stats 응답 중 요약에 필요한 부분만 옮긴 레코드들입니다. (CLUSTER_STATS_FIELDS와 일치해야 함)
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ClusterStatsResponse(
+            @JsonProperty("cluster_name") String clusterName,
+            @JsonProperty("cluster_uuid") String clusterUuid,
+            String status,
+            long timestamp,
+            NodesStats nodes,
+            IndicesStats indices) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record NodesStats(NodeCounts count, OsStats os, JvmStats jvm) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record NodeCounts(int total, int data, int master, int ingest) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record OsStats(OsMemStats mem, @JsonProperty("available_processors") int availableProcessors) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record OsMemStats(@JsonProperty("used_percent") int usedPercent) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record JvmStats(JvmMemStats mem) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record JvmMemStats(
+            @JsonProperty("heap_used_in_bytes") long heapUsedInBytes,
+            @JsonProperty("heap_max_in_bytes") long heapMaxInBytes) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record IndicesStats(long count, ShardStats shards, DocStats docs) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ShardStats(int total, int primaries, double replication) {
+    }
 
-        return result;
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record DocStats(long count, long deleted) {
     }
 }
@@ -1,18 +1,19 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -21,70 +22,107 @@ public class ElasticsearchHealthProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(ElasticsearchHealthProvider.class);
 
+    /**
+     * parseClusterHealth가 읽는 _cluster/health 필드 목록입니다. filter_path로 이 필드만 요청하므로,
+     * 파싱하는 필드를 추가할 때는 이 목록에도 함께 추가해야 합니다.
+     */
+    static final List<String> CLUSTER_HEALTH_FIELDS = List.of(
+            "cluster_name",
+            "status",
+            "number_of_nodes",
+            "number_of_data_nodes",
+            "active_shards",
+            "active_primary_shards",
+            "relocating_shards",
+            "initializing_shards",
+            "unassigned_shards",
+            "number_of_pending_tasks",
+            "task_max_waiting_in_queue_millis",
+            "active_shards_percent_as_number"
+    );
+    private static final String CLUSTER_HEALTH_FILTER_PATH = String.join(",", CLUSTER_HEALTH_FIELDS);
+
     // RestClient를 사용하므로 HealthRequest는 더 이상 필요하지 않습니다.
     private final RestClient restClient;
-    private final ObjectMapper objectMapper = new ObjectMapper(); // JSON 응답 파싱을 위해 사용
+    private final JsonCodec jsonCodec; // JSON 응답 파싱을 위해 사용
 
-    public ElasticsearchHealthProvider(RestClient restClient) {
+    public ElasticsearchHealthProvider(RestClient restClient, JsonCodec jsonCodec) {
         this.restClient = restClient;
+        this.jsonCodec = jsonCodec;
     }
 
     public Map<String, String> getClusterHealth() throws IOException {
-        Map<String, String> healthData = new HashMap<>();
-        Request request = new Request("GET", "/_cluster/health");
+        Request request = clusterHealthRequest();
 
         try {
             Response response = restClient.performRequest(request);
-            // 응답 본문 읽기
-            StringBuilder responseBody = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    responseBody.append(line);
-                }
-            }
-
-            // JSON 응답 파싱
-            // objectMapper.readValue가 제네릭 Map을 반환하므로 타입 안정성을 위해 @SuppressWarnings 사용
-            @SuppressWarnings("unchecked") 
-            Map<String, Object> jsonResponse = objectMapper.readValue(responseBody.toString(), Map.class);
-
-            // 파싱된 JSON으로부터 healthData 채우기
-            // 참고: _cluster/health API는 epoch 및 timestamp를 _cat/health와 다른 방식으로 제공합니다.
-            // 이전 구현의 플레이스홀더와 일관되게 "-"로 유지합니다.
-            healthData.put("epoch", "-");
-            healthData.put("timestamp", "-");
-
-            healthData.put("cluster", Objects.toString(jsonResponse.get("cluster_name"), "-"));
-            healthData.put("status", Objects.toString(jsonResponse.get("status"), "-"));
-            healthData.put("node.total", Objects.toString(jsonResponse.get("number_of_nodes"), "-"));
-            healthData.put("node.data", Objects.toString(jsonResponse.get("number_of_data_nodes"), "-"));
-            healthData.put("shards", Objects.toString(jsonResponse.get("active_shards"), "-"));
-            healthData.put("pri", Objects.toString(jsonResponse.get("active_primary_shards"), "-"));
-            healthData.put("relo", Objects.toString(jsonResponse.get("relocating_shards"), "-"));
-            healthData.put("init", Objects.toString(jsonResponse.get("initializing_shards"), "-"));
-            healthData.put("unassign", Objects.toString(jsonResponse.get("unassigned_shards"), "-"));
-            // "unassign.pri"는 원래 로직에 따라 "unassign"과 동일한 값을 사용합니다.
-            healthData.put("unassign.pri", Objects.toString(jsonResponse.get("unassigned_shards"), "-"));
-            healthData.put("pending_tasks", Objects.toString(jsonResponse.get("number_of_pending_tasks"), "-"));
-
-            // task_max_waiting_in_queue_millis 필드 처리: ES 응답이 숫자이고 -1일 경우 "-"로 표시 (이전 로직과 일관성 유지)
-            Object maxTaskWaitTimeMillisObj = jsonResponse.get("task_max_waiting_in_queue_millis");
-            if (maxTaskWaitTimeMillisObj instanceof Number maxTaskWaitTimeMillisNum) {
-                // 숫자일 경우 -1L (long 타입)과 비교하여 ES의 -1 값과 일치하는지 확인합니다.
-                healthData.put("max_task_wait_time", maxTaskWaitTimeMillisNum.longValue() == -1L ? "-" : maxTaskWaitTimeMillisNum.toString());
-            } else {
-                healthData.put("max_task_wait_time", "-"); // null이거나 숫자가 아닌 경우 기본값 "-"
-            }
-            
-            // active_shards_percent_as_number 필드 처리: 값 뒤에 "%" 추가
-            Object activeShardsPercent = jsonResponse.get("active_shards_percent_as_number");
-            healthData.put("active_shards_percent", activeShardsPercent == null ? "-" : Objects.toString(activeShardsPercent, "-") + "%");
-
+            return readClusterHealth(response);
         } catch (IOException e) {
             logger.error("Error fetching or parsing Elasticsearch cluster health: {}", e.getMessage());
             throw e; // 호출자가 처리하도록 예외를 다시 던집니다.
         }
+    }
+
+    /**
+     * {@link #getClusterHealth()}의 비동기 버전입니다.
+     */
+    public Mono<Map<String, String>> getClusterHealthAsync() {
+        Request request = clusterHealthRequest();
+        return ReactiveRestClientSupport.performRequest(restClient, request, this::readClusterHealth)
+                .doOnError(e -> logger.error("Error fetching or parsing Elasticsearch cluster health: {}", e.getMessage()));
+    }
+
+    private Request clusterHealthRequest() {
+        Request request = new Request("GET", "/_cluster/health");
+        request.addParameter("filter_path", CLUSTER_HEALTH_FILTER_PATH);
+        return request;
+    }
+
+    private Map<String, String> readClusterHealth(Response response) throws IOException {
+        // 응답 본문을 문자열로 모으지 않고 스트림에서 바로 JSON 파싱
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            return parseClusterHealth(inputStream);
+        }
+    }
+
+    /**
+     * _cluster/health 응답 본문을 파싱해 cat 형식의 값으로 변환합니다. (벤치마크에서 직접 호출하기 위해 package-private)
+     */
+    Map<String, String> parseClusterHealth(InputStream inputStream) throws IOException {
+        Map<String, String> healthData = new HashMap<>();
+        Map<String, Object> jsonResponse = jsonCodec.readerFor(JsonCodec.MAP).readValue(inputStream);
+
+        // 파싱된 JSON으로부터 healthData 채우기
+        // 참고: _cluster/health API는 epoch 및 timestamp를 _cat/health와 다른 방식으로 제공합니다.
+        // 이전 구현의 플레이스홀더와 일관되게 "-"로 유지합니다.
+        healthData.put("epoch", "-");
+        healthData.put("timestamp", "-");
+
+        healthData.put("cluster", Objects.toString(jsonResponse.get("cluster_name"), "-"));
+        healthData.put("status", Objects.toString(jsonResponse.get("status"), "-"));
+        healthData.put("node.total", Objects.toString(jsonResponse.get("number_of_nodes"), "-"));
+        healthData.put("node.data", Objects.toString(jsonResponse.get("number_of_data_nodes"), "-"));
+        healthData.put("shards", Objects.toString(jsonResponse.get("active_shards"), "-"));
+        healthData.put("pri", Objects.toString(jsonResponse.get("active_primary_shards"), "-"));
+        healthData.put("relo", Objects.toString(jsonResponse.get("relocating_shards"), "-"));
+        healthData.put("init", Objects.toString(jsonResponse.get("initializing_shards"), "-"));
+        healthData.put("unassign", Objects.toString(jsonResponse.get("unassigned_shards"), "-"));
+        // "unassign.pri"는 원래 로직에 따라 "unassign"과 동일한 값을 사용합니다.
+        healthData.put("unassign.pri", Objects.toString(jsonResponse.get("unassigned_shards"), "-"));
+        healthData.put("pending_tasks", Objects.toString(jsonResponse.get("number_of_pending_tasks"), "-"));
+
+        // task_max_waiting_in_queue_millis 필드 처리: ES 응답이 숫자이고 -1일 경우 "-"로 표시 (이전 로직과 일관성 유지)
+        Object maxTaskWaitTimeMillisObj = jsonResponse.get("task_max_waiting_in_queue_millis");
+        if (maxTaskWaitTimeMillisObj instanceof Number maxTaskWaitTimeMillisNum) {
+            // 숫자일 경우 -1L (long 타입)과 비교하여 ES의 -1 값과 일치하는지 확인합니다.
+            healthData.put("max_task_wait_time", maxTaskWaitTimeMillisNum.longValue() == -1L ? "-" : maxTaskWaitTimeMillisNum.toString());
+        } else {
+            healthData.put("max_task_wait_time", "-"); // null이거나 숫자가 아닌 경우 기본값 "-"
+        }
+        
+        // active_shards_percent_as_number 필드 처리: 값 뒤에 "%" 추가
+        Object activeShardsPercent = jsonResponse.get("active_shards_percent_as_number");
+        healthData.put("active_shards_percent", activeShardsPercent == null ? "-" : Objects.toString(activeShardsPercent, "-") + "%");
 
         return healthData;
     }
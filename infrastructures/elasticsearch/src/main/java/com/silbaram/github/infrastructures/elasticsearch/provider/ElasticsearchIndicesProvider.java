@@ -1,82 +1,248 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.silbaram.github.infrastructures.elasticsearch.model.IndexInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTable;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTableReader;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 @Component
 public class ElasticsearchIndicesProvider {
 
     private final RestClient restClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
     private static final String CAT_INDICES_HEADERS = "health,status,index,docs.count,docs.deleted,pri.store.size,store.size";
+    // 컬럼형 결과의 열 (IndexInfo와 같은 이름과 숫자 타입 사용)
+    private static final List<CatTableReader.Column> CAT_INDICES_COLUMNS = List.of(
+            new CatTableReader.Column("index", "index"),
+            new CatTableReader.Column("health", "health"),
+            new CatTableReader.Column("status", "status"),
+            new CatTableReader.Column("docs.count", "docsCount", true),
+            new CatTableReader.Column("docs.deleted", "docsDeleted", true),
+            new CatTableReader.Column("pri.store.size", "priStoreSizeBytes", true),
+            new CatTableReader.Column("store.size", "storeSizeBytes", true)
+    );
+    private static final int STATUS_COLUMN = 2;
+    // 변경 카운터 계산에 필요한 필드만 받아옵니다.
+    private static final String CHANGE_COUNTERS_FILTER_PATH =
+            "indices.*.primaries.refresh.total,indices.*.primaries.indexing.index_total,indices.*.primaries.indexing.delete_total";
 
-    public ElasticsearchIndicesProvider(RestClient restClient) {
+    public ElasticsearchIndicesProvider(RestClient restClient, JsonCodec jsonCodec) {
         this.restClient = restClient;
-        this.objectMapper = new ObjectMapper();
+        this.jsonCodec = jsonCodec;
     }
 
     /**
      * Elasticsearch: /_cat/indices API
      * 모든 인덱스 정보를 조회합니다.
      */
-    public List<Map<String, Object>> getCatIndices() throws IOException {
-        Request request = new Request("GET", "/_cat/indices?format=json&h=" + CAT_INDICES_HEADERS);
+    public List<IndexInfo> getCatIndices() throws IOException {
+        Request request = buildListRequest(null, CatListOptions.NONE);
         Response response = restClient.performRequest(request);
-        try (InputStream inputStream = response.getEntity().getContent()) {
-            List<Map<String, Object>> rawIndices = objectMapper.readValue(inputStream, new TypeReference<List<Map<String, Object>>>() {});
-            return rawIndices.stream()
-                             .map(this::transformIndexData)
-                             .collect(Collectors.toList());
-        }
+        return readIndices(response);
+    }
+
+    /**
+     * {@link #getCatIndices()}의 비동기 버전입니다.
+     */
+    public Mono<List<IndexInfo>> getCatIndicesAsync() {
+        Request request = buildListRequest(null, CatListOptions.NONE);
+        return ReactiveRestClientSupport.performRequest(restClient, request, this::readIndices);
     }
 
     /**
      * Elasticsearch: /_cat/indices/{index} API
      * 지정된 인덱스 이름 또는 패턴과 일치하는 인덱스 정보를 조회합니다.
      */
-    public List<Map<String, Object>> getCatIndicesByName(String indexName) throws IOException {
-        Request request = new Request("GET", "/_cat/indices/" + indexName + "?format=json&h=" + CAT_INDICES_HEADERS);
+    public List<IndexInfo> getCatIndicesByName(String indexName) throws IOException {
+        Request request = buildListRequest(indexName, CatListOptions.NONE);
         Response response = restClient.performRequest(request);
+        return readIndices(response);
+    }
+
+    /**
+     * {@link #getCatIndicesByName(String)}의 비동기 버전입니다.
+     */
+    public Mono<List<IndexInfo>> getCatIndicesByNameAsync(String indexName) {
+        Request request = buildListRequest(indexName, CatListOptions.NONE);
+        return ReactiveRestClientSupport.performRequest(restClient, request, this::readIndices);
+    }
+
+    /**
+     * 인덱스 이름 패턴과 필터, 정렬, 범위 조건으로 인덱스 정보를 조회합니다.
+     * health는 health 파라미터로, 정렬은 s 파라미터로 클러스터에서 처리되며,
+     * _cat API에 없는 offset/limit은 응답을 읽으면서 적용되어 필요한 행만 객체로 만듭니다.
+     * status는 expand_wildcards로 와일드카드 확장을 줄이고, 구체적인 인덱스 이름에는 적용되지 않으므로 응답을 읽으면서 한 번 더 거릅니다.
+     *
+     * @param indexPattern 인덱스 이름 또는 와일드카드 패턴 (null이면 전체)
+     * @param options 필터, 정렬, 범위 조건
+     * @return 조건에 맞는 인덱스 정보 목록
+     * @throws IOException API 호출에 실패한 경우
+     */
+    public List<IndexInfo> listIndices(String indexPattern, CatListOptions options) throws IOException {
+        Request request = buildListRequest(indexPattern, options);
+        Response response = restClient.performRequest(request);
+        return readIndices(response, options);
+    }
+
+    /**
+     * {@link #listIndices(String, CatListOptions)}의 비동기 버전입니다.
+     */
+    public Mono<List<IndexInfo>> listIndicesAsync(String indexPattern, CatListOptions options) {
+        return Mono.defer(() -> ReactiveRestClientSupport.performRequest(restClient, buildListRequest(indexPattern, options),
+                response -> readIndices(response, options)));
+    }
+
+    /**
+     * {@link #listIndices(String, CatListOptions)}와 같은 조건으로 조회한 결과를 컬럼형으로 반환합니다.
+     */
+    public CatTable listIndicesTable(String indexPattern, CatListOptions options) throws IOException {
+        Request request = buildListRequest(indexPattern, options);
+        Response response = restClient.performRequest(request);
+        return readIndicesTable(response, options);
+    }
+
+    /**
+     * {@link #listIndicesTable(String, CatListOptions)}의 비동기 버전입니다.
+     */
+    public Mono<CatTable> listIndicesTableAsync(String indexPattern, CatListOptions options) {
+        return Mono.defer(() -> ReactiveRestClientSupport.performRequest(restClient, buildListRequest(indexPattern, options),
+                response -> readIndicesTable(response, options)));
+    }
+
+    /**
+     * Elasticsearch: /{index}/_stats/refresh,indexing API
+     * 인덱스별 primary 샤드의 refresh 횟수와 색인/삭제 건수를 더한 변경 카운터를 조회합니다.
+     * 세 값 모두 증가만 하므로, 값이 같으면 그 사이 검색 결과에 보이는 변경이 없었던 것으로 봅니다.
+     *
+     * @param index 대상 인덱스명 또는 패턴
+     * @return 인덱스명 -> 변경 카운터 (인덱스명 순으로 정렬)
+     * @throws IOException API 호출 실패 시
+     */
+    public Map<String, Long> getChangeCounters(String index) throws IOException {
+        Response response = restClient.performRequest(changeCountersRequest(index));
+        return readChangeCounters(response);
+    }
+
+    /**
+     * {@link #getChangeCounters(String)}의 비동기 버전입니다.
+     */
+    public Mono<Map<String, Long>> getChangeCountersAsync(String index) {
+        return ReactiveRestClientSupport.performRequest(restClient, changeCountersRequest(index), this::readChangeCounters);
+    }
+
+    private Request changeCountersRequest(String index) {
+        Request request = new Request("GET", "/" + index + "/_stats/refresh,indexing");
+        request.addParameter("filter_path", CHANGE_COUNTERS_FILTER_PATH);
+        return request;
+    }
+
+    private Map<String, Long> readChangeCounters(Response response) throws IOException {
+        IndexStatsResponse stats;
         try (InputStream inputStream = response.getEntity().getContent()) {
-            List<Map<String, Object>> rawIndices = objectMapper.readValue(inputStream, new TypeReference<List<Map<String, Object>>>() {});
-            return rawIndices.stream()
-                             .map(this::transformIndexData)
-                             .collect(Collectors.toList());
+            stats = jsonCodec.readerFor(IndexStatsResponse.class).readValue(inputStream);
+        }
+        // 일치하는 인덱스가 없으면 filter_path 결과는 빈 객체({})입니다.
+        Map<String, Long> counters = new TreeMap<>();
+        if (stats.indices() != null) {
+            stats.indices().forEach((name, index) -> counters.put(name, index.changeCounter()));
+        }
+        return counters;
+    }
+
+    private Request buildListRequest(String indexPattern, CatListOptions options) {
+        String endpoint = indexPattern == null || indexPattern.isBlank() ? "/_cat/indices" : "/_cat/indices/" + indexPattern.trim();
+        Request request = new Request("GET", endpoint);
+        request.addParameter("format", "json");
+        request.addParameter("bytes", "b");
+        request.addParameter("h", CAT_INDICES_HEADERS);
+        if (options.health() != null) {
+            request.addParameter("health", options.health());
+        }
+        if (options.status() != null) {
+            // 와일드카드는 열림/닫힘 상태에 맞는 인덱스로만 확장한다. 숨김 인덱스는 기존 조회처럼 포함한다.
+            // 구체적인 이름은 확장되지 않으므로 읽을 때 상태로 한 번 더 거른다.
+            request.addParameter("expand_wildcards", options.status() + ",hidden");
+        }
+        options.addSortParameter(request, CAT_INDICES_COLUMNS);
+        return request;
+    }
+
+    private CatTable readIndicesTable(Response response, CatListOptions options) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            Predicate<Object[]> rowFilter = options.status() == null ? null : row -> hasStatus(row[STATUS_COLUMN], options.status());
+            return new CatTableReader(jsonCodec.jsonFactory()).read(inputStream, CAT_INDICES_COLUMNS, rowFilter, options.skip(), options.max());
+        }
+    }
+
+    private List<IndexInfo> readIndices(Response response, CatListOptions options) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            Predicate<IndexInfo> filter = options.status() == null ? null : index -> hasStatus(index.status(), options.status());
+            return jsonCodec.readArray(inputStream, IndexInfo.class, filter, options.skip(), options.max());
+        }
+    }
+
+    // _cat/indices는 닫힌 인덱스를 "close"로 표시하므로 "closed" 필터와 맞춰 비교합니다.
+    private static boolean hasStatus(Object status, String expected) {
+        if ("closed".equals(expected)) {
+            return "close".equals(status) || "closed".equals(status);
+        }
+        return expected.equals(status);
+    }
+
+    private List<IndexInfo> readIndices(Response response) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            return parseIndices(inputStream);
         }
     }
 
     /**
-     * Elasticsearch _cat/indices API 응답의 원시 데이터를 클라이언트가 사용하기 쉬운 형태로 변환합니다.
-     * cat API 요청의 `h` 매개변수는 특정 필드를 반환하는 것을 목표로 합니다.
-     * 이 메서드는 해당 필드를 원하는 키에 매핑합니다.
-     *
-     * @param rawIndexData _cat/indices API로부터 받은 단일 인덱스에 대한 원시 Map 데이터
-     * @return 변환된 인덱스 정보 Map
+     * _cat/indices 응답 본문을 {@link IndexInfo} 목록으로 읽습니다. (벤치마크에서 직접 호출하기 위해 package-private)
      */
-    private Map<String, Object> transformIndexData(Map<String, Object> rawIndexData) {
-        Map<String, Object> index = new HashMap<>();
-        // 'h' 매개변수는 이러한 키가 존재하는지 확인해야 합니다.
-        // 'h'에도 불구하고 짧은 이름(예: 'docs.count'의 'dc')이 반환되는 경우,
-        // 이 매핑을 조정하거나 잠재적 키에 따라 우선 순위를 지정해야 할 수 있습니다.
-        index.put("index", rawIndexData.get("index"));
-        index.put("health", rawIndexData.get("health"));
-        index.put("status", rawIndexData.get("status"));
-        index.put("docsCount", rawIndexData.get("docs.count")); // or "dc"
-        index.put("docsDeleted", rawIndexData.get("docs.deleted")); // or "dd"
-        index.put("priStoreSize", rawIndexData.get("pri.store.size")); // or "pri.ss"
-        index.put("storeSize", rawIndexData.get("store.size")); // or "ss"
-        return index;
+    List<IndexInfo> parseIndices(InputStream inputStream) throws IOException {
+        return jsonCodec.readArray(inputStream, IndexInfo.class);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record IndexStatsResponse(Map<String, IndexStats> indices) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record IndexStats(PrimaryStats primaries) {
+        long changeCounter() {
+            if (primaries == null) {
+                return 0L;
+            }
+            long refreshes = primaries.refresh() == null ? 0L : primaries.refresh().total();
+            long indexed = primaries.indexing() == null ? 0L : primaries.indexing().indexTotal() + primaries.indexing().deleteTotal();
+            return refreshes + indexed;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record PrimaryStats(RefreshStats refresh, IndexingStats indexing) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record RefreshStats(long total) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record IndexingStats(@JsonProperty("index_total") long indexTotal, @JsonProperty("delete_total") long deleteTotal) {
     }
 }
@@ -1,20 +1,28 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
 import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Component
 public class ElasticsearchMappingsProvider {
 
     private final RestClient restClient;
+    private final JsonCodec jsonCodec;
 
-    public ElasticsearchMappingsProvider(RestClient restClient) {
+    public ElasticsearchMappingsProvider(RestClient restClient, JsonCodec jsonCodec) {
         this.restClient = restClient;
+        this.jsonCodec = jsonCodec;
     }
 
     /**
@@ -30,4 +38,60 @@ public class ElasticsearchMappingsProvider {
         // HTTP 응답 본문을 문자열로 변환
         return EntityUtils.toString(response.getEntity());
     }
+
+    /**
+     * {@link #getCatMappings(String)}의 비동기 버전입니다.
+     * @param index 대상 인덱스명
+     * @return 매핑 정보 JSON 문자열을 방출하는 Mono
+     */
+    public Mono<String> getCatMappingsAsync(String index) {
+        Request request = new Request("GET", "/" + index + "/_mapping");
+        return ReactiveRestClientSupport.performRequest(restClient, request, response -> EntityUtils.toString(response.getEntity()));
+    }
+
+    /**
+     * Elasticsearch: /_cluster/state/metadata/{index} API
+     * 지정된 인덱스(또는 패턴)에 해당하는 각 인덱스의 mapping_version만 조회합니다.
+     * filter_path로 버전 필드만 받아오므로 매핑 본문보다 훨씬 가볍습니다.
+     * @param index 대상 인덱스명 또는 패턴
+     * @return 인덱스명 -> mapping_version (인덱스명 순으로 정렬)
+     * @throws IOException API 호출 실패 시
+     */
+    public Map<String, Long> getMappingVersions(String index) throws IOException {
+        Response response = restClient.performRequest(mappingVersionsRequest(index));
+        return readMappingVersions(response);
+    }
+
+    /**
+     * {@link #getMappingVersions(String)}의 비동기 버전입니다.
+     */
+    public Mono<Map<String, Long>> getMappingVersionsAsync(String index) {
+        return ReactiveRestClientSupport.performRequest(restClient, mappingVersionsRequest(index), this::readMappingVersions);
+    }
+
+    private Request mappingVersionsRequest(String index) {
+        Request request = new Request("GET", "/_cluster/state/metadata/" + index);
+        request.addParameter("filter_path", "metadata.indices.*.mapping_version");
+        return request;
+    }
+
+    @SuppressWarnings("unchecked") // JSON 파싱 시 Map 캐스팅에 대한 경고를 무시합니다.
+    private Map<String, Long> readMappingVersions(Response response) throws IOException {
+        Map<String, Object> rootJsonMap;
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            rootJsonMap = jsonCodec.readerFor(JsonCodec.MAP).readValue(inputStream);
+        }
+
+        // 일치하는 인덱스가 없으면 filter_path 결과는 빈 객체({})입니다.
+        Map<String, Long> versions = new TreeMap<>();
+        Map<String, Object> metadata = (Map<String, Object>) rootJsonMap.get("metadata");
+        Map<String, Object> indices = metadata != null ? (Map<String, Object>) metadata.get("indices") : null;
+        if (indices != null) {
+            for (Map.Entry<String, Object> entry : indices.entrySet()) {
+                Object mappingVersion = ((Map<String, Object>) entry.getValue()).get("mapping_version");
+                versions.put(entry.getKey(), mappingVersion instanceof Number number ? number.longValue() : -1L);
+            }
+        }
+        return versions;
+    }
 }
@@ -0,0 +1,167 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * point-in-time(PIT)과 search_after를 이용한 페이지 단위 검색 API를 제공합니다.
+ * PIT 검색은 인덱스를 경로에 두지 않고 /_search로 보내며, 매 요청마다 keep_alive가 연장됩니다.
+ */
+@Component
+public class ElasticsearchPointInTimeProvider {
+
+    // 페이지 결과에 필요한 필드만 받아옵니다. sort는 다음 페이지의 search_after 값으로 사용합니다.
+    private static final String PAGE_FILTER_PATH =
+            "pit_id,took,timed_out,hits.total,hits.hits._index,hits.hits._id,hits.hits._source,hits.hits.sort";
+
+    private final RestClient restClient;
+    private final JsonCodec jsonCodec;
+    private final HttpCompression httpCompression;
+
+    public ElasticsearchPointInTimeProvider(RestClient restClient, JsonCodec jsonCodec, HttpCompression httpCompression) {
+        this.restClient = restClient;
+        this.jsonCodec = jsonCodec;
+        this.httpCompression = httpCompression;
+    }
+
+    /**
+     * Elasticsearch: POST /{index}/_pit API
+     * @param index 대상 인덱스명 또는 패턴
+     * @param keepAlive PIT 유지 시간 (예: "1m")
+     * @return 생성된 PIT id
+     * @throws IOException API 호출 실패 시
+     */
+    public String openPointInTime(String index, String keepAlive) throws IOException {
+        Response response = restClient.performRequest(openRequest(index, keepAlive));
+        return readPointInTimeId(response);
+    }
+
+    /**
+     * {@link #openPointInTime(String, String)}의 비동기 버전입니다.
+     */
+    public Mono<String> openPointInTimeAsync(String index, String keepAlive) {
+        return ReactiveRestClientSupport.performRequest(restClient, openRequest(index, keepAlive), this::readPointInTimeId);
+    }
+
+    /**
+     * Elasticsearch: POST /_search API (PIT + search_after)
+     * 쿼리의 from/pit 값은 무시하고, 정렬이 없으면 _score와 _shard_doc 순으로 정렬합니다.
+     *
+     * @param pointInTimeId 사용할 PIT id
+     * @param keepAlive 연장할 PIT 유지 시간
+     * @param query 검색 쿼리 (변경하지 않음)
+     * @param size 페이지 크기
+     * @param searchAfter 이전 페이지 마지막 히트의 sort 값 (첫 페이지는 null)
+     * @return filter_path로 줄인 검색 응답
+     * @throws IOException API 호출 실패 시
+     */
+    public JsonNode searchPage(String pointInTimeId, String keepAlive, ObjectNode query, int size, JsonNode searchAfter) throws IOException {
+        Response response = restClient.performRequest(searchPageRequest(pointInTimeId, keepAlive, query, size, searchAfter));
+        return readTree(response);
+    }
+
+    /**
+     * {@link #searchPage(String, String, ObjectNode, int, JsonNode)}의 비동기 버전입니다.
+     */
+    public Mono<JsonNode> searchPageAsync(String pointInTimeId, String keepAlive, ObjectNode query, int size, JsonNode searchAfter) {
+        return Mono.defer(() -> {
+            Request request;
+            try {
+                request = searchPageRequest(pointInTimeId, keepAlive, query, size, searchAfter);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return ReactiveRestClientSupport.performRequest(restClient, request, this::readTree);
+        });
+    }
+
+    /**
+     * Elasticsearch: DELETE /_pit API
+     * @param pointInTimeId 닫을 PIT id
+     * @return PIT가 정상적으로 해제되었는지 여부
+     * @throws IOException API 호출 실패 시
+     */
+    public boolean closePointInTime(String pointInTimeId) throws IOException {
+        Response response = restClient.performRequest(closeRequest(pointInTimeId));
+        return readSucceeded(response);
+    }
+
+    /**
+     * {@link #closePointInTime(String)}의 비동기 버전입니다.
+     */
+    public Mono<Boolean> closePointInTimeAsync(String pointInTimeId) {
+        return Mono.defer(() -> {
+            Request request;
+            try {
+                request = closeRequest(pointInTimeId);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return ReactiveRestClientSupport.performRequest(restClient, request, this::readSucceeded);
+        });
+    }
+
+    private Request openRequest(String index, String keepAlive) {
+        Request request = new Request("POST", "/" + index + "/_pit");
+        request.addParameter("keep_alive", keepAlive);
+        return request;
+    }
+
+    private Request searchPageRequest(String pointInTimeId, String keepAlive, ObjectNode query, int size, JsonNode searchAfter) throws IOException {
+        ObjectNode body = query.deepCopy();
+        body.remove("from");
+        body.put("size", size);
+        body.putObject("pit")
+                .put("id", pointInTimeId)
+                .put("keep_alive", keepAlive);
+        if (!body.has("sort")) {
+            body.putArray("sort").add("_score").add("_shard_doc");
+        }
+        if (searchAfter != null && !searchAfter.isNull()) {
+            body.set("search_after", searchAfter);
+        } else {
+            body.remove("search_after");
+        }
+
+        Request request = new Request("POST", "/_search");
+        request.addParameter("filter_path", PAGE_FILTER_PATH);
+        httpCompression.setJsonEntity(request, jsonCodec.objectMapper().writeValueAsString(body));
+        return request;
+    }
+
+    private Request closeRequest(String pointInTimeId) throws IOException {
+        ObjectNode body = jsonCodec.objectMapper().createObjectNode().put("id", pointInTimeId);
+        Request request = new Request("DELETE", "/_pit");
+        httpCompression.setJsonEntity(request, jsonCodec.objectMapper().writeValueAsString(body));
+        return request;
+    }
+
+    private String readPointInTimeId(Response response) throws IOException {
+        JsonNode id = readTree(response).get("id");
+        if (id == null || !id.isTextual()) {
+            throw new IOException("Point-in-time response did not contain an id");
+        }
+        return id.asText();
+    }
+
+    private boolean readSucceeded(Response response) throws IOException {
+        return readTree(response).path("succeeded").asBoolean(false);
+    }
+
+    private JsonNode readTree(Response response) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            return jsonCodec.objectMapper().readTree(inputStream);
+        }
+    }
+}
@@ -1,20 +1,53 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.infrastructures.elasticsearch.support.ReactiveRestClientSupport;
+import com.silbaram.github.infrastructures.elasticsearch.support.SearchHitsExtractor;
+import org.apache.http.entity.ContentType;
 import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
 
 @Component
 public class ElasticsearchSearchProvider {
 
+    // 스트리밍 검색에서 추출기가 읽는 필드만 받아오도록 응답을 줄입니다.
+    private static final String HITS_FILTER_PATH = "took,timed_out,hits.total,hits.hits._id,hits.hits._source,aggregations";
+    // 집계 결과와 샤드 실패만 받아옵니다. took은 서버 지표에 사용합니다.
+    private static final String AGGREGATIONS_FILTER_PATH = "took,timed_out,_shards.failures,aggregations";
+    private static final String COUNT_FILTER_PATH = "count,_shards.failures";
+    // 히트 목록에만 영향을 주므로 집계 전용 요청에서는 제거하는 항목
+    private static final Set<String> HIT_ONLY_KEYS = Set.of(
+            "from", "sort", "search_after", "_source", "fields", "docvalue_fields", "stored_fields", "script_fields",
+            "highlight", "collapse", "rescore", "track_scores", "explain", "version", "seq_no_primary_term"
+    );
+    // Elasticsearch의 기본 size 값
+    private static final int DEFAULT_SEARCH_SIZE = 10;
+    private static final ContentType NDJSON = ContentType.create("application/x-ndjson", StandardCharsets.UTF_8);
+
     private final RestClient restClient;
+    private final JsonCodec jsonCodec;
+    private final ElasticsearchProperties props;
+    private final HttpCompression httpCompression;
 
-    public ElasticsearchSearchProvider(RestClient restClient) {
+    public ElasticsearchSearchProvider(RestClient restClient, JsonCodec jsonCodec, ElasticsearchProperties props, HttpCompression httpCompression) {
         this.restClient = restClient;
+        this.jsonCodec = jsonCodec;
+        this.props = props;
+        this.httpCompression = httpCompression;
     }
 
     /**
@@ -28,11 +61,212 @@ public class ElasticsearchSearchProvider {
      */
     public String searchByIndex(String index, String queryBody) throws IOException {
         Request request = new Request("POST", "/" + index + "/_search");
-        // 요청 본문에 JSON 문자열 설정
-        request.setJsonEntity(queryBody);
+        // 요청 본문에 JSON 문자열 설정 (기준 크기 이상이면 gzip 압축)
+        httpCompression.setJsonEntity(request, queryBody);
 
         Response response = restClient.performRequest(request);
         // HTTP 응답 본문을 문자열로 변환
         return EntityUtils.toString(response.getEntity());
     }
+
+    /**
+     * {@link #searchByIndex(String, String)}의 비동기 버전입니다.
+     *
+     * @param index 대상 인덱스명
+     * @param queryBody 검색에 사용될 JSON 쿼리 문자열
+     * @return 검색 결과 JSON 문자열을 방출하는 Mono
+     */
+    public Mono<String> searchByIndexAsync(String index, String queryBody) {
+        Request request = new Request("POST", "/" + index + "/_search");
+        httpCompression.setJsonEntity(request, queryBody);
+        return ReactiveRestClientSupport.performRequest(restClient, request, response -> EntityUtils.toString(response.getEntity()));
+    }
+
+    /**
+     * Elasticsearch: /{index}/_search API (스트리밍 모드)
+     * 응답을 JsonParser로 점진적으로 읽어 hits.hits[*]._id/_source, 전체 히트 수, aggregations만 반환합니다.
+     * 최대 히트 수나 최대 바이트 수를 넘으면 나머지는 생략하고 truncated 표시를 남깁니다.
+     *
+     * @param index 대상 인덱스명
+     * @param queryBody 검색에 사용될 JSON 쿼리 문자열
+     * @param maxHits 반환할 최대 히트 수 (null이면 elasticsearch.search.streaming.max-hits)
+     * @param maxBytes 히트와 aggregations의 최대 바이트 수 (null이면 elasticsearch.search.streaming.max-bytes)
+     * @return 축약된 검색 결과 JSON 문자열
+     * @throws IOException API 호출 실패 또는 queryBody가 JSON 객체가 아닌 경우
+     */
+    public String searchHitsByIndex(String index, String queryBody, Integer maxHits, Long maxBytes) throws IOException {
+        int hitBudget = resolveMaxHits(maxHits);
+        long byteBudget = resolveMaxBytes(maxBytes);
+        Request request = searchHitsRequest(index, queryBody, hitBudget);
+        Response response = restClient.performRequest(request);
+        return readHits(response, hitBudget, byteBudget);
+    }
+
+    /**
+     * {@link #searchHitsByIndex(String, String, Integer, Long)}의 비동기 버전입니다.
+     */
+    public Mono<String> searchHitsByIndexAsync(String index, String queryBody, Integer maxHits, Long maxBytes) {
+        return Mono.defer(() -> {
+            int hitBudget = resolveMaxHits(maxHits);
+            long byteBudget = resolveMaxBytes(maxBytes);
+            Request request;
+            try {
+                request = searchHitsRequest(index, queryBody, hitBudget);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return ReactiveRestClientSupport.performRequest(restClient, request, response -> readHits(response, hitBudget, byteBudget));
+        });
+    }
+
+    /**
+     * 문서 없이 집계나 건수만 조회합니다.
+     * 쿼리에 aggregations가 없고 query 외에 히트 목록용 항목만 있으면 /{index}/_count를 사용하고,
+     * 그 밖에는 size: 0으로 /{index}/_search를 실행합니다. 두 경우 모두 filter_path로 결과 외의 필드를 제외합니다.
+     *
+     * @param index 대상 인덱스명
+     * @param queryBody 검색에 사용될 JSON 쿼리 문자열
+     * @param trackTotalHits true이면 전체 히트 수(hits.total)도 계산 (기본값: 계산하지 않음)
+     * @return _count 응답({"count": n}) 또는 aggregations만 남긴 _search 응답 JSON 문자열
+     * @throws IOException API 호출 실패 또는 queryBody가 JSON 객체가 아닌 경우
+     */
+    public String aggregateByIndex(String index, String queryBody, Boolean trackTotalHits) throws IOException {
+        Response response = restClient.performRequest(aggregationRequest(index, queryBody, trackTotalHits));
+        return EntityUtils.toString(response.getEntity());
+    }
+
+    /**
+     * {@link #aggregateByIndex(String, String, Boolean)}의 비동기 버전입니다.
+     */
+    public Mono<String> aggregateByIndexAsync(String index, String queryBody, Boolean trackTotalHits) {
+        return Mono.defer(() -> {
+            Request request;
+            try {
+                request = aggregationRequest(index, queryBody, trackTotalHits);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return ReactiveRestClientSupport.performRequest(restClient, request, response -> EntityUtils.toString(response.getEntity()));
+        });
+    }
+
+    /**
+     * Elasticsearch: /_msearch API
+     * 여러 (인덱스, 쿼리) 쌍을 하나의 NDJSON 요청으로 보내고, 각 쿼리의 결과 또는 오류를 요청 순서대로 담은 응답을 반환합니다.
+     *
+     * @param items 실행할 검색 목록
+     * @param maxConcurrentSearches 클러스터가 동시에 실행할 최대 검색 수 (null이면 elasticsearch.search.multi-search.max-concurrent-searches)
+     * @return responses 배열을 포함한 _msearch 응답 JSON 문자열
+     * @throws IOException API 호출 실패 또는 쿼리가 JSON 객체가 아닌 경우
+     */
+    public String multiSearch(List<MultiSearchItem> items, Integer maxConcurrentSearches) throws IOException {
+        Response response = restClient.performRequest(multiSearchRequest(items, maxConcurrentSearches));
+        return EntityUtils.toString(response.getEntity());
+    }
+
+    /**
+     * {@link #multiSearch(List, Integer)}의 비동기 버전입니다.
+     */
+    public Mono<String> multiSearchAsync(List<MultiSearchItem> items, Integer maxConcurrentSearches) {
+        return Mono.defer(() -> {
+            Request request;
+            try {
+                request = multiSearchRequest(items, maxConcurrentSearches);
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            return ReactiveRestClientSupport.performRequest(restClient, request, response -> EntityUtils.toString(response.getEntity()));
+        });
+    }
+
+    private Request multiSearchRequest(List<MultiSearchItem> items, Integer maxConcurrentSearches) throws IOException {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one search is required");
+        }
+        int maxQueries = props.getMultiSearch().getMaxQueries();
+        if (items.size() > maxQueries) {
+            throw new IllegalArgumentException("Too many searches in one batch: " + items.size() + " (max " + maxQueries + ")");
+        }
+
+        // NDJSON: 검색마다 헤더 한 줄과 본문 한 줄, 마지막 줄도 개행으로 끝나야 합니다.
+        StringBuilder body = new StringBuilder();
+        for (MultiSearchItem item : items) {
+            ObjectNode header = jsonCodec.objectMapper().createObjectNode().put("index", item.index());
+            body.append(jsonCodec.objectMapper().writeValueAsString(header)).append('\n');
+            body.append(jsonCodec.objectMapper().writeValueAsString(jsonCodec.readQuery(item.queryBody()))).append('\n');
+        }
+
+        Request request = new Request("POST", "/_msearch");
+        int concurrency = maxConcurrentSearches != null && maxConcurrentSearches > 0
+                ? maxConcurrentSearches
+                : props.getMultiSearch().getMaxConcurrentSearches();
+        if (concurrency > 0) {
+            request.addParameter("max_concurrent_searches", Integer.toString(concurrency));
+        }
+        httpCompression.setEntity(request, body.toString(), NDJSON);
+        return request;
+    }
+
+    private Request searchHitsRequest(String index, String queryBody, int maxHits) throws IOException {
+        ObjectNode query = jsonCodec.readQuery(queryBody);
+        // 예산보다 많은 문서를 클러스터가 가져오지 않도록 size를 제한합니다.
+        // 예산 + 1건을 요청해 잘린 결과가 있는지 추출기가 알 수 있게 합니다.
+        JsonNode size = query.get("size");
+        int requestedSize = size != null && size.canConvertToInt() ? size.asInt() : DEFAULT_SEARCH_SIZE;
+        if (requestedSize > maxHits) {
+            query.put("size", maxHits + 1);
+        }
+
+        Request request = new Request("POST", "/" + index + "/_search");
+        request.addParameter("filter_path", HITS_FILTER_PATH);
+        httpCompression.setJsonEntity(request, jsonCodec.objectMapper().writeValueAsString(query));
+        return request;
+    }
+
+    private Request aggregationRequest(String index, String queryBody, Boolean trackTotalHits) throws IOException {
+        ObjectNode query = jsonCodec.readQuery(queryBody);
+        query.remove(HIT_ONLY_KEYS);
+        query.remove("size");
+        query.remove("track_total_hits");
+        boolean hasAggregations = query.has("aggs") || query.has("aggregations");
+
+        // _count는 query만 받으므로, 다른 검색 옵션(runtime_mappings, min_score 등)이 남아 있으면 _search를 사용합니다.
+        if (!hasAggregations && (query.isEmpty() || (query.size() == 1 && query.has("query")))) {
+            Request request = new Request("POST", "/" + index + "/_count");
+            request.addParameter("filter_path", COUNT_FILTER_PATH);
+            httpCompression.setJsonEntity(request, jsonCodec.objectMapper().writeValueAsString(query));
+            return request;
+        }
+
+        boolean track = Boolean.TRUE.equals(trackTotalHits);
+        query.put("size", 0);
+        query.put("track_total_hits", track);
+        Request request = new Request("POST", "/" + index + "/_search");
+        request.addParameter("filter_path", track ? AGGREGATIONS_FILTER_PATH + ",hits.total" : AGGREGATIONS_FILTER_PATH);
+        httpCompression.setJsonEntity(request, jsonCodec.objectMapper().writeValueAsString(query));
+        return request;
+    }
+
+    private String readHits(Response response, int maxHits, long maxBytes) throws IOException {
+        try (InputStream inputStream = response.getEntity().getContent()) {
+            return new SearchHitsExtractor(jsonCodec.jsonFactory()).extract(inputStream, maxHits, maxBytes);
+        }
+    }
+
+    private int resolveMaxHits(Integer maxHits) {
+        return maxHits != null && maxHits > 0 ? maxHits : props.getStreaming().getMaxHits();
+    }
+
+    private long resolveMaxBytes(Long maxBytes) {
+        return maxBytes != null && maxBytes > 0 ? maxBytes : props.getStreaming().getMaxBytes().toBytes();
+    }
+
+    /**
+     * _msearch로 실행할 검색 하나를 나타냅니다.
+     *
+     * @param index 대상 인덱스명
+     * @param queryBody 검색에 사용될 JSON 쿼리 문자열
+     */
+    public record MultiSearchItem(String index, String queryBody) {
+    }
 }
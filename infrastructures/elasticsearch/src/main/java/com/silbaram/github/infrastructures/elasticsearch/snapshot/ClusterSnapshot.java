@@ -0,0 +1,36 @@
+package com.silbaram.github.infrastructures.elasticsearch.snapshot;
+
+import com.silbaram.github.infrastructures.elasticsearch.model.AllocationInfo;
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterStatistics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번의 폴링으로 함께 수집한 클러스터 상태의 불변 스냅샷입니다.
+ *
+ * @param health _cluster/health 결과
+ * @param statistics _cluster/stats 결과
+ * @param allocation _cat/allocation 결과
+ * @param capturedAtMillis 수집이 끝난 시각 (epoch millis)
+ */
+public record ClusterSnapshot(
+        Map<String, String> health,
+        ClusterStatistics statistics,
+        List<AllocationInfo> allocation,
+        long capturedAtMillis
+) {
+
+    public ClusterSnapshot {
+        health = Collections.unmodifiableMap(health);
+        allocation = List.copyOf(allocation);
+    }
+
+    /**
+     * @return 스냅샷 수집 후 지난 시간 (밀리초)
+     */
+    public long ageMillis() {
+        return Math.max(0L, System.currentTimeMillis() - capturedAtMillis);
+    }
+}
@@ -0,0 +1,111 @@
+package com.silbaram.github.infrastructures.elasticsearch.snapshot;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchCatAllocationProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchClusterStatisticsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchHealthProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * _cluster/health, _cluster/stats, _cat/allocation을 고정 주기로 함께 조회해 메모리에 보관하는 폴러입니다.
+ * <p>
+ * elasticsearch.search.snapshot.enabled가 true일 때만 동작하며, 도구 호출 수와 관계없이 클러스터에는
+ * 주기당 세 번의 요청만 발생합니다. 갱신이 실패하면 이전 스냅샷을 유지하고, max-age보다 오래된 스냅샷은
+ * {@link #current()}에서 반환하지 않아 호출자가 직접 조회하도록 합니다.
+ */
+@Component
+public class ClusterSnapshotPoller implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterSnapshotPoller.class);
+
+    private final ElasticsearchHealthProvider healthProvider;
+    private final ElasticsearchClusterStatisticsProvider statisticsProvider;
+    private final ElasticsearchCatAllocationProvider allocationProvider;
+    private final ElasticsearchProperties.Snapshot settings;
+
+    private final AtomicReference<ClusterSnapshot> snapshot = new AtomicReference<>();
+    private volatile Disposable polling;
+
+    public ClusterSnapshotPoller(
+            ElasticsearchHealthProvider healthProvider,
+            ElasticsearchClusterStatisticsProvider statisticsProvider,
+            ElasticsearchCatAllocationProvider allocationProvider,
+            ElasticsearchProperties props
+    ) {
+        this.healthProvider = healthProvider;
+        this.statisticsProvider = statisticsProvider;
+        this.allocationProvider = allocationProvider;
+        this.settings = props.getSnapshot();
+    }
+
+    /**
+     * max-age 이내의 최신 스냅샷을 반환합니다.
+     * @return 사용할 수 있는 스냅샷, 폴링이 꺼져 있거나 스냅샷이 없거나 오래되었으면 비어 있음
+     */
+    public Optional<ClusterSnapshot> current() {
+        ClusterSnapshot current = snapshot.get();
+        if (current == null || current.ageMillis() > settings.getMaxAge().toMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    /**
+     * 세 API를 동시에 호출해 새 스냅샷을 만들고 보관합니다.
+     * @return 새로 만든 스냅샷을 방출하는 Mono
+     */
+    public Mono<ClusterSnapshot> refresh() {
+        return Mono.zip(
+                        healthProvider.getClusterHealthAsync(),
+                        statisticsProvider.getClusterStatisticsAsync(),
+                        allocationProvider.getCatAllocationAsync()
+                )
+                .map(tuple -> new ClusterSnapshot(tuple.getT1(), tuple.getT2(), tuple.getT3(), System.currentTimeMillis()))
+                .doOnNext(snapshot::set);
+    }
+
+    @Override
+    public void start() {
+        if (!settings.isEnabled() || polling != null) {
+            return;
+        }
+        Duration interval = settings.getInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            logger.warn("Cluster snapshot polling is enabled but interval is not positive; polling is disabled.");
+            return;
+        }
+        // 이전 갱신이 끝나기 전의 tick은 버려서 느린 클러스터에 요청이 쌓이지 않도록 합니다.
+        polling = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(e -> {
+                            logger.warn("Failed to refresh cluster snapshot: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 0)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = polling;
+        if (current != null) {
+            current.dispose();
+            polling = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return polling != null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import org.elasticsearch.client.Request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * _cat 목록 조회(인덱스, 별칭)의 필터, 정렬, 범위 조건입니다.
+ * health, status, sort는 _cat 요청 파라미터(health, expand_wildcards, s)로 클러스터에 전달되고,
+ * _cat API에 해당 파라미터가 없는 offset, limit은 응답을 스트리밍으로 읽으면서 적용되어 필요한 행만 객체로 만듭니다.
+ * expand_wildcards는 와일드카드 확장에만 영향을 주므로 status는 응답을 읽을 때도 한 번 더 적용됩니다.
+ *
+ * @param health 인덱스 상태 필터 (green, yellow, red), null이면 전체
+ * @param status 인덱스 열림 상태 필터 (open, closed), null이면 전체
+ * @param sort 정렬 키 목록 (열 이름 또는 _cat 필드명, 선택적으로 ":asc" 또는 ":desc")
+ * @param offset 건너뛸 행 수, null이면 0
+ * @param limit 반환할 최대 행 수, null이면 제한 없음
+ */
+public record CatListOptions(String health, String status, List<String> sort, Integer offset, Integer limit) {
+
+    public static final CatListOptions NONE = new CatListOptions(null, null, null, null, null);
+
+    private static final Set<String> HEALTH_VALUES = Set.of("green", "yellow", "red");
+    private static final Set<String> STATUS_VALUES = Set.of("open", "closed");
+
+    public CatListOptions {
+        health = normalize(health, HEALTH_VALUES, "health");
+        status = normalize(status, STATUS_VALUES, "status");
+        sort = sort == null ? List.of() : sort.stream().map(String::trim).filter(key -> !key.isEmpty()).toList();
+        if (offset != null && offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative: " + offset);
+        }
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+    }
+
+    /**
+     * @return 건너뛸 행 수
+     */
+    public int skip() {
+        return offset == null ? 0 : offset;
+    }
+
+    /**
+     * @return 반환할 최대 행 수 (제한이 없으면 Integer.MAX_VALUE)
+     */
+    public int max() {
+        return limit == null ? Integer.MAX_VALUE : limit;
+    }
+
+    /**
+     * 정렬 키를 _cat 필드명으로 바꿔 요청의 s 파라미터로 추가합니다.
+     * 정렬 키는 결과 열 이름(예: docsCount)과 _cat 필드명(예: docs.count) 모두 사용할 수 있습니다.
+     *
+     * @param request 파라미터를 추가할 _cat 요청
+     * @param columns 정렬할 수 있는 열 목록
+     * @throws IllegalArgumentException 알 수 없는 열이나 방향이 지정된 경우
+     */
+    public void addSortParameter(Request request, List<CatTableReader.Column> columns) {
+        if (sort.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(sort.size());
+        for (String key : sort) {
+            int separator = key.indexOf(':');
+            String name = separator < 0 ? key : key.substring(0, separator);
+            String direction = separator < 0 ? null : key.substring(separator + 1).toLowerCase(Locale.ROOT);
+            if (direction != null && !direction.equals("asc") && !direction.equals("desc")) {
+                throw new IllegalArgumentException("Unknown sort direction '" + direction + "' in '" + key + "', expected 'asc' or 'desc'");
+            }
+            String field = columns.stream()
+                    .filter(column -> column.name().equals(name) || column.field().equals(name))
+                    .map(CatTableReader.Column::field)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown sort column '" + name + "'"));
+            keys.add(direction == null ? field : field + ":" + direction);
+        }
+        request.addParameter("s", String.join(",", keys));
+    }
+
+    private static String normalize(String value, Set<String> allowed, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (!allowed.contains(normalized)) {
+            throw new IllegalArgumentException("Unknown " + name + " '" + value + "', expected one of " + allowed);
+        }
+        return normalized;
+    }
+}
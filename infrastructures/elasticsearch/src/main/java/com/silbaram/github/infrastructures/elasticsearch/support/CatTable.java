@@ -0,0 +1,61 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * _cat 응답을 열 이름 배열 하나와 행 값 배열들로 표현한 컬럼형 결과입니다.
+ * 행마다 키 이름을 반복하지 않으므로 행 수가 많을수록 직렬화 크기가 크게 줄어듭니다.
+ * <pre>
+ * {"columns":["index","health"],"rows":[["logs-1","green"],["logs-2","yellow"]]}
+ * </pre>
+ *
+ * @param columns 열 이름 목록
+ * @param rows 각 행의 값 목록 (columns와 같은 순서, 없는 값은 null)
+ */
+public record CatTable(List<String> columns, List<List<Object>> rows) {
+
+    /**
+     * 레코드 목록을 컬럼형으로 변환합니다. 열은 레코드 구성 요소의 선언 순서와 이름을 따릅니다.
+     *
+     * @param type 레코드 타입
+     * @param records 변환할 레코드 목록
+     */
+    public static <R extends Record> CatTable fromRecords(Class<R> type, List<R> records) {
+        RecordComponent[] components = type.getRecordComponents();
+        List<String> columns = new ArrayList<>(components.length);
+        for (RecordComponent component : components) {
+            columns.add(component.getName());
+        }
+        List<List<Object>> rows = new ArrayList<>(records.size());
+        for (R record : records) {
+            Object[] values = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                try {
+                    values[i] = components[i].getAccessor().invoke(record);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot read record component " + components[i].getName(), e);
+                }
+            }
+            rows.add(Arrays.asList(values));
+        }
+        return new CatTable(columns, rows);
+    }
+
+    /**
+     * 모든 행에 같은 값을 가진 열을 끝에 추가한 새 결과를 반환합니다.
+     */
+    public CatTable withColumn(String name, Object value) {
+        List<String> newColumns = new ArrayList<>(columns);
+        newColumns.add(name);
+        List<List<Object>> newRows = new ArrayList<>(rows.size());
+        for (List<Object> row : rows) {
+            List<Object> newRow = new ArrayList<>(row);
+            newRow.add(value);
+            newRows.add(newRow);
+        }
+        return new CatTable(newColumns, newRows);
+    }
+}
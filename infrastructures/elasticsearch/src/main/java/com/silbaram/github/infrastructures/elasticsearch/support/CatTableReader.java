@@ -0,0 +1,141 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * _cat API의 format=json 응답(객체 배열)을 JsonParser로 읽어 바로 {@link CatTable}로 만듭니다.
+ * 행마다 Map을 만들지 않고 열 위치가 정해진 배열에 값을 채우므로, 행 수가 많아도 할당이 적습니다.
+ */
+public class CatTableReader {
+
+    private final JsonFactory jsonFactory;
+
+    public CatTableReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 지정된 열만 읽습니다. 응답의 나머지 필드는 건너뜁니다.
+     *
+     * @param inputStream _cat 응답 본문
+     * @param columns 읽을 응답 필드와 결과 열 이름
+     * @param rowFilter 결과에 포함할 행 조건 (값 배열은 columns 순서)
+     * @return 컬럼형 결과
+     * @throws IOException 응답이 JSON 배열이 아닌 경우
+     */
+    public CatTable read(InputStream inputStream, List<Column> columns, Predicate<Object[]> rowFilter) throws IOException {
+        return read(inputStream, columns, rowFilter, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 지정된 열만 읽되, 행 조건을 통과한 행 중 앞의 offset개를 건너뛰고 최대 limit개만 결과에 담습니다.
+     * limit개를 채우면 나머지 응답은 읽지 않습니다.
+     *
+     * @param inputStream _cat 응답 본문
+     * @param columns 읽을 응답 필드와 결과 열 이름
+     * @param rowFilter 결과에 포함할 행 조건 (값 배열은 columns 순서)
+     * @param offset 건너뛸 행 수
+     * @param limit 결과에 담을 최대 행 수
+     * @return 컬럼형 결과
+     * @throws IOException 응답이 JSON 배열이 아닌 경우
+     */
+    public CatTable read(InputStream inputStream, List<Column> columns, Predicate<Object[]> rowFilter, int offset, int limit) throws IOException {
+        Map<String, Integer> fieldIndex = new HashMap<>(columns.size() * 2);
+        List<String> names = new ArrayList<>(columns.size());
+        boolean[] numeric = new boolean[columns.size()];
+        for (Column column : columns) {
+            numeric[names.size()] = column.numeric();
+            fieldIndex.put(column.field(), names.size());
+            names.add(column.name());
+        }
+
+        List<List<Object>> rows = new ArrayList<>();
+        int skipped = 0;
+        try (JsonParser parser = startArray(inputStream)) {
+            while (rows.size() < limit && parser.nextToken() == JsonToken.START_OBJECT) {
+                Object[] row = new Object[names.size()];
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Integer index = fieldIndex.get(parser.currentName());
+                    JsonToken valueToken = parser.nextToken();
+                    if (index == null) {
+                        parser.skipChildren();
+                    } else {
+                        Object value = scalarValue(parser, valueToken);
+                        row[index] = numeric[index] && value instanceof String text ? parseNumber(text) : value;
+                    }
+                }
+                if (rowFilter != null && !rowFilter.test(row)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    rows.add(Arrays.asList(row));
+                }
+            }
+        }
+        return new CatTable(names, rows);
+    }
+
+    private JsonParser startArray(InputStream inputStream) throws IOException {
+        JsonParser parser = jsonFactory.createParser(inputStream);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("Unexpected _cat response: expected a JSON array");
+        }
+        return parser;
+    }
+
+    private static Object scalarValue(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case START_OBJECT, START_ARRAY -> {
+                // _cat 응답의 값은 스칼라이므로 중첩 구조는 건너뜁니다.
+                parser.skipChildren();
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    // _cat API는 숫자도 문자열로 반환하므로 숫자 열은 여기서 변환합니다. 숫자가 아니면 원래 문자열을 유지합니다.
+    private static Object parseNumber(String text) {
+        try {
+            return Long.valueOf(text);
+        } catch (NumberFormatException notLong) {
+            try {
+                return Double.valueOf(text);
+            } catch (NumberFormatException notNumber) {
+                return text;
+            }
+        }
+    }
+
+    /**
+     * 읽을 응답 필드와 결과 열 이름입니다.
+     *
+     * @param field _cat 응답의 필드명
+     * @param name 결과에 사용할 열 이름
+     * @param numeric true이면 문자열 값을 숫자로 변환
+     */
+    public record Column(String field, String name, boolean numeric) {
+
+        public Column(String field, String name) {
+            this(field, name, false);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import org.apache.http.ConnectionClosedException;
+import org.elasticsearch.client.ResponseException;
+import reactor.core.Exceptions;
+
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * provider 호출이 실패한 원인을 분류하는 유틸리티입니다.
+ */
+public final class ElasticsearchErrors {
+
+    private ElasticsearchErrors() {
+    }
+
+    /**
+     * 예외(또는 그 원인)에 포함된 Elasticsearch 응답의 HTTP 상태 코드를 반환합니다.
+     *
+     * @param throwable provider 호출에서 발생한 예외
+     * @return 상태 코드, 응답을 받지 못한 실패(연결 실패, 타임아웃 등)이면 -1
+     */
+    public static int statusCode(Throwable throwable) {
+        Throwable current = throwable == null ? null : Exceptions.unwrap(throwable);
+        while (current != null) {
+            if (current instanceof ResponseException responseException) {
+                return responseException.getResponse().getStatusLine().getStatusCode();
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return -1;
+    }
+
+    /**
+     * 클러스터 과부하나 장애를 나타내는 실패인지 확인합니다.
+     * 429, 5xx 응답과 연결 실패, 타임아웃이 해당하며, 잘못된 쿼리 같은 4xx 응답이나 JSON 오류는 해당하지 않습니다.
+     */
+    public static boolean isClusterFailure(Throwable throwable) {
+        int status = statusCode(throwable);
+        if (status >= 0) {
+            return status == 429 || status >= 500;
+        }
+        Throwable current = throwable == null ? null : Exceptions.unwrap(throwable);
+        while (current != null) {
+            if (current instanceof SocketException
+                    || current instanceof InterruptedIOException
+                    || current instanceof ConnectionClosedException
+                    || current instanceof TimeoutException) {
+                return true;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.entity.NStringEntity;
+import org.apache.http.protocol.HttpContext;
+import org.elasticsearch.client.Request;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Elasticsearch와 주고받는 HTTP 본문의 gzip 압축을 담당합니다 (elasticsearch.search.compression.*).
+ * <p>
+ * 사용 시 모든 요청에 Accept-Encoding: gzip 헤더를 붙여 응답을 압축해 받고(해제는 RestClient가 처리),
+ * 요청 본문은 request-threshold 이상일 때만 gzip으로 압축해 Content-Encoding: gzip으로 보냅니다.
+ * RestClient의 setCompressionEnabled는 크기와 관계없이 모든 본문을 압축하므로, 본문을 만드는 provider가 이 클래스를 거쳐 설정합니다.
+ */
+public class HttpCompression implements HttpResponseInterceptor {
+
+    private static final String GZIP = "gzip";
+
+    private final boolean enabled;
+    private final long requestThresholdBytes;
+
+    private final LongAdder compressedRequests = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder compressedRequestBytes = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+
+    public HttpCompression(ElasticsearchProperties props) {
+        ElasticsearchProperties.Compression settings = props.getCompression();
+        this.enabled = settings.isEnabled();
+        this.requestThresholdBytes = settings.getRequestThreshold().toBytes();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return RestClient의 기본 헤더로 설정할 헤더 목록 (압축을 사용하지 않으면 빈 배열)
+     */
+    public Header[] defaultHeaders() {
+        return enabled ? new Header[]{new BasicHeader("Accept-Encoding", GZIP)} : new Header[0];
+    }
+
+    /**
+     * JSON 본문을 요청에 설정합니다. {@link Request#setJsonEntity(String)}와 같지만 기준 크기 이상이면 압축합니다.
+     */
+    public void setJsonEntity(Request request, String json) {
+        setEntity(request, json, ContentType.APPLICATION_JSON);
+    }
+
+    /**
+     * 본문을 요청에 설정하고, 압축을 사용하며 본문이 request-threshold 이상이면 gzip으로 압축합니다.
+     *
+     * @param request 본문을 설정할 요청
+     * @param body 요청 본문
+     * @param contentType 본문의 Content-Type
+     */
+    public void setEntity(Request request, String body, ContentType contentType) {
+        if (!enabled) {
+            request.setEntity(new NStringEntity(body, contentType));
+            return;
+        }
+        byte[] bytes = body.getBytes(contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8);
+        if (bytes.length < requestThresholdBytes) {
+            request.setEntity(new NByteArrayEntity(bytes, contentType));
+            return;
+        }
+        byte[] compressed = gzip(bytes);
+        NByteArrayEntity entity = new NByteArrayEntity(compressed, contentType);
+        entity.setContentEncoding(GZIP);
+        request.setEntity(entity);
+
+        compressedRequests.increment();
+        requestBytes.add(bytes.length);
+        compressedRequestBytes.add(compressed.length);
+    }
+
+    /**
+     * gzip으로 압축된 응답 수를 셉니다. 본문은 RestClient가 응답을 받은 뒤 해제하므로 여기서는 헤더만 확인합니다.
+     */
+    @Override
+    public void process(HttpResponse response, HttpContext context) {
+        Header contentEncoding = response.getFirstHeader("Content-Encoding");
+        if (contentEncoding != null && GZIP.equalsIgnoreCase(contentEncoding.getValue())) {
+            compressedResponses.increment();
+        }
+    }
+
+    /**
+     * @return 현재까지의 누적 압축 통계
+     */
+    public HttpCompressionStats stats() {
+        return new HttpCompressionStats(
+                compressedRequests.sum(),
+                requestBytes.sum(),
+                compressedRequestBytes.sum(),
+                compressedResponses.sum()
+        );
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // 메모리 스트림에 쓰므로 발생하지 않습니다.
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,19 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+/**
+ * HTTP 압축의 누적 통계입니다.
+ *
+ * @param compressedRequests 본문을 압축해 보낸 요청 수
+ * @param requestBytes 압축한 요청 본문의 원래 크기 합계
+ * @param compressedRequestBytes 압축한 요청 본문의 압축 후 크기 합계
+ * @param compressedResponses gzip으로 압축되어 받은 응답 수
+ */
+public record HttpCompressionStats(long compressedRequests, long requestBytes, long compressedRequestBytes, long compressedResponses) {
+
+    /**
+     * @return 요청 본문 압축으로 줄어든 전송 바이트 수
+     */
+    public long requestBytesSaved() {
+        return requestBytes - compressedRequestBytes;
+    }
+}
@@ -0,0 +1,133 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * 모든 provider가 공유하는 JSON 코덱입니다.
+ * 대상 타입별로 한 번 만든 {@link ObjectReader}를 캐시하므로, 요청마다 ObjectMapper를 만들거나
+ * 타입 정보를 다시 해석하는 비용 없이 응답을 역직렬화할 수 있습니다.
+ * ObjectReader는 불변이며 스레드 안전하므로 여러 요청에서 동시에 사용해도 됩니다.
+ */
+public class JsonCodec {
+
+    /** _cat API 응답처럼 객체 배열로 된 JSON 타입 */
+    public static final TypeReference<List<Map<String, Object>>> LIST_OF_MAPS = new TypeReference<List<Map<String, Object>>>() {};
+
+    /** 단일 JSON 객체 타입 */
+    public static final TypeReference<Map<String, Object>> MAP = new TypeReference<Map<String, Object>>() {};
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonCodec() {
+        this(false);
+    }
+
+    /**
+     * @param bytecodeAcceleration true이면 Blackbird 모듈을 등록해 리플렉션 대신 생성된 접근자로 필드를 채웁니다.
+     */
+    public JsonCodec(boolean bytecodeAcceleration) {
+        ObjectMapper mapper = new ObjectMapper();
+        if (bytecodeAcceleration) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        this.objectMapper = mapper;
+    }
+
+    public ObjectReader readerFor(TypeReference<?> type) {
+        return readerFor(objectMapper.getTypeFactory().constructType(type));
+    }
+
+    public ObjectReader readerFor(Class<?> type) {
+        return readerFor(objectMapper.getTypeFactory().constructType(type));
+    }
+
+    public ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * _cat 응답처럼 객체 배열로 된 JSON을 원소 하나씩 스트리밍으로 읽어 대상 타입 목록으로 만듭니다.
+     * 조건을 통과한 원소 중 앞의 offset개는 버리고, limit개를 채우면 나머지 입력은 읽지 않습니다.
+     *
+     * @param inputStream 객체 배열 JSON
+     * @param type 원소 타입
+     * @param filter 결과에 포함할 원소 조건 (null이면 전체)
+     * @param offset 건너뛸 원소 수
+     * @param limit 결과에 담을 최대 원소 수
+     * @return 읽은 원소 목록
+     * @throws IOException JSON을 읽거나 변환하지 못한 경우
+     */
+    public <T> List<T> readArray(InputStream inputStream, Class<T> type, Predicate<? super T> filter, int offset, int limit) throws IOException {
+        List<T> result = new ArrayList<>();
+        int skipped = 0;
+        try (MappingIterator<T> values = readerFor(type).readValues(inputStream)) {
+            while (result.size() < limit && values.hasNextValue()) {
+                T value = values.nextValue();
+                if (filter != null && !filter.test(value)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 객체 배열 JSON 전체를 대상 타입 목록으로 읽습니다.
+     */
+    public <T> List<T> readArray(InputStream inputStream, Class<T> type) throws IOException {
+        return readArray(inputStream, type, null, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 도구 인자로 받은 검색 쿼리 JSON을 수정할 수 있는 객체 노드로 읽습니다. 비어 있으면 빈 객체를 반환합니다.
+     *
+     * @throws IOException 올바른 JSON이 아니거나 JSON 객체가 아닌 경우
+     */
+    public ObjectNode readQuery(String queryBody) throws IOException {
+        if (queryBody == null || queryBody.isBlank()) {
+            return objectMapper.createObjectNode();
+        }
+        JsonNode node = objectMapper.readTree(queryBody);
+        if (!(node instanceof ObjectNode objectNode)) {
+            throw new IOException("queryBody must be a JSON object");
+        }
+        return objectNode;
+    }
+
+    /**
+     * 쓰기나 트리 조작이 필요한 경우에 사용하는 공유 ObjectMapper입니다. 설정을 변경해서는 안 됩니다.
+     */
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * 스트리밍 파서/생성기를 만들 때 사용하는 JsonFactory입니다.
+     */
+    public JsonFactory jsonFactory() {
+        return objectMapper.getFactory();
+    }
+}
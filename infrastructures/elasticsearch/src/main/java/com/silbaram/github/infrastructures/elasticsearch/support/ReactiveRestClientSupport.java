@@ -0,0 +1,60 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import org.elasticsearch.client.Cancellable;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * RestClient의 비동기 API(performRequestAsync)를 Reactor {@link Mono}로 감싸는 유틸리티입니다.
+ * 요청 스레드를 점유하지 않으므로 여러 도구 호출의 Elasticsearch 왕복이 서로 겹쳐서 진행될 수 있습니다.
+ */
+public final class ReactiveRestClientSupport {
+
+    private ReactiveRestClientSupport() {
+    }
+
+    /**
+     * 요청을 비동기로 실행하고, 응답을 주어진 reader로 변환한 결과를 Mono로 반환합니다.
+     * 구독이 취소되면 진행 중인 HTTP 요청도 함께 취소됩니다.
+     *
+     * @param restClient 요청을 보낼 RestClient
+     * @param request 실행할 요청
+     * @param reader 응답을 결과 객체로 변환하는 함수
+     * @return 변환된 결과를 방출하는 Mono (reader가 null을 반환하면 비어 있는 Mono)
+     */
+    public static <T> Mono<T> performRequest(RestClient restClient, Request request, ResponseReader<T> reader) {
+        return Mono.create(sink -> {
+            Cancellable cancellable = restClient.performRequestAsync(request, new ResponseListener() {
+                @Override
+                public void onSuccess(Response response) {
+                    try {
+                        sink.success(reader.read(response));
+                    } catch (IOException | RuntimeException e) {
+                        sink.error(e);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    sink.error(exception);
+                }
+            });
+            if (cancellable != null) {
+                sink.onCancel(cancellable::cancel);
+            }
+        });
+    }
+
+    /**
+     * Elasticsearch 응답을 결과 객체로 변환하는 함수입니다.
+     */
+    @FunctionalInterface
+    public interface ResponseReader<T> {
+        T read(Response response) throws IOException;
+    }
+}
@@ -0,0 +1,289 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * _search 응답을 JsonParser로 한 토큰씩 읽으면서 필요한 부분만 골라내는 추출기입니다.
+ * <p>
+ * took, timed_out, hits.total, hits.hits[*]._id/_source, aggregations만 출력하며,
+ * 히트 수(maxHits)나 출력 바이트(maxBytes) 예산을 넘으면 나머지 히트는 구조만 건너뛰고
+ * truncated 표시를 남깁니다. 응답 전체를 트리나 문자열로 만들지 않고, 히트와 aggregations도
+ * 복사하는 도중 남은 바이트 예산을 넘으면 복사를 멈추고 나머지를 건너뛰므로
+ * 출력 크기와 작업 메모리 모두 예산으로 제한됩니다.
+ * <p>
+ * omitted_hits는 일치한 문서 중 결과에 포함되지 않은 수(hits.total - returned_hits)이며,
+ * omitted_hits_relation은 hits.total의 relation을 따릅니다. hits.total이 없으면(track_total_hits=false)
+ * 응답에서 건너뛴 히트 수를 세고, 잘린 경우에는 더 있을 수 있으므로 gte로 표시합니다.
+ * <pre>
+ * {"took":3,"timed_out":false,"total":{"value":120,"relation":"eq"},
+ *  "hits":[{"_id":"1","_source":{...}}],"aggregations":{...},
+ *  "returned_hits":1,"omitted_hits":119,"omitted_hits_relation":"eq","truncated":true,"truncated_reason":"max_hits"}
+ * </pre>
+ */
+public class SearchHitsExtractor {
+
+    public static final String REASON_MAX_HITS = "max_hits";
+    public static final String REASON_MAX_BYTES = "max_bytes";
+
+    private static final String RELATION_EQ = "eq";
+    private static final String RELATION_GTE = "gte";
+
+    private final JsonFactory jsonFactory;
+
+    public SearchHitsExtractor(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * @param inputStream _search 응답 본문
+     * @param maxHits 출력할 최대 히트 수
+     * @param maxBytes 히트와 aggregations에 사용할 최대 출력 바이트 수
+     * @return 축약된 검색 결과 JSON 문자열
+     * @throws IOException 응답이 올바른 JSON 객체가 아닌 경우
+     */
+    public String extract(InputStream inputStream, int maxHits, long maxBytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Budget budget = new Budget(maxHits, maxBytes);
+
+        try (JsonParser parser = jsonFactory.createParser(inputStream);
+             JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected search response: expected a JSON object");
+            }
+
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (field) {
+                    case "took", "timed_out" -> {
+                        generator.writeFieldName(field);
+                        generator.copyCurrentStructure(parser);
+                    }
+                    case "hits" -> {
+                        if (valueToken == JsonToken.START_OBJECT) {
+                            readHitsObject(parser, generator, budget);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "aggregations" -> copyAggregations(parser, generator, budget);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            generator.writeNumberField("returned_hits", budget.returnedHits);
+            if (budget.totalHits >= 0) {
+                generator.writeNumberField("omitted_hits", Math.max(0L, budget.totalHits - budget.returnedHits));
+                generator.writeStringField("omitted_hits_relation", budget.totalRelation);
+            } else {
+                generator.writeNumberField("omitted_hits", budget.omittedHits);
+                generator.writeStringField("omitted_hits_relation", budget.truncatedReason != null ? RELATION_GTE : RELATION_EQ);
+            }
+            generator.writeBooleanField("truncated", budget.truncatedReason != null);
+            if (budget.truncatedReason != null) {
+                generator.writeStringField("truncated_reason", budget.truncatedReason);
+            }
+            generator.writeEndObject();
+        }
+
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private void readHitsObject(JsonParser parser, JsonGenerator generator, Budget budget) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("total".equals(field)) {
+                generator.writeFieldName("total");
+                copyTotal(parser, generator, budget);
+            } else if ("hits".equals(field) && valueToken == JsonToken.START_ARRAY) {
+                generator.writeArrayFieldStart("hits");
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readHit(parser, generator, budget);
+                }
+                generator.writeEndArray();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * hits.total을 출력하면서 값과 relation을 기록합니다.
+     * rest_total_hits_as_int 형식(숫자)이면 relation은 eq입니다.
+     */
+    private void copyTotal(JsonParser parser, JsonGenerator generator, Budget budget) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            budget.totalHits = parser.getLongValue();
+            budget.totalRelation = RELATION_EQ;
+            generator.copyCurrentEvent(parser);
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            generator.copyCurrentStructure(parser);
+            return;
+        }
+        long value = -1L;
+        String relation = RELATION_EQ;
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("value".equals(field) && parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                value = parser.getLongValue();
+            } else if ("relation".equals(field) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                relation = parser.getText();
+            }
+            generator.writeFieldName(field);
+            generator.copyCurrentStructure(parser);
+        }
+        generator.writeEndObject();
+        budget.totalHits = value;
+        budget.totalRelation = relation;
+    }
+
+    private void readHit(JsonParser parser, JsonGenerator generator, Budget budget) throws IOException {
+        // 예산을 이미 넘었다면 히트 내용을 만들지 않고 구조만 건너뜁니다.
+        if (budget.truncatedReason == null && budget.returnedHits >= budget.maxHits) {
+            budget.truncatedReason = REASON_MAX_HITS;
+        }
+        if (budget.truncatedReason != null) {
+            parser.skipChildren();
+            budget.omittedHits++;
+            return;
+        }
+
+        budget.scratch.reset();
+        long limit = budget.remaining();
+        boolean complete = true;
+        try (JsonGenerator hitGenerator = jsonFactory.createGenerator(budget.scratch, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            hitGenerator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (complete && ("_id".equals(field) || "_source".equals(field))) {
+                    hitGenerator.writeFieldName(field);
+                    complete = copyWithinLimit(parser, hitGenerator, budget.scratch, limit);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (complete) {
+                hitGenerator.writeEndObject();
+            }
+        }
+
+        if (!complete || !budget.tryConsume(budget.scratch.size())) {
+            budget.truncatedReason = REASON_MAX_BYTES;
+            budget.omittedHits++;
+            return;
+        }
+        generator.writeRawValue(budget.scratch.toString(StandardCharsets.UTF_8));
+        budget.returnedHits++;
+    }
+
+    private void copyAggregations(JsonParser parser, JsonGenerator generator, Budget budget) throws IOException {
+        budget.scratch.reset();
+        boolean complete;
+        try (JsonGenerator aggregationsGenerator = jsonFactory.createGenerator(budget.scratch, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            complete = copyWithinLimit(parser, aggregationsGenerator, budget.scratch, budget.remaining());
+        }
+
+        if (!complete || !budget.tryConsume(budget.scratch.size())) {
+            generator.writeBooleanField("aggregations_truncated", true);
+            if (budget.truncatedReason == null) {
+                budget.truncatedReason = REASON_MAX_BYTES;
+            }
+            return;
+        }
+        generator.writeFieldName("aggregations");
+        generator.writeRawValue(budget.scratch.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 현재 값을 target으로 복사하되, 쓴 크기가 limit을 넘으면 복사를 멈추고 값의 나머지를 읽지 않고 건너뜁니다.
+     * 큰 _source나 aggregations가 예산을 넘는지 알기 위해 끝까지 메모리에 만들지 않도록 토큰마다 크기를 확인합니다.
+     *
+     * @return 값 전체를 복사했으면 true, 중간에 멈췄으면 false (이때 target의 내용은 버려야 합니다)
+     */
+    private static boolean copyWithinLimit(JsonParser parser, JsonGenerator target, ByteArrayOutputStream sink, long limit)
+            throws IOException {
+        int depth = 0;
+        JsonToken token = parser.currentToken();
+        while (true) {
+            target.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (written(target, sink) > limit) {
+                // 열린 구조를 모두 닫을 때까지 하위 구조는 통째로 건너뜁니다.
+                // 생성기의 미완성 출력은 닫을 때 자동으로 완성하지 않도록 AUTO_CLOSE_JSON_CONTENT를 끄고 사용합니다.
+                while (depth > 0) {
+                    JsonToken next = parser.nextToken();
+                    if (next.isStructStart()) {
+                        parser.skipChildren();
+                    } else if (next.isStructEnd()) {
+                        depth--;
+                    }
+                }
+                return false;
+            }
+            if (depth == 0) {
+                return true;
+            }
+            token = parser.nextToken();
+        }
+    }
+
+    // 생성기 내부 버퍼에 남아 있는 바이트까지 포함한 크기
+    private static long written(JsonGenerator generator, ByteArrayOutputStream sink) {
+        return sink.size() + Math.max(0, generator.getOutputBuffered());
+    }
+
+    /**
+     * 한 번의 추출 동안 사용하는 예산과 작업 버퍼입니다.
+     */
+    private static final class Budget {
+        private final int maxHits;
+        private final long maxBytes;
+        private final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+        private long emittedBytes;
+        private int returnedHits;
+        private int omittedHits;
+        // hits.total 값 (응답에 없으면 -1)
+        private long totalHits = -1L;
+        private String totalRelation = RELATION_EQ;
+        private String truncatedReason;
+
+        private Budget(int maxHits, long maxBytes) {
+            this.maxHits = maxHits;
+            this.maxBytes = maxBytes;
+        }
+
+        private long remaining() {
+            return Math.max(0L, maxBytes - emittedBytes);
+        }
+
+        private boolean tryConsume(long bytes) {
+            if (emittedBytes + bytes > maxBytes) {
+                return false;
+            }
+            emittedBytes += bytes;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.silbaram.github.infrastructures.elasticsearch.cache;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchMappingsProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MappingsCacheTest {
+
+    private static final String INDEX = "my_index";
+    private static final String MAPPINGS_V1 = "{\"my_index\":{\"mappings\":{\"properties\":{\"a\":{\"type\":\"keyword\"}}}}}";
+    private static final String MAPPINGS_V2 = "{\"my_index\":{\"mappings\":{\"properties\":{\"a\":{\"type\":\"keyword\"},\"b\":{\"type\":\"long\"}}}}}";
+
+    @Mock
+    private ElasticsearchMappingsProvider mappingsProvider;
+
+    @Test
+    @DisplayName("getMappings_재검증간격이내_클러스터호출없이캐시반환")
+    void testGetMappings_WithinRevalidateInterval_ServesFromCache() {
+        MappingsCache mappingsCache = newCache(Duration.ofMinutes(1));
+        when(mappingsProvider.getMappingVersionsAsync(INDEX)).thenReturn(Mono.just(Map.of(INDEX, 1L)));
+        when(mappingsProvider.getCatMappingsAsync(INDEX)).thenReturn(Mono.just(MAPPINGS_V1));
+
+        assertEquals(MAPPINGS_V1, mappingsCache.getMappings(INDEX).block());
+        assertEquals(MAPPINGS_V1, mappingsCache.getMappings(INDEX).block());
+
+        verify(mappingsProvider, times(1)).getMappingVersionsAsync(INDEX);
+        verify(mappingsProvider, times(1)).getCatMappingsAsync(INDEX);
+        MappingsCacheStats stats = mappingsCache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    @DisplayName("getMappings_버전동일_매핑재조회없이캐시반환")
+    void testGetMappings_SameMappingVersion_ServesFromCacheAfterRevalidation() {
+        MappingsCache mappingsCache = newCache(Duration.ZERO);
+        when(mappingsProvider.getMappingVersionsAsync(INDEX)).thenReturn(Mono.just(Map.of(INDEX, 1L)));
+        when(mappingsProvider.getCatMappingsAsync(INDEX)).thenReturn(Mono.just(MAPPINGS_V1));
+
+        mappingsCache.getMappings(INDEX).block();
+        assertEquals(MAPPINGS_V1, mappingsCache.getMappings(INDEX).block());
+
+        verify(mappingsProvider, times(2)).getMappingVersionsAsync(INDEX);
+        verify(mappingsProvider, times(1)).getCatMappingsAsync(INDEX);
+        assertEquals(1, mappingsCache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("getMappings_버전변경_캐시무효화후재조회")
+    void testGetMappings_MappingVersionChanged_InvalidatesAndRefetches() {
+        MappingsCache mappingsCache = newCache(Duration.ZERO);
+        when(mappingsProvider.getMappingVersionsAsync(INDEX))
+                .thenReturn(Mono.just(Map.of(INDEX, 1L)))
+                .thenReturn(Mono.just(Map.of(INDEX, 2L)));
+        when(mappingsProvider.getCatMappingsAsync(INDEX))
+                .thenReturn(Mono.just(MAPPINGS_V1))
+                .thenReturn(Mono.just(MAPPINGS_V2));
+
+        assertEquals(MAPPINGS_V1, mappingsCache.getMappings(INDEX).block());
+        assertEquals(MAPPINGS_V2, mappingsCache.getMappings(INDEX).block());
+
+        MappingsCacheStats stats = mappingsCache.stats();
+        assertEquals(0, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1, stats.invalidations());
+    }
+
+    @Test
+    @DisplayName("getMappings_캐시비활성화_항상클러스터조회")
+    void testGetMappings_Disabled_AlwaysFetches() {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        props.getMappingCache().setEnabled(false);
+        MappingsCache mappingsCache = new MappingsCache(mappingsProvider, props);
+        when(mappingsProvider.getCatMappingsAsync(INDEX)).thenReturn(Mono.just(MAPPINGS_V1));
+
+        mappingsCache.getMappings(INDEX).block();
+        mappingsCache.getMappings(INDEX).block();
+
+        verify(mappingsProvider, times(2)).getCatMappingsAsync(INDEX);
+        verify(mappingsProvider, never()).getMappingVersionsAsync(INDEX);
+    }
+
+    private MappingsCache newCache(Duration revalidateInterval) {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        props.getMappingCache().setRevalidateInterval(revalidateInterval);
+        return new MappingsCache(mappingsProvider, props);
+    }
+}
@@ -0,0 +1,124 @@
+package com.silbaram.github.infrastructures.elasticsearch.cache;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchIndicesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+    private static final String INDEX = "my_index";
+    private static final String QUERY = "{\"size\":10,\"query\":{\"term\":{\"user\":\"kim\"}}}";
+    private static final String REORDERED_QUERY = "{\n  \"query\": { \"term\": { \"user\": \"kim\" } },\n  \"size\": 10\n}";
+    private static final String RESULT_V1 = "{\"hits\":{\"total\":{\"value\":1}}}";
+    private static final String RESULT_V2 = "{\"hits\":{\"total\":{\"value\":2}}}";
+
+    @Mock
+    private ElasticsearchIndicesProvider indicesProvider;
+
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    @DisplayName("getOrSearch_키순서와공백만다른쿼리_같은캐시항목사용")
+    void testGetOrSearch_ReorderedQuery_ServesFromCache() {
+        SearchResultCache searchResultCache = newCache(Duration.ofMinutes(1));
+        when(indicesProvider.getChangeCountersAsync(INDEX)).thenReturn(Mono.just(Map.of(INDEX, 1L)));
+
+        assertEquals(RESULT_V1, searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V1)).block());
+        assertEquals(RESULT_V1, searchResultCache.getOrSearch(INDEX, REORDERED_QUERY, search(RESULT_V2)).block());
+
+        assertEquals(1, searches.get());
+        verify(indicesProvider, times(1)).getChangeCountersAsync(INDEX);
+        SearchResultCacheStats stats = searchResultCache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    @DisplayName("getOrSearch_변경카운터변경_캐시무효화후재검색")
+    void testGetOrSearch_ChangeCountersChanged_InvalidatesAndSearchesAgain() {
+        SearchResultCache searchResultCache = newCache(Duration.ZERO);
+        when(indicesProvider.getChangeCountersAsync(INDEX))
+                .thenReturn(Mono.just(Map.of(INDEX, 1L)))
+                .thenReturn(Mono.just(Map.of(INDEX, 1L)))
+                .thenReturn(Mono.just(Map.of(INDEX, 2L)));
+
+        assertEquals(RESULT_V1, searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V1)).block());
+        assertEquals(RESULT_V1, searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V2)).block());
+        assertEquals(RESULT_V2, searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V2)).block());
+
+        assertEquals(2, searches.get());
+        SearchResultCacheStats stats = searchResultCache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1, stats.invalidations());
+    }
+
+    @Test
+    @DisplayName("getOrSearch_변경카운터조회실패_캐시없이검색")
+    void testGetOrSearch_ChangeCountersFail_SearchesWithoutCaching() {
+        SearchResultCache searchResultCache = newCache(Duration.ofMinutes(1));
+        when(indicesProvider.getChangeCountersAsync(INDEX)).thenReturn(Mono.error(new IOException("Simulated Network Error")));
+
+        assertEquals(RESULT_V1, searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V1)).block());
+        assertEquals(RESULT_V1, searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V1)).block());
+
+        assertEquals(2, searches.get());
+        assertEquals(0, searchResultCache.stats().size());
+    }
+
+    @Test
+    @DisplayName("getOrSearch_잘못된JSON쿼리_캐시없이검색")
+    void testGetOrSearch_InvalidQuery_BypassesCache() {
+        SearchResultCache searchResultCache = newCache(Duration.ofMinutes(1));
+
+        assertNull(searchResultCache.cacheKey(INDEX, "{\"query\":"));
+        searchResultCache.getOrSearch(INDEX, "{\"query\":", search(RESULT_V1)).block();
+
+        assertEquals(1, searches.get());
+        verify(indicesProvider, never()).getChangeCountersAsync(INDEX);
+    }
+
+    @Test
+    @DisplayName("getOrSearch_캐시비활성화_항상검색")
+    void testGetOrSearch_Disabled_AlwaysSearches() {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        SearchResultCache searchResultCache = new SearchResultCache(indicesProvider, new JsonCodec(), props);
+
+        searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V1)).block();
+        searchResultCache.getOrSearch(INDEX, QUERY, search(RESULT_V1)).block();
+
+        assertEquals(2, searches.get());
+        verify(indicesProvider, never()).getChangeCountersAsync(INDEX);
+    }
+
+    private Supplier<Mono<String>> search(String result) {
+        return () -> {
+            searches.incrementAndGet();
+            return Mono.just(result);
+        };
+    }
+
+    private SearchResultCache newCache(Duration revalidateInterval) {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        props.getSearchCache().setEnabled(true);
+        props.getSearchCache().setRevalidateInterval(revalidateInterval);
+        return new SearchResultCache(indicesProvider, new JsonCodec(), props);
+    }
+}
@@ -0,0 +1,98 @@
+package com.silbaram.github.infrastructures.elasticsearch.cluster;
+
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchHealthProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticsearchClusterRegistryTest {
+
+    @Mock
+    private ElasticsearchHealthProvider defaultHealth;
+    @Mock
+    private ElasticsearchHealthProvider slowHealth;
+    @Mock
+    private ElasticsearchHealthProvider brokenHealth;
+
+    @Test
+    @DisplayName("cluster_이름없음_기본클러스터반환")
+    void testCluster_BlankName_ReturnsDefault() {
+        ElasticsearchClusterRegistry registry = newRegistry(List.of(), List.of());
+
+        assertEquals(ElasticsearchClusterRegistry.DEFAULT_CLUSTER, registry.cluster(null).name());
+        assertEquals(ElasticsearchClusterRegistry.DEFAULT_CLUSTER, registry.cluster(" ").name());
+        assertEquals(ElasticsearchClusterRegistry.DEFAULT_CLUSTER, registry.cluster("default").name());
+    }
+
+    @Test
+    @DisplayName("cluster_등록되지않은이름_등록된이름과함께예외")
+    void testCluster_UnknownName_ThrowsWithKnownNames() {
+        ElasticsearchClusterRegistry registry = newRegistry(List.of(cluster("logs", slowHealth)), List.of());
+
+        assertSame(slowHealth, registry.cluster(" logs ").health());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> registry.cluster("metrics"));
+        assertTrue(exception.getMessage().contains("[default, logs]"));
+    }
+
+    @Test
+    @DisplayName("생성_중복이름_예외")
+    void testCreate_DuplicateName_Throws() {
+        assertThrows(IllegalStateException.class, () -> newRegistry(List.of(cluster("logs", slowHealth), cluster("logs", brokenHealth)), List.of()));
+    }
+
+    @Test
+    @DisplayName("fanOut_느리거나실패한클러스터_나머지결과와함께상태표시")
+    void testFanOut_SlowAndFailingClusters_ReturnsPartialResults() {
+        ElasticsearchClusterRegistry registry = newRegistry(List.of(cluster("slow", slowHealth), cluster("broken", brokenHealth)), List.of());
+        when(defaultHealth.getClusterHealthAsync()).thenReturn(Mono.just(Map.of("status", "green")));
+        when(slowHealth.getClusterHealthAsync()).thenReturn(Mono.never());
+        when(brokenHealth.getClusterHealthAsync()).thenReturn(Mono.error(new IOException("connection refused")));
+
+        List<ClusterResult<Map<String, String>>> results = registry.fanOut(cluster -> cluster.health().getClusterHealthAsync())
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(results);
+        assertEquals(List.of("default", "slow", "broken"), results.stream().map(ClusterResult::cluster).toList());
+        assertEquals(ClusterResult.OK, results.get(0).status());
+        assertEquals("green", results.get(0).result().get("status"));
+        assertEquals(ClusterResult.TIMEOUT, results.get(1).status());
+        assertNull(results.get(1).result());
+        assertEquals(ClusterResult.ERROR, results.get(2).status());
+        assertEquals("connection refused", results.get(2).error());
+    }
+
+    @Test
+    @DisplayName("destroy_추가클러스터자원_모두닫음")
+    void testDestroy_ClosesAllResources() {
+        AtomicInteger closed = new AtomicInteger();
+        ElasticsearchClusterRegistry registry = newRegistry(List.of(), List.of(
+                () -> { throw new IOException("already closed"); },
+                closed::incrementAndGet));
+
+        registry.destroy();
+
+        assertEquals(1, closed.get());
+    }
+
+    private ElasticsearchClusterRegistry newRegistry(List<ElasticsearchCluster> additionalClusters, List<AutoCloseable> resources) {
+        return new ElasticsearchClusterRegistry(
+                cluster(ElasticsearchClusterRegistry.DEFAULT_CLUSTER, defaultHealth), additionalClusters, Duration.ofMillis(200), resources);
+    }
+
+    private static ElasticsearchCluster cluster(String name, ElasticsearchHealthProvider health) {
+        return new ElasticsearchCluster(name, health, null, null, null, null, null, null, null);
+    }
+}
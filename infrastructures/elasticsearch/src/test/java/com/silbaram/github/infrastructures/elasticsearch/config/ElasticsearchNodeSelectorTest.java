@@ -0,0 +1,69 @@
+package com.silbaram.github.infrastructures.elasticsearch.config;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElasticsearchNodeSelectorTest {
+
+    private static Node node(String name, Set<String> roles, Map<String, List<String>> attributes) {
+        return new Node(HttpHost.create("http://" + name + ":9200"), null, name, "8.6.1",
+                roles == null ? null : new Node.Roles(roles), attributes);
+    }
+
+    private static List<String> select(ElasticsearchProperties.NodeSelection settings, Node... nodes) {
+        List<Node> candidates = new ArrayList<>(List.of(nodes));
+        new ElasticsearchNodeSelector(settings).select(candidates);
+        return candidates.stream().map(Node::getName).toList();
+    }
+
+    @Test
+    @DisplayName("select_기본설정_마스터전용노드만제외")
+    void testSelect_Default_SkipsDedicatedMasters() {
+        ElasticsearchProperties.NodeSelection settings = new ElasticsearchProperties.NodeSelection();
+
+        List<String> selected = select(settings,
+                node("master", Set.of("master"), Map.of()),
+                node("data", Set.of("master", "data", "ingest"), Map.of()),
+                node("static", null, null));
+
+        assertEquals(List.of("data", "static"), selected, "역할 정보가 없는 노드는 제외하지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("select_코디네이팅전용선호_해당노드만선택_없으면전체유지")
+    void testSelect_PreferCoordinatingOnly() {
+        ElasticsearchProperties.NodeSelection settings = new ElasticsearchProperties.NodeSelection();
+        settings.setPreferCoordinatingOnly(true);
+
+        assertEquals(List.of("coord"), select(settings,
+                node("data", Set.of("data", "ingest"), Map.of()),
+                node("coord", Set.of(), Map.of())));
+        assertEquals(List.of("data1", "data2"), select(settings,
+                node("data1", Set.of("data"), Map.of()),
+                node("data2", Set.of("data"), Map.of())));
+    }
+
+    @Test
+    @DisplayName("select_속성선호_같은zone노드만선택_없으면전체유지")
+    void testSelect_PreferAttributes() {
+        ElasticsearchProperties.NodeSelection settings = new ElasticsearchProperties.NodeSelection();
+        settings.setPreferAttributes(Map.of("zone", "zone-a"));
+
+        assertEquals(List.of("a"), select(settings,
+                node("a", Set.of("data"), Map.of("zone", List.of("zone-a"))),
+                node("b", Set.of("data"), Map.of("zone", List.of("zone-b")))));
+        assertEquals(List.of("b", "c"), select(settings,
+                node("b", Set.of("data"), Map.of("zone", List.of("zone-b"))),
+                node("c", Set.of("data"), null)));
+    }
+}
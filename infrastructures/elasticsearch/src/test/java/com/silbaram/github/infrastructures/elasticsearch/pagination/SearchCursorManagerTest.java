@@ -0,0 +1,116 @@
+package com.silbaram.github.infrastructures.elasticsearch.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchPointInTimeProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchCursorManagerTest {
+
+    @Mock
+    private ElasticsearchPointInTimeProvider pointInTimeProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("open_다음페이지존재_커서반환후next에서search_after사용")
+    void testOpenAndNext_UsesLastSortAsSearchAfter() throws IOException {
+        SearchCursorManager manager = newManager(Duration.ofMinutes(1));
+        when(pointInTimeProvider.openPointInTimeAsync(eq("logs"), anyString())).thenReturn(Mono.just("pit-1"));
+        when(pointInTimeProvider.searchPageAsync(eq("pit-1"), anyString(), any(), eq(2), isNull()))
+                .thenReturn(Mono.just(page("pit-2", "{\"_id\":\"1\",\"sort\":[1]},{\"_id\":\"2\",\"sort\":[2]}")));
+        when(pointInTimeProvider.searchPageAsync(eq("pit-2"), anyString(), any(), eq(2), eq(objectMapper.readTree("[2]"))))
+                .thenReturn(Mono.just(page("pit-2", "{\"_id\":\"3\",\"sort\":[3]}")));
+        when(pointInTimeProvider.closePointInTimeAsync("pit-2")).thenReturn(Mono.just(true));
+
+        JsonNode first = objectMapper.readTree(manager.open("logs", "{\"query\":{\"match_all\":{}}}", 2).block());
+        String cursor = first.get("cursor").asText();
+        assertFalse(first.get("exhausted").asBoolean());
+        assertEquals(2, first.get("returned_hits").asInt());
+        assertFalse(first.get("hits").get(0).has("sort"));
+
+        JsonNode second = objectMapper.readTree(manager.next(cursor).block());
+        assertTrue(second.get("exhausted").asBoolean());
+        assertTrue(second.get("cursor").isNull());
+        assertEquals("3", second.get("hits").get(0).get("_id").asText());
+
+        verify(pointInTimeProvider).closePointInTimeAsync("pit-2");
+        assertEquals(0, manager.openCursorCount());
+    }
+
+    @Test
+    @DisplayName("next_알수없는커서_IllegalArgumentException")
+    void testNext_UnknownCursor_Fails() {
+        SearchCursorManager manager = newManager(Duration.ofMinutes(1));
+
+        assertThrows(IllegalArgumentException.class, () -> manager.next("missing").block());
+    }
+
+    @Test
+    @DisplayName("reapIdleCursors_유휴시간초과_PIT닫힘")
+    void testReapIdleCursors_ClosesIdleCursor() {
+        SearchCursorManager manager = newManager(Duration.ZERO);
+        when(pointInTimeProvider.openPointInTimeAsync(eq("logs"), anyString())).thenReturn(Mono.just("pit-1"));
+        when(pointInTimeProvider.searchPageAsync(eq("pit-1"), anyString(), any(), anyInt(), isNull()))
+                .thenReturn(Mono.just(page("pit-1", "{\"_id\":\"1\",\"sort\":[1]}")));
+        when(pointInTimeProvider.closePointInTimeAsync("pit-1")).thenReturn(Mono.just(true));
+
+        manager.open("logs", null, 1).block();
+        assertEquals(1, manager.openCursorCount());
+
+        manager.reapIdleCursors();
+
+        verify(pointInTimeProvider).closePointInTimeAsync("pit-1");
+        assertEquals(0, manager.openCursorCount());
+    }
+
+    @Test
+    @DisplayName("open_PIT여는중인요청이한도차지_IllegalStateException")
+    void testOpen_PendingOpenCountsTowardsLimit() {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        props.getPagination().setMaxOpenCursors(1);
+        SearchCursorManager manager = new SearchCursorManager(pointInTimeProvider, new JsonCodec(), props);
+        when(pointInTimeProvider.openPointInTimeAsync(eq("logs"), anyString())).thenReturn(Mono.never());
+
+        Disposable pending = manager.open("logs", null, 1).subscribe();
+
+        assertThrows(IllegalStateException.class, () -> manager.open("logs", null, 1).block());
+        pending.dispose();
+        manager.open("logs", null, 1).subscribe().dispose();
+        verify(pointInTimeProvider, times(2)).openPointInTimeAsync(eq("logs"), anyString());
+    }
+
+    private JsonNode page(String pointInTimeId, String hits) {
+        try {
+            return objectMapper.readTree("{\"pit_id\":\"" + pointInTimeId + "\",\"took\":1,\"hits\":{\"total\":{\"value\":3,\"relation\":\"eq\"},\"hits\":[" + hits + "]}}");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private SearchCursorManager newManager(Duration idleTimeout) {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        props.getPagination().setIdleTimeout(idleTimeout);
+        return new SearchCursorManager(pointInTimeProvider, new JsonCodec(), props);
+    }
+}
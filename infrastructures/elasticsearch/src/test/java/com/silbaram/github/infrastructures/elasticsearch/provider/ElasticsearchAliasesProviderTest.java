@@ -1,8 +1,13 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.silbaram.github.infrastructures.elasticsearch.model.AliasInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTable;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
@@ -17,7 +23,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,6 +39,9 @@ class ElasticsearchAliasesProviderTest {
     @Mock
     private HttpEntity mockHttpEntity; // HttpEntity Mock 객체
 
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec(); // 실제 JSON 코덱 사용
+
     @InjectMocks
     private ElasticsearchAliasesProvider aliasesProvider; // 테스트 대상 클래스
 
@@ -49,23 +57,85 @@ class ElasticsearchAliasesProviderTest {
         when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
 
         // when
-        List<Map<String, Object>> result = aliasesProvider.getCatAliases();
+        List<AliasInfo> result = aliasesProvider.getCatAliases();
 
         // then
         ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
         verify(restClient).performRequest(requestCaptor.capture());
         assertEquals("GET", requestCaptor.getValue().getMethod());
-        assertEquals("/_cat/aliases?format=json", requestCaptor.getValue().getEndpoint());
+        assertEquals("/_cat/aliases", requestCaptor.getValue().getEndpoint());
+        assertEquals("json", requestCaptor.getValue().getParameters().get("format"));
+        assertEquals("all", requestCaptor.getValue().getParameters().get("expand_wildcards"));
 
         assertNotNull(result);
         assertEquals(1, result.size(), "숨김 별칭은 필터링되어야 합니다.");
-        Map<String, Object> aliasMap = result.get(0);
-        assertEquals("alias1", aliasMap.get("alias"));
-        assertEquals("index1", aliasMap.get("index"));
-        assertEquals("-", aliasMap.get("filter"));
-        assertEquals("ri1", aliasMap.get("routingIndex"), "routing.index 필드가 routingIndex로 매핑되어야 합니다.");
-        assertEquals("rs1", aliasMap.get("routingSearch"), "routing.search 필드가 routingSearch로 매핑되어야 합니다.");
-        assertEquals("true", aliasMap.get("isWriteIndex"), "is_write_index 필드가 isWriteIndex로 매핑되어야 합니다.");
+        AliasInfo aliasMap = result.get(0);
+        assertEquals("alias1", aliasMap.alias());
+        assertEquals("index1", aliasMap.index());
+        assertEquals("-", aliasMap.filter());
+        assertEquals("ri1", aliasMap.routingIndex(), "routing.index 필드가 routingIndex로 매핑되어야 합니다.");
+        assertEquals("rs1", aliasMap.routingSearch(), "routing.search 필드가 routingSearch로 매핑되어야 합니다.");
+        assertEquals("true", aliasMap.isWriteIndex(), "is_write_index 필드가 isWriteIndex로 매핑되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("listAliasesTable_조건없음_컬럼형반환_숨김항목필터링")
+    void testListAliasesTable_NoOptions_ReturnsColumnarTable_FiltersHidden() throws IOException {
+        // given
+        String jsonResponse = "[{\"alias\":\"alias1\", \"index\":\"index1\", \"filter\":\"-\", \"routing.index\":\"ri1\", \"routing.search\":\"rs1\", \"is_write_index\":\"true\"}," +
+                              "{\"alias\":\".hidden_alias\", \"index\":\"index2\"}]";
+        InputStream inputStream = new ByteArrayInputStream(jsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        CatTable result = aliasesProvider.listAliasesTable(null, CatListOptions.NONE);
+
+        // then
+        assertEquals(List.of("alias", "index", "filter", "routingIndex", "routingSearch", "isWriteIndex"), result.columns(),
+                "열 이름은 getCatAliases의 키 이름과 같아야 합니다.");
+        assertEquals(1, result.rows().size(), "숨김 별칭은 필터링되어야 합니다.");
+        assertEquals(List.of("alias1", "index1", "-", "ri1", "rs1", "true"), result.rows().get(0));
+    }
+
+    @Test
+    @DisplayName("listAliases_정렬은요청파라미터로_범위는스트리밍으로적용_닫힌인덱스별칭포함")
+    void testListAliases_PushesSort_AppliesOffsetAndLimit_KeepsAliasesOfClosedIndices() throws IOException {
+        // given: 닫힌 인덱스(archive)와 점으로 시작하지 않는 숨김 별칭(logs-hidden)도 응답에 그대로 포함된다.
+        String jsonResponse = "[{\"alias\":\".security\", \"index\":\".security-7\"}," +
+                              "{\"alias\":\"logs\", \"index\":\"logs-1\"}," +
+                              "{\"alias\":\"logs-hidden\", \"index\":\"logs-2\"}," +
+                              "{\"alias\":\"old\", \"index\":\"archive\"}]";
+        InputStream inputStream = new ByteArrayInputStream(jsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        List<AliasInfo> result = aliasesProvider.listAliases("*", new CatListOptions(null, null, List.of("alias", "routingIndex:desc"), 1, 2));
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        Request request = requestCaptor.getValue();
+        assertEquals("/_cat/aliases/*", request.getEndpoint());
+        assertEquals("alias,index,filter,routing.index,routing.search,is_write_index", request.getParameters().get("h"));
+        assertEquals("all", request.getParameters().get("expand_wildcards"));
+        assertEquals("alias,routing.index:desc", request.getParameters().get("s"), "열 이름은 _cat 필드명으로 바뀌어야 합니다.");
+
+        assertEquals(2, result.size(), "시스템 별칭을 뺀 뒤 offset 1, limit 2가 적용되어야 합니다.");
+        assertEquals("logs-hidden", result.get(0).alias());
+        assertEquals("old", result.get(1).alias());
+    }
+
+    @Test
+    @DisplayName("listAliases_health나status지정_요청없이예외")
+    void testListAliases_IndexOnlyFilters_ThrowsWithoutRequest() throws IOException {
+        CatListOptions options = new CatListOptions(null, "open", null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> aliasesProvider.listAliases(null, options));
+        verify(restClient, never()).performRequest(any(Request.class));
     }
 
     @Test
@@ -80,23 +150,24 @@ class ElasticsearchAliasesProviderTest {
         when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
 
         // when
-        List<Map<String, Object>> result = aliasesProvider.getCatAliasesByName(aliasName);
+        List<AliasInfo> result = aliasesProvider.getCatAliasesByName(aliasName);
 
         // then
         ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
         verify(restClient).performRequest(requestCaptor.capture());
         assertEquals("GET", requestCaptor.getValue().getMethod());
-        assertEquals("/_cat/aliases/" + aliasName + "?format=json", requestCaptor.getValue().getEndpoint());
+        assertEquals("/_cat/aliases/" + aliasName, requestCaptor.getValue().getEndpoint());
+        assertEquals("all", requestCaptor.getValue().getParameters().get("expand_wildcards"));
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        Map<String, Object> aliasMap = result.get(0);
-        assertEquals("my_alias", aliasMap.get("alias"));
-        assertEquals("my_index", aliasMap.get("index"));
-        assertEquals("*", aliasMap.get("filter"));
-        assertEquals("my_ri", aliasMap.get("routingIndex"));
-        assertEquals("my_rs", aliasMap.get("routingSearch"));
-        assertEquals("false", aliasMap.get("isWriteIndex"));
+        AliasInfo aliasMap = result.get(0);
+        assertEquals("my_alias", aliasMap.alias());
+        assertEquals("my_index", aliasMap.index());
+        assertEquals("*", aliasMap.filter());
+        assertEquals("my_ri", aliasMap.routingIndex());
+        assertEquals("my_rs", aliasMap.routingSearch());
+        assertEquals("false", aliasMap.isWriteIndex());
     }
 
     @Test
@@ -111,13 +182,13 @@ class ElasticsearchAliasesProviderTest {
         when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
 
         // when
-        List<Map<String, Object>> result = aliasesProvider.getCatAliasesByName(hiddenAliasName);
+        List<AliasInfo> result = aliasesProvider.getCatAliasesByName(hiddenAliasName);
 
         // then
         ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
         verify(restClient).performRequest(requestCaptor.capture());
         assertEquals("GET", requestCaptor.getValue().getMethod());
-        assertEquals("/_cat/aliases/" + hiddenAliasName + "?format=json", requestCaptor.getValue().getEndpoint());
+        assertEquals("/_cat/aliases/" + hiddenAliasName, requestCaptor.getValue().getEndpoint());
 
         assertNotNull(result);
         assertTrue(result.isEmpty(), "숨김 별칭은 필터링되어 목록이 비어있어야 합니다.");
@@ -147,4 +218,28 @@ class ElasticsearchAliasesProviderTest {
             aliasesProvider.getCatAliasesByName(aliasName);
         }, "IOException이 발생해야 합니다.");
     }
+
+    @Test
+    @DisplayName("getCatAliasesAsync_성공_별칭목록방출_숨김항목필터링")
+    void testGetCatAliasesAsync_Success_EmitsAliases_FiltersHidden() throws IOException {
+        // given
+        String jsonResponse = "[{\"alias\":\"alias1\", \"index\":\"index1\"}, {\"alias\":\".hidden_alias\", \"index\":\"index2\"}]";
+        InputStream inputStream = new ByteArrayInputStream(jsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequestAsync(any(Request.class), any(ResponseListener.class))).thenAnswer(invocation -> {
+            ResponseListener listener = invocation.getArgument(1);
+            listener.onSuccess(mockResponse);
+            return null;
+        });
+
+        // when
+        List<AliasInfo> result = aliasesProvider.getCatAliasesAsync().block();
+
+        // then
+        assertNotNull(result);
+        assertEquals(1, result.size(), "숨김 별칭은 필터링되어야 합니다.");
+        assertEquals("alias1", result.get(0).alias());
+        assertEquals("index1", result.get(0).index());
+    }
 }
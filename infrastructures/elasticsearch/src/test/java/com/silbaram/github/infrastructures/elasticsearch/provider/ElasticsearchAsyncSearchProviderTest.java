@@ -0,0 +1,117 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NStringEntity;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticsearchAsyncSearchProviderTest {
+
+    @Mock
+    private RestClient restClient;
+
+    @Mock
+    private Response mockResponse;
+
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec();
+
+    @Spy
+    private ElasticsearchProperties props = new ElasticsearchProperties();
+
+    @Spy
+    private HttpCompression httpCompression = new HttpCompression(new ElasticsearchProperties());
+
+    @InjectMocks
+    private ElasticsearchAsyncSearchProvider asyncSearchProvider;
+
+    @Test
+    @DisplayName("submit_대기시간미지정_설정값과keep_alive로요청")
+    void testSubmit_DefaultWait_SendsConfiguredParameters() throws IOException {
+        // given
+        String sampleJsonResponse = "{\"id\":\"abc=\",\"is_partial\":true,\"is_running\":true,\"response\":{\"hits\":{\"hits\":[]}}}";
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity(sampleJsonResponse, ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        String result = asyncSearchProvider.submit("logs-*", "{\"size\":0}", null);
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        Request request = requestCaptor.getValue();
+        assertEquals("POST", request.getMethod());
+        assertEquals("/logs-*/_async_search", request.getEndpoint());
+        assertEquals("2000ms", request.getParameters().get("wait_for_completion_timeout"));
+        assertEquals("300000ms", request.getParameters().get("keep_alive"));
+        assertEquals("false", request.getParameters().get("keep_on_completion"));
+        assertEquals("{\"size\":0}", EntityUtils.toString(request.getEntity()));
+        assertEquals(sampleJsonResponse, result);
+    }
+
+    @Test
+    @DisplayName("get_최대값보다긴대기시간_최대값으로제한하고id인코딩")
+    void testGet_WaitAboveMaximum_IsCappedAndIdIsEncoded() throws IOException {
+        // given
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity("{\"is_running\":false}", ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        asyncSearchProvider.get("FmR=", Duration.ofMinutes(5));
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        assertEquals("GET", requestCaptor.getValue().getMethod());
+        assertEquals("/_async_search/FmR%3D", requestCaptor.getValue().getEndpoint());
+        assertEquals("20000ms", requestCaptor.getValue().getParameters().get("wait_for_completion_timeout"));
+    }
+
+    @Test
+    @DisplayName("delete_성공_acknowledged반환")
+    void testDelete_Success_ReturnsAcknowledged() throws IOException {
+        // given
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity("{\"acknowledged\":true}", ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        boolean deleted = asyncSearchProvider.delete("abc");
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        assertEquals("DELETE", requestCaptor.getValue().getMethod());
+        assertEquals("/_async_search/abc", requestCaptor.getValue().getEndpoint());
+        assertTrue(deleted);
+    }
+
+    @Test
+    @DisplayName("delete_빈id_요청없이예외")
+    void testDelete_BlankId_ThrowsWithoutRequest() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> asyncSearchProvider.delete(" "));
+        verify(restClient, never()).performRequest(any(Request.class));
+    }
+}
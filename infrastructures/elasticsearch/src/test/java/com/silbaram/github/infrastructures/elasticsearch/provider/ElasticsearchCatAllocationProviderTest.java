@@ -1,6 +1,8 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silbaram.github.infrastructures.elasticsearch.model.AllocationInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
@@ -13,11 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -34,6 +36,9 @@ public class ElasticsearchCatAllocationProviderTest {
     @Mock
     private Response mockResponse;
 
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec(); // 실제 JSON 코덱 사용
+
     @InjectMocks
     private ElasticsearchCatAllocationProvider provider;
 
@@ -57,20 +62,23 @@ public class ElasticsearchCatAllocationProviderTest {
      */
     @Test
     void testGetCatAllocation_Success() throws IOException {
-        String jsonResponse = "[{\"node\": \"node1\", \"shards\": \"10\"}, {\"node\": \"node2\", \"shards\": \"5\"}]";
+        String jsonResponse = "[{\"node\": \"node1\", \"shards\": \"10\", \"disk.indices\": \"1073741824\", \"disk.percent\": \"42\", \"shards.undesired\": \"0\"}, {\"node\": \"node2\", \"shards\": \"5\"}]";
         HttpEntity entity = new NStringEntity(jsonResponse, ContentType.APPLICATION_JSON);
 
         when(mockResponse.getEntity()).thenReturn(entity);
         when(mockRestClient.performRequest(ArgumentMatchers.any(Request.class))).thenReturn(mockResponse);
 
-        List<Map<String, Object>> result = provider.getCatAllocation();
+        List<AllocationInfo> result = provider.getCatAllocation();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals("node1", result.get(0).get("node"));
-        assertEquals("10", result.get(0).get("shards"));
-        assertEquals("node2", result.get(1).get("node"));
-        assertEquals("5", result.get(1).get("shards"));
+        assertEquals("node1", result.get(0).node());
+        assertEquals(10, result.get(0).shards());
+        assertEquals(1073741824L, result.get(0).diskIndicesBytes(), "bytes=b로 받은 크기는 숫자로 변환되어야 합니다.");
+        assertEquals(42, result.get(0).diskPercent());
+        assertEquals("node2", result.get(1).node());
+        assertEquals(5, result.get(1).shards());
+        assertEquals(0L, result.get(1).diskIndicesBytes(), "값이 없는 숫자 필드는 0이어야 합니다.");
     }
 
     /**
@@ -97,7 +105,7 @@ public class ElasticsearchCatAllocationProviderTest {
         HttpEntity entity = new NStringEntity(jsonResponse, ContentType.APPLICATION_JSON);
 
         // Mock the response from the REST client
-        Request expectedRequest = new Request("GET", "/_cat/allocation/" + nodeId + "?format=json");
+        Request expectedRequest = new Request("GET", "/_cat/allocation/" + nodeId + "?format=json&bytes=b");
 
         when(mockResponse.getEntity()).thenReturn(entity);
         // We need to be more specific with request matching if the path changes
@@ -107,12 +115,12 @@ public class ElasticsearchCatAllocationProviderTest {
         ))).thenReturn(mockResponse);
 
 
-        List<Map<String, Object>> result = provider.getCatAllocation(nodeId);
+        List<AllocationInfo> result = provider.getCatAllocation(nodeId);
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals("node1", result.get(0).get("node"));
-        assertEquals("10", result.get(0).get("shards"));
+        assertEquals("node1", result.get(0).node());
+        assertEquals(10, result.get(0).shards());
     }
 
     /**
@@ -123,7 +131,7 @@ public class ElasticsearchCatAllocationProviderTest {
     @Test
     void testGetCatAllocation_WithNodeId_IOException() throws IOException {
         String nodeId = "node1_error";
-        Request expectedRequest = new Request("GET", "/_cat/allocation/" + nodeId + "?format=json");
+        Request expectedRequest = new Request("GET", "/_cat/allocation/" + nodeId + "?format=json&bytes=b");
 
         when(mockRestClient.performRequest(ArgumentMatchers.argThat(request ->
                 request.getMethod().equals(expectedRequest.getMethod()) &&
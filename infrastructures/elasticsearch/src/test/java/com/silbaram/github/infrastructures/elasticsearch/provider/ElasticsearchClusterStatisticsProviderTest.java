@@ -1,5 +1,7 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterStatistics;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
@@ -10,13 +12,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,12 +37,14 @@ class ElasticsearchClusterStatisticsProviderTest {
     @Mock
     private HttpEntity mockHttpEntity; // HttpEntity Mock 객체
 
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec(); // 실제 JSON 코덱 사용
+
     @InjectMocks
     private ElasticsearchClusterStatisticsProvider statisticsProvider; // 테스트 대상 클래스
 
     @Test
     @DisplayName("getClusterStatistics_성공_통계정보반환")
-    @SuppressWarnings("unchecked") // 테스트 중 Map 캐스팅 경고 무시
     void testGetClusterStatistics_Success_ReturnsStatistics() throws IOException {
         // given: 테스트용 샘플 JSON 응답 문자열 준비
         String sampleJsonResponse = "{\n" +
@@ -88,54 +92,74 @@ class ElasticsearchClusterStatisticsProviderTest {
         when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
 
         // when: 테스트 대상 메소드 호출
-        Map<String, Object> result = statisticsProvider.getClusterStatistics();
+        ClusterStatistics result = statisticsProvider.getClusterStatistics();
 
         // then: 결과 검증
         ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
         verify(restClient).performRequest(requestCaptor.capture());
         assertEquals("GET", requestCaptor.getValue().getMethod());
         assertEquals("/_cluster/stats", requestCaptor.getValue().getEndpoint());
+        assertEquals(String.join(",", ElasticsearchClusterStatisticsProvider.CLUSTER_STATS_FIELDS),
+                requestCaptor.getValue().getParameters().get("filter_path"), "요약에 필요한 필드만 요청해야 합니다.");
 
-        assertNotNull(result, "결과 맵은 null이 아니어야 합니다.");
+        assertNotNull(result, "결과는 null이 아니어야 합니다.");
 
         // 클러스터 정보 검증
-        Map<String, Object> clusterInfo = (Map<String, Object>) result.get("cluster");
+        ClusterStatistics.Cluster clusterInfo = result.cluster();
         assertNotNull(clusterInfo);
-        assertEquals("test_cluster", clusterInfo.get("name"));
-        assertEquals("test_uuid", clusterInfo.get("uuid"));
-        assertEquals("green", clusterInfo.get("status"));
-        assertEquals(1678886400000L, clusterInfo.get("timestamp"));
+        assertEquals("test_cluster", clusterInfo.name());
+        assertEquals("test_uuid", clusterInfo.uuid());
+        assertEquals("green", clusterInfo.status());
+        assertEquals(1678886400000L, clusterInfo.timestamp());
 
         // 노드 정보 검증
-        Map<String, Object> nodesInfo = (Map<String, Object>) result.get("nodes");
+        ClusterStatistics.Nodes nodesInfo = result.nodes();
         assertNotNull(nodesInfo);
-        assertEquals(3, nodesInfo.get("total"));
-        assertEquals(2, nodesInfo.get("data"));
-        assertEquals(1, nodesInfo.get("master"));
-        assertEquals(2, nodesInfo.get("ingest"));
-        assertEquals(60, nodesInfo.get("mem_used_percent"));
-        assertEquals(8, nodesInfo.get("processors"));
-        assertEquals(1073741824L, nodesInfo.get("heap_used_bytes"));
-        assertEquals(2147483648L, nodesInfo.get("heap_max_bytes"));
-        assertEquals(50.0, (Double) nodesInfo.get("heap_used_percent"), 0.001, "힙 사용률 계산 검증");
+        assertEquals(3, nodesInfo.total());
+        assertEquals(2, nodesInfo.data());
+        assertEquals(1, nodesInfo.master());
+        assertEquals(2, nodesInfo.ingest());
+        assertEquals(60, nodesInfo.memUsedPercent());
+        assertEquals(8, nodesInfo.processors());
+        assertEquals(1073741824L, nodesInfo.heapUsedBytes());
+        assertEquals(2147483648L, nodesInfo.heapMaxBytes());
+        assertEquals(50.0, nodesInfo.heapUsedPercent(), 0.001, "힙 사용률 계산 검증");
 
         // 인덱스 정보 검증
-        Map<String, Object> indicesInfo = (Map<String, Object>) result.get("indices");
+        ClusterStatistics.Indices indicesInfo = result.indices();
         assertNotNull(indicesInfo);
-        assertEquals(5, indicesInfo.get("count"));
+        assertEquals(5L, indicesInfo.count());
 
-        Map<String, Object> shardsInfo = (Map<String, Object>) indicesInfo.get("shards");
+        ClusterStatistics.Shards shardsInfo = indicesInfo.shards();
         assertNotNull(shardsInfo);
-        assertEquals(10, shardsInfo.get("total"));
-        assertEquals(5, shardsInfo.get("primaries"));
-        // API 응답에서 replication이 float (1.0f)으로 설정되어 있으므로 이에 맞게 검증
-        assertEquals(1.0f, ((Number) shardsInfo.get("replication")).floatValue(), 0.001f, "샤드 복제본 수 검증");
-
+        assertEquals(10, shardsInfo.total());
+        assertEquals(5, shardsInfo.primaries());
+        assertEquals(1.0, shardsInfo.replication(), 0.001, "샤드 복제본 수 검증");
 
-        Map<String, Object> docsInfo = (Map<String, Object>) indicesInfo.get("docs");
+        ClusterStatistics.Docs docsInfo = indicesInfo.docs();
         assertNotNull(docsInfo);
-        assertEquals(10000, docsInfo.get("count"));
-        assertEquals(500, docsInfo.get("deleted"));
+        assertEquals(10000L, docsInfo.count());
+        assertEquals(500L, docsInfo.deleted());
+    }
+
+    @Test
+    @DisplayName("getClusterStatistics_일부섹션누락_기본값사용")
+    void testGetClusterStatistics_MissingSections_UsesDefaults() throws IOException {
+        // given: nodes, indices 섹션이 없는 응답
+        String sampleJsonResponse = "{\"cluster_name\":\"test_cluster\",\"status\":\"yellow\",\"_nodes\":{\"total\":1}}";
+        InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        ClusterStatistics result = statisticsProvider.getClusterStatistics();
+
+        // then
+        assertEquals("test_cluster", result.cluster().name());
+        assertEquals(0, result.nodes().total());
+        assertEquals(0.0, result.nodes().heapUsedPercent());
+        assertEquals(0L, result.indices().docs().count());
     }
 
     @Test
@@ -1,14 +1,17 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
@@ -35,6 +38,9 @@ class ElasticsearchHealthProviderTest {
     @Mock
     private HttpEntity mockHttpEntity; // Response가 포함할 HttpEntity Mock
 
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec(); // 실제 JSON 코덱 사용
+
     // Mock 객체들이 주입될 테스트 대상 클래스의 인스턴스
     @InjectMocks
     private ElasticsearchHealthProvider elasticsearchHealthProvider;
@@ -186,4 +192,30 @@ class ElasticsearchHealthProviderTest {
         // 예외 메시지 검증 (선택 사항이지만 좋은 습관)
         assertEquals(errorMessage, exception.getMessage(), "예외 메시지가 예상과 동일해야 합니다.");
     }
+
+    @Test
+    @DisplayName("클러스터 건강 정보 비동기 조회 성공 테스트")
+    void getClusterHealthAsync_Success() throws IOException {
+        // given: performRequestAsync 호출 시 리스너에 응답을 전달하도록 Mock 설정
+        String jsonResponseString = "{\"cluster_name\": \"elasticsearch_async\", \"status\": \"green\", \"number_of_nodes\": 2}";
+        InputStream inputStream = new ByteArrayInputStream(jsonResponseString.getBytes(StandardCharsets.UTF_8));
+
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(restClient.performRequestAsync(any(Request.class), any(ResponseListener.class))).thenAnswer(invocation -> {
+            ResponseListener listener = invocation.getArgument(1);
+            listener.onSuccess(mockResponse);
+            return null;
+        });
+
+        // when
+        Map<String, String> healthData = elasticsearchHealthProvider.getClusterHealthAsync().block();
+
+        // then
+        assertNotNull(healthData);
+        assertEquals("elasticsearch_async", healthData.get("cluster"));
+        assertEquals("green", healthData.get("status"));
+        assertEquals("2", healthData.get("node.total"));
+        assertEquals("-", healthData.get("node.data"));
+    }
 }
@@ -1,5 +1,9 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.silbaram.github.infrastructures.elasticsearch.model.IndexInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTable;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
@@ -10,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
@@ -21,6 +26,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,6 +42,9 @@ class ElasticsearchIndicesProviderTest {
     @Mock
     private HttpEntity mockHttpEntity; // HttpEntity Mock 객체
 
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec(); // 실제 JSON 코덱 사용
+
     @InjectMocks
     private ElasticsearchIndicesProvider indicesProvider; // 테스트 대상 클래스
 
@@ -45,38 +54,41 @@ class ElasticsearchIndicesProviderTest {
     @DisplayName("getCatIndices_성공_인덱스목록반환")
     void testGetCatIndices_Success_ReturnsIndexList() throws IOException {
         // given: 테스트용 샘플 JSON 응답
-        String sampleJsonResponse = "[{\"health\":\"green\", \"status\":\"open\", \"index\":\"index1\", \"docs.count\":\"100\", \"docs.deleted\":\"10\", \"pri.store.size\":\"10mb\", \"store.size\":\"20mb\"}," +
-                                    "{\"health\":\"yellow\", \"status\":\"open\", \"index\":\"index2\", \"docs.count\":\"50\", \"docs.deleted\":\"5\", \"pri.store.size\":\"5mb\", \"store.size\":\"10mb\"}]";
+        String sampleJsonResponse = "[{\"health\":\"green\", \"status\":\"open\", \"index\":\"index1\", \"docs.count\":\"100\", \"docs.deleted\":\"10\", \"pri.store.size\":\"10485760\", \"store.size\":\"20971520\"}," +
+                                    "{\"health\":\"yellow\", \"status\":\"open\", \"index\":\"index2\", \"docs.count\":\"50\", \"docs.deleted\":\"5\", \"pri.store.size\":\"5242880\", \"store.size\":\"10485760\"}]";
         InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
         when(mockHttpEntity.getContent()).thenReturn(inputStream);
         when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
         when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
 
         // when: 테스트 대상 메소드 호출
-        List<Map<String, Object>> result = indicesProvider.getCatIndices();
+        List<IndexInfo> result = indicesProvider.getCatIndices();
 
         // then: 결과 검증
         ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
         verify(restClient).performRequest(requestCaptor.capture());
         assertEquals("GET", requestCaptor.getValue().getMethod());
-        assertEquals("/_cat/indices?format=json&h=" + CAT_INDICES_HEADERS, requestCaptor.getValue().getEndpoint());
+        assertEquals("/_cat/indices", requestCaptor.getValue().getEndpoint());
+        assertEquals("json", requestCaptor.getValue().getParameters().get("format"));
+        assertEquals("b", requestCaptor.getValue().getParameters().get("bytes"), "IndexInfo의 크기는 long이므로 bytes=b가 필요합니다.");
+        assertEquals(CAT_INDICES_HEADERS, requestCaptor.getValue().getParameters().get("h"));
 
         assertNotNull(result, "결과 리스트는 null이 아니어야 합니다.");
         assertEquals(2, result.size(), "결과 리스트의 크기가 예상과 다릅니다.");
 
-        Map<String, Object> index1 = result.get(0);
-        assertEquals("green", index1.get("health"));
-        assertEquals("open", index1.get("status"));
-        assertEquals("index1", index1.get("index"));
-        assertEquals("100", index1.get("docsCount")); // 필드명 매핑 확인
-        assertEquals("10", index1.get("docsDeleted"));
-        assertEquals("10mb", index1.get("priStoreSize"));
-        assertEquals("20mb", index1.get("storeSize"));
-
-        Map<String, Object> index2 = result.get(1);
-        assertEquals("yellow", index2.get("health"));
-        assertEquals("index2", index2.get("index"));
-        assertEquals("50", index2.get("docsCount"));
+        IndexInfo index1 = result.get(0);
+        assertEquals("green", index1.health());
+        assertEquals("open", index1.status());
+        assertEquals("index1", index1.index());
+        assertEquals(100L, index1.docsCount()); // 필드명 매핑과 숫자 변환 확인
+        assertEquals(10L, index1.docsDeleted());
+        assertEquals(10485760L, index1.priStoreSizeBytes());
+        assertEquals(20971520L, index1.storeSizeBytes());
+
+        IndexInfo index2 = result.get(1);
+        assertEquals("yellow", index2.health());
+        assertEquals("index2", index2.index());
+        assertEquals(50L, index2.docsCount());
     }
 
     @Test
@@ -84,32 +96,34 @@ class ElasticsearchIndicesProviderTest {
     void testGetCatIndicesByName_Success_ReturnsSpecificIndex() throws IOException {
         // given: 테스트용 샘플 JSON 응답 (단일 인덱스)
         String indexName = "my_index";
-        String sampleJsonResponse = "[{\"health\":\"green\", \"status\":\"open\", \"index\":\"my_index\", \"docs.count\":\"123\", \"docs.deleted\":\"23\", \"pri.store.size\":\"12mb\", \"store.size\":\"24mb\"}]";
+        String sampleJsonResponse = "[{\"health\":\"green\", \"status\":\"open\", \"index\":\"my_index\", \"docs.count\":\"123\", \"docs.deleted\":\"23\", \"pri.store.size\":\"12582912\", \"store.size\":\"25165824\"}]";
         InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
         when(mockHttpEntity.getContent()).thenReturn(inputStream);
         when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
         when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
 
         // when: 테스트 대상 메소드 호출
-        List<Map<String, Object>> result = indicesProvider.getCatIndicesByName(indexName);
+        List<IndexInfo> result = indicesProvider.getCatIndicesByName(indexName);
 
         // then: 결과 검증
         ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
         verify(restClient).performRequest(requestCaptor.capture());
         assertEquals("GET", requestCaptor.getValue().getMethod());
-        assertEquals("/_cat/indices/" + indexName + "?format=json&h=" + CAT_INDICES_HEADERS, requestCaptor.getValue().getEndpoint());
+        assertEquals("/_cat/indices/" + indexName, requestCaptor.getValue().getEndpoint());
+        assertEquals("b", requestCaptor.getValue().getParameters().get("bytes"), "IndexInfo의 크기는 long이므로 bytes=b가 필요합니다.");
+        assertEquals(CAT_INDICES_HEADERS, requestCaptor.getValue().getParameters().get("h"));
 
         assertNotNull(result, "결과 리스트는 null이 아니어야 합니다.");
         assertEquals(1, result.size(), "결과 리스트에는 하나의 인덱스만 포함되어야 합니다.");
 
-        Map<String, Object> index = result.get(0);
-        assertEquals("green", index.get("health"));
-        assertEquals("open", index.get("status"));
-        assertEquals("my_index", index.get("index"));
-        assertEquals("123", index.get("docsCount"));
-        assertEquals("23", index.get("docsDeleted"));
-        assertEquals("12mb", index.get("priStoreSize"));
-        assertEquals("24mb", index.get("storeSize"));
+        IndexInfo index = result.get(0);
+        assertEquals("green", index.health());
+        assertEquals("open", index.status());
+        assertEquals("my_index", index.index());
+        assertEquals(123L, index.docsCount());
+        assertEquals(23L, index.docsDeleted());
+        assertEquals(12582912L, index.priStoreSizeBytes());
+        assertEquals(25165824L, index.storeSizeBytes());
     }
 
     @Test
@@ -138,4 +152,124 @@ class ElasticsearchIndicesProviderTest {
         }, "IOException이 발생해야 합니다.");
         assertEquals("Simulated Network Error for specific index", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("listIndices_필터와정렬은요청파라미터로_범위는스트리밍으로적용")
+    void testListIndices_PushesFiltersAndSort_AppliesOffsetAndLimit() throws IOException {
+        // given
+        String sampleJsonResponse = "[{\"index\":\"logs-3\",\"health\":\"yellow\",\"status\":\"open\"},{\"index\":\"logs-2\",\"health\":\"yellow\",\"status\":\"open\"}," +
+                                    "{\"index\":\"logs-1\",\"health\":\"yellow\",\"status\":\"open\"},{\"index\":\"logs-0\",\"health\":\"yellow\",\"status\":\"open\"}]";
+        InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+        CatListOptions options = new CatListOptions("YELLOW", "open", List.of("docsCount:desc", "index"), 1, 2);
+
+        // when
+        List<IndexInfo> result = indicesProvider.listIndices("logs-*", options);
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        Request request = requestCaptor.getValue();
+        assertEquals("/_cat/indices/logs-*", request.getEndpoint());
+        assertEquals(CAT_INDICES_HEADERS, request.getParameters().get("h"));
+        assertEquals("b", request.getParameters().get("bytes"));
+        assertEquals("yellow", request.getParameters().get("health"));
+        assertEquals("open,hidden", request.getParameters().get("expand_wildcards"));
+        assertEquals("docs.count:desc,index", request.getParameters().get("s"), "열 이름은 _cat 필드명으로 바뀌어야 합니다.");
+
+        assertEquals(2, result.size(), "offset 1, limit 2가 적용되어야 합니다.");
+        assertEquals("logs-2", result.get(0).index());
+        assertEquals("logs-1", result.get(1).index());
+    }
+
+    @Test
+    @DisplayName("listIndicesTable_범위적용된컬럼형반환")
+    void testListIndicesTable_AppliesLimit_ReturnsColumnarTable() throws IOException {
+        // given
+        String sampleJsonResponse = "[{\"index\":\"a\",\"health\":\"green\",\"docs.count\":\"7\"},{\"index\":\"b\",\"health\":\"green\"}]";
+        InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        CatTable result = indicesProvider.listIndicesTable(null, new CatListOptions(null, null, null, null, 1));
+
+        // then
+        assertEquals("index", result.columns().get(0));
+        assertEquals(1, result.rows().size());
+        assertEquals("a", result.rows().get(0).get(0));
+        assertEquals("docsCount", result.columns().get(3));
+        assertEquals(7L, result.rows().get(0).get(3), "숫자 열은 숫자로 변환되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("listIndices_구체적인인덱스이름_상태가다른인덱스는제외")
+    void testListIndices_ConcreteNamesWithStatus_FiltersWhileReading() throws IOException {
+        // given: 구체적인 이름은 expand_wildcards와 상관없이 상태와 무관하게 응답에 포함된다.
+        String sampleJsonResponse = "[{\"index\":\"orders\",\"health\":\"green\",\"status\":\"open\"}," +
+                                    "{\"index\":\"archive\",\"status\":\"close\"}]";
+        InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        List<IndexInfo> result = indicesProvider.listIndices("orders,archive", new CatListOptions(null, "closed", null, null, null));
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals("archive", result.get(0).index());
+    }
+
+    @Test
+    @DisplayName("listIndicesTable_구체적인인덱스이름_상태가다른행은제외")
+    void testListIndicesTable_ConcreteNameWithStatus_FiltersWhileReading() throws IOException {
+        // given
+        String sampleJsonResponse = "[{\"index\":\"archive\",\"status\":\"close\"}]";
+        InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        CatTable result = indicesProvider.listIndicesTable("archive", new CatListOptions(null, "open", null, null, null));
+
+        // then
+        assertTrue(result.rows().isEmpty(), "닫힌 인덱스는 open 필터에 포함되지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("listIndices_알수없는정렬열이면_요청없이예외")
+    void testListIndices_UnknownSortColumn_ThrowsWithoutRequest() throws IOException {
+        CatListOptions options = new CatListOptions(null, null, List.of("uuid"), null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> indicesProvider.listIndices(null, options));
+        verify(restClient, never()).performRequest(any(Request.class));
+    }
+
+    @Test
+    @DisplayName("getChangeCounters_성공_인덱스별refresh와색인건수합반환")
+    void testGetChangeCounters_Success_ReturnsCountersPerIndex() throws IOException {
+        // given: filter_path로 줄어든 _stats/refresh,indexing 응답
+        String sampleJsonResponse = "{\"indices\":{"
+                + "\"logs-2\":{\"primaries\":{\"refresh\":{\"total\":3},\"indexing\":{\"index_total\":10,\"delete_total\":1}}},"
+                + "\"logs-1\":{\"primaries\":{\"refresh\":{\"total\":5}}}}}";
+        InputStream inputStream = new ByteArrayInputStream(sampleJsonResponse.getBytes(StandardCharsets.UTF_8));
+        when(mockHttpEntity.getContent()).thenReturn(inputStream);
+        when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        Map<String, Long> counters = indicesProvider.getChangeCounters("logs-*");
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        assertEquals("/logs-*/_stats/refresh,indexing", requestCaptor.getValue().getEndpoint());
+        assertTrue(requestCaptor.getValue().getParameters().get("filter_path").contains("indices.*.primaries.refresh.total"));
+        assertEquals(Map.of("logs-1", 5L, "logs-2", 14L), counters);
+    }
 }
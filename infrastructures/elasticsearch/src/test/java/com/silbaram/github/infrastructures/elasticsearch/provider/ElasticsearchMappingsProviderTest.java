@@ -1,5 +1,6 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
@@ -12,9 +13,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -34,6 +37,9 @@ class ElasticsearchMappingsProviderTest {
     // HttpEntity는 직접 Mocking하거나, 실제 인스턴스(NStringEntity)를 사용할 수 있습니다.
     // 여기서는 실제 NStringEntity를 사용하여 응답 본문을 설정합니다.
 
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec(); // 실제 JSON 코덱 사용
+
     @InjectMocks
     private ElasticsearchMappingsProvider mappingsProvider; // 테스트 대상 클래스
 
@@ -78,4 +84,23 @@ class ElasticsearchMappingsProviderTest {
         
         assertEquals("Simulated Network Error", exception.getMessage(), "예외 메시지가 예상과 동일해야 합니다.");
     }
+
+    @Test
+    @DisplayName("getMappingVersions_성공_인덱스별mapping_version반환")
+    void testGetMappingVersions_Success_ReturnsVersionsPerIndex() throws IOException {
+        // given: filter_path로 줄어든 _cluster/state/metadata 응답
+        String sampleJsonResponse = "{\"metadata\":{\"indices\":{\"logs-2\":{\"mapping_version\":4},\"logs-1\":{\"mapping_version\":7}}}}";
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity(sampleJsonResponse, ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        Map<String, Long> versions = mappingsProvider.getMappingVersions("logs-*");
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        assertEquals("/_cluster/state/metadata/logs-*", requestCaptor.getValue().getEndpoint());
+        assertEquals("metadata.indices.*.mapping_version", requestCaptor.getValue().getParameters().get("filter_path"));
+        assertEquals(Map.of("logs-1", 7L, "logs-2", 4L), versions);
+    }
 }
@@ -0,0 +1,118 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NStringEntity;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticsearchPointInTimeProviderTest {
+
+    @Mock
+    private RestClient restClient;
+
+    @Mock
+    private Response mockResponse;
+
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec();
+
+    @Spy
+    private HttpCompression httpCompression = new HttpCompression(new ElasticsearchProperties());
+
+    @InjectMocks
+    private ElasticsearchPointInTimeProvider pointInTimeProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("openPointInTime_성공_PIT아이디반환")
+    void testOpenPointInTime_Success_ReturnsId() throws IOException {
+        // given
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity("{\"id\":\"pit-1\"}", ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        String id = pointInTimeProvider.openPointInTime("logs-*", "60s");
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        assertEquals("POST", requestCaptor.getValue().getMethod());
+        assertEquals("/logs-*/_pit", requestCaptor.getValue().getEndpoint());
+        assertEquals("60s", requestCaptor.getValue().getParameters().get("keep_alive"));
+        assertEquals("pit-1", id);
+    }
+
+    @Test
+    @DisplayName("searchPage_PIT와search_after를본문에설정하고from제거")
+    void testSearchPage_SetsPitAndSearchAfter() throws IOException {
+        // given
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity("{\"pit_id\":\"pit-2\",\"hits\":{\"hits\":[]}}", ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+        ObjectNode query = (ObjectNode) objectMapper.readTree("{\"from\":20,\"query\":{\"match_all\":{}}}");
+        JsonNode searchAfter = objectMapper.readTree("[1.0, 42]");
+
+        // when
+        JsonNode result = pointInTimeProvider.searchPage("pit-1", "60s", query, 50, searchAfter);
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        Request capturedRequest = requestCaptor.getValue();
+        JsonNode sentBody = objectMapper.readTree(EntityUtils.toString(capturedRequest.getEntity()));
+
+        assertEquals("/_search", capturedRequest.getEndpoint(), "PIT 검색은 인덱스를 경로에 두지 않아야 합니다.");
+        assertTrue(capturedRequest.getParameters().get("filter_path").contains("hits.hits.sort"));
+        assertFalse(sentBody.has("from"));
+        assertEquals(50, sentBody.get("size").asInt());
+        assertEquals("pit-1", sentBody.path("pit").path("id").asText());
+        assertEquals("60s", sentBody.path("pit").path("keep_alive").asText());
+        assertEquals(searchAfter, sentBody.get("search_after"));
+        assertEquals("_shard_doc", sentBody.get("sort").get(1).asText());
+        assertTrue(query.has("from"), "원본 쿼리는 변경되지 않아야 합니다.");
+        assertEquals("pit-2", result.get("pit_id").asText());
+    }
+
+    @Test
+    @DisplayName("closePointInTime_성공_DELETE요청")
+    void testClosePointInTime_Success() throws IOException {
+        // given
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity("{\"succeeded\":true,\"num_freed\":1}", ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        boolean closed = pointInTimeProvider.closePointInTime("pit-1");
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        assertEquals("DELETE", requestCaptor.getValue().getMethod());
+        assertEquals("/_pit", requestCaptor.getValue().getEndpoint());
+        assertEquals("pit-1", objectMapper.readTree(EntityUtils.toString(requestCaptor.getValue().getEntity())).get("id").asText());
+        assertTrue(closed);
+    }
+}
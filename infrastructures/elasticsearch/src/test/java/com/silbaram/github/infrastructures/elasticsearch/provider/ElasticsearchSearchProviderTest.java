@@ -1,11 +1,17 @@
 package com.silbaram.github.infrastructures.elasticsearch.provider;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
 import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +19,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Exceptions;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +46,15 @@ class ElasticsearchSearchProviderTest {
 
     // HttpEntity는 이 테스트에서 실제 NStringEntity를 사용하여 설정되므로 @Mock으로 선언하지 않습니다.
 
+    @Spy
+    private JsonCodec jsonCodec = new JsonCodec(); // 실제 JSON 코덱 사용
+
+    @Spy
+    private ElasticsearchProperties props = new ElasticsearchProperties(); // 기본 스트리밍 예산 사용
+
+    @Spy
+    private HttpCompression httpCompression = new HttpCompression(new ElasticsearchProperties()); // 기본값: 압축 사용 안 함
+
     @InjectMocks
     private ElasticsearchSearchProvider searchProvider; // 테스트 대상 클래스
 
@@ -81,4 +102,169 @@ class ElasticsearchSearchProviderTest {
         
         assertEquals("Simulated IO Error", exception.getMessage(), "예외 메시지가 예상과 동일해야 합니다.");
     }
+
+    @Test
+    @DisplayName("searchByIndexAsync_성공_검색결과JSON문자열방출")
+    void testSearchByIndexAsync_Success_EmitsSearchJsonString() throws IOException {
+        // given: performRequestAsync 호출 시 리스너에 응답을 전달하도록 Mock 설정
+        String sampleIndex = "test_index";
+        String sampleQueryBody = "{\"query\":{\"match_all\":{}}}";
+        String sampleJsonResponse = "{\"hits\":{\"total\":{\"value\":0,\"relation\":\"eq\"},\"hits\":[]}}";
+
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity(sampleJsonResponse, ContentType.APPLICATION_JSON));
+        when(restClient.performRequestAsync(any(Request.class), any(ResponseListener.class))).thenAnswer(invocation -> {
+            ResponseListener listener = invocation.getArgument(1);
+            listener.onSuccess(mockResponse);
+            return null;
+        });
+
+        // when
+        String result = searchProvider.searchByIndexAsync(sampleIndex, sampleQueryBody).block();
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequestAsync(requestCaptor.capture(), any(ResponseListener.class));
+        assertEquals("POST", requestCaptor.getValue().getMethod());
+        assertEquals("/" + sampleIndex + "/_search", requestCaptor.getValue().getEndpoint());
+        assertEquals(sampleJsonResponse, result);
+    }
+
+    @Test
+    @DisplayName("searchByIndexAsync_실패_IOException전파")
+    void testSearchByIndexAsync_PropagatesIOException() {
+        // given: performRequestAsync 호출 시 리스너에 실패를 전달하도록 Mock 설정
+        when(restClient.performRequestAsync(any(Request.class), any(ResponseListener.class))).thenAnswer(invocation -> {
+            ResponseListener listener = invocation.getArgument(1);
+            listener.onFailure(new IOException("Simulated IO Error"));
+            return null;
+        });
+
+        // when & then: block() 시 원인 예외가 IOException이어야 합니다.
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            searchProvider.searchByIndexAsync("any_index", "{}").block();
+        });
+        Throwable cause = Exceptions.unwrap(exception);
+        assertTrue(cause instanceof IOException, "원인 예외가 IOException이어야 합니다.");
+        assertEquals("Simulated IO Error", cause.getMessage());
+    }
+
+    @Test
+    @DisplayName("searchHitsByIndex_성공_size제한과filter_path적용후축약결과반환")
+    void testSearchHitsByIndex_Success_CapsSizeAndAppliesFilterPath() throws IOException {
+        // given: 히트 예산(2)보다 큰 size를 요청하는 쿼리
+        String sampleIndex = "test_index";
+        String sampleQueryBody = "{\"size\":500,\"query\":{\"match_all\":{}}}";
+        String sampleJsonResponse = "{\"took\":2,\"hits\":{\"total\":{\"value\":500,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_id\":\"1\",\"_source\":{\"f\":1}},{\"_id\":\"2\",\"_source\":{\"f\":2}},{\"_id\":\"3\",\"_source\":{\"f\":3}}]}}";
+
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity(sampleJsonResponse, ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        String result = searchProvider.searchHitsByIndex(sampleIndex, sampleQueryBody, 2, null);
+
+        // then: 요청 검증
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        Request capturedRequest = requestCaptor.getValue();
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode sentQuery = objectMapper.readTree(EntityUtils.toString(capturedRequest.getEntity()));
+
+        assertEquals("/" + sampleIndex + "/_search", capturedRequest.getEndpoint());
+        assertTrue(capturedRequest.getParameters().get("filter_path").contains("hits.hits._source"));
+        assertEquals(3, sentQuery.get("size").asInt(), "size는 히트 예산 + 1로 제한되어야 합니다.");
+
+        // then: 결과 검증
+        JsonNode resultNode = objectMapper.readTree(result);
+        assertEquals(2, resultNode.get("hits").size());
+        assertTrue(resultNode.get("truncated").asBoolean());
+    }
+
+    @Test
+    @DisplayName("aggregateByIndex_집계없는쿼리_count요청으로query만전송")
+    void testAggregateByIndex_NoAggregations_UsesCountWithQueryOnly() throws IOException {
+        // given: 히트 목록용 옵션이 섞인 쿼리
+        String sampleQueryBody = "{\"size\":50,\"sort\":[\"@timestamp\"],\"_source\":false,\"query\":{\"term\":{\"level\":\"error\"}}}";
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity("{\"count\":42}", ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        String result = searchProvider.aggregateByIndex("logs", sampleQueryBody, null);
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        Request capturedRequest = requestCaptor.getValue();
+        assertEquals("/logs/_count", capturedRequest.getEndpoint());
+        assertEquals("count,_shards.failures", capturedRequest.getParameters().get("filter_path"));
+        assertEquals("{\"query\":{\"term\":{\"level\":\"error\"}}}", EntityUtils.toString(capturedRequest.getEntity()));
+        assertEquals("{\"count\":42}", result);
+    }
+
+    @Test
+    @DisplayName("aggregateByIndex_집계쿼리_size0과track_total_hits끄고aggregations만요청")
+    void testAggregateByIndex_WithAggregations_ForcesSizeZeroAndTrimsResponse() throws IOException {
+        // given
+        String sampleQueryBody = "{\"size\":10,\"from\":20,\"query\":{\"match_all\":{}},\"aggs\":{\"levels\":{\"terms\":{\"field\":\"level\"}}}}";
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity("{\"took\":3,\"aggregations\":{}}", ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+
+        // when
+        searchProvider.aggregateByIndex("logs", sampleQueryBody, null);
+        searchProvider.aggregateByIndex("logs", sampleQueryBody, true);
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient, times(2)).performRequest(requestCaptor.capture());
+        Request withoutTotal = requestCaptor.getAllValues().get(0);
+        JsonNode sentQuery = new ObjectMapper().readTree(EntityUtils.toString(withoutTotal.getEntity()));
+        assertEquals("/logs/_search", withoutTotal.getEndpoint());
+        assertEquals("took,timed_out,_shards.failures,aggregations", withoutTotal.getParameters().get("filter_path"));
+        assertEquals(0, sentQuery.get("size").asInt());
+        assertFalse(sentQuery.get("track_total_hits").asBoolean());
+        assertFalse(sentQuery.has("from"), "히트 목록용 옵션은 제거되어야 합니다.");
+        assertTrue(sentQuery.has("aggs"));
+
+        Request withTotal = requestCaptor.getAllValues().get(1);
+        assertTrue(withTotal.getParameters().get("filter_path").endsWith(",hits.total"));
+        assertTrue(new ObjectMapper().readTree(EntityUtils.toString(withTotal.getEntity())).get("track_total_hits").asBoolean());
+    }
+
+    @Test
+    @DisplayName("multiSearch_성공_NDJSON본문과max_concurrent_searches설정")
+    void testMultiSearch_Success_SendsNdjsonInOrder() throws IOException {
+        // given
+        String sampleJsonResponse = "{\"took\":3,\"responses\":[{\"hits\":{\"hits\":[]}},{\"error\":{\"type\":\"index_not_found_exception\"},\"status\":404}]}";
+        when(mockResponse.getEntity()).thenReturn(new NStringEntity(sampleJsonResponse, ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(mockResponse);
+        List<ElasticsearchSearchProvider.MultiSearchItem> items = List.of(
+                new ElasticsearchSearchProvider.MultiSearchItem("logs", "{\n  \"query\": {\"match_all\": {}}\n}"),
+                new ElasticsearchSearchProvider.MultiSearchItem("missing", null)
+        );
+
+        // when
+        String result = searchProvider.multiSearch(items, 4);
+
+        // then
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestCaptor.capture());
+        Request capturedRequest = requestCaptor.getValue();
+        String[] lines = EntityUtils.toString(capturedRequest.getEntity()).split("\n");
+
+        assertEquals("/_msearch", capturedRequest.getEndpoint());
+        assertEquals("4", capturedRequest.getParameters().get("max_concurrent_searches"));
+        assertTrue(capturedRequest.getEntity().getContentType().getValue().startsWith("application/x-ndjson"));
+        assertEquals(4, lines.length, "검색마다 헤더와 본문 두 줄이어야 합니다.");
+        assertEquals("{\"index\":\"logs\"}", lines[0]);
+        assertEquals("{\"query\":{\"match_all\":{}}}", lines[1]);
+        assertEquals("{\"index\":\"missing\"}", lines[2]);
+        assertEquals("{}", lines[3]);
+        assertEquals(sampleJsonResponse, result);
+    }
+
+    @Test
+    @DisplayName("multiSearch_빈목록_IllegalArgumentException")
+    void testMultiSearch_EmptyItems_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> searchProvider.multiSearch(List.of(), null));
+    }
 }
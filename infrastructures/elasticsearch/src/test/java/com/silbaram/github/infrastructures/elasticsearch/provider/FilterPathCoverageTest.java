@@ -0,0 +1,116 @@
+package com.silbaram.github.infrastructures.elasticsearch.provider;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 각 프로바이더가 filter_path로 요청하는 필드 목록이 응답 변환에서 읽는 필드를 모두 포함하는지 검증합니다.
+ */
+class FilterPathCoverageTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonCodec jsonCodec = new JsonCodec();
+
+    // 요약과 관계없는 큰 항목(plugins, versions, field_types 등)을 포함한 전체 _cluster/stats 응답
+    private static final String FULL_CLUSTER_STATS = "{\"_nodes\":{\"total\":3,\"successful\":3,\"failed\":0},"
+            + "\"cluster_name\":\"prod\",\"cluster_uuid\":\"uuid-1\",\"timestamp\":1715000000000,\"status\":\"yellow\","
+            + "\"indices\":{\"count\":42,\"shards\":{\"total\":84,\"primaries\":40,\"replication\":1.1,\"index\":{\"shards\":{\"min\":2}}},"
+            + "\"docs\":{\"count\":9000,\"deleted\":77},\"store\":{\"size_in_bytes\":123},"
+            + "\"mappings\":{\"field_types\":[{\"name\":\"keyword\",\"count\":10}]},\"versions\":[{\"version\":\"8.6.1\"}]},"
+            + "\"nodes\":{\"count\":{\"total\":3,\"coordinating_only\":0,\"data\":2,\"ingest\":1,\"master\":3},"
+            + "\"os\":{\"available_processors\":24,\"mem\":{\"total_in_bytes\":1,\"used_percent\":63}},"
+            + "\"jvm\":{\"max_uptime_in_millis\":1,\"mem\":{\"heap_used_in_bytes\":300,\"heap_max_in_bytes\":1000}},"
+            + "\"plugins\":[{\"name\":\"analysis-nori\"}],\"network_types\":{\"transport_types\":{\"netty4\":3}}}}";
+
+    private static final String FULL_CLUSTER_HEALTH = "{\"cluster_name\":\"prod\",\"status\":\"yellow\",\"timed_out\":false,"
+            + "\"number_of_nodes\":3,\"number_of_data_nodes\":2,\"active_primary_shards\":40,\"active_shards\":80,"
+            + "\"relocating_shards\":1,\"initializing_shards\":2,\"unassigned_shards\":4,\"delayed_unassigned_shards\":0,"
+            + "\"number_of_pending_tasks\":5,\"number_of_in_flight_fetch\":0,\"task_max_waiting_in_queue_millis\":6,"
+            + "\"active_shards_percent_as_number\":95.2}";
+
+    @Test
+    @DisplayName("clusterStats_선언한필드_응답레코드가읽는필드와일치")
+    void testClusterStatsFields_MatchResponseRecordPaths() {
+        Set<String> readPaths = new TreeSet<>();
+        collectRecordPaths(ElasticsearchClusterStatisticsProvider.ClusterStatsResponse.class, "", readPaths);
+
+        assertEquals(readPaths, new TreeSet<>(ElasticsearchClusterStatisticsProvider.CLUSTER_STATS_FIELDS));
+    }
+
+    @Test
+    @DisplayName("clusterStats_filter_path적용응답_전체응답과같은요약")
+    void testClusterStats_FilteredResponse_ProducesSameSummary() throws IOException {
+        ElasticsearchClusterStatisticsProvider provider = new ElasticsearchClusterStatisticsProvider(mock(RestClient.class), jsonCodec);
+
+        String filtered = applyFilterPath(FULL_CLUSTER_STATS, ElasticsearchClusterStatisticsProvider.CLUSTER_STATS_FIELDS);
+
+        assertEquals(provider.parseClusterStatistics(stream(FULL_CLUSTER_STATS)), provider.parseClusterStatistics(stream(filtered)));
+    }
+
+    @Test
+    @DisplayName("clusterHealth_filter_path적용응답_전체응답과같은결과")
+    void testClusterHealth_FilteredResponse_ProducesSameValues() throws IOException {
+        ElasticsearchHealthProvider provider = new ElasticsearchHealthProvider(mock(RestClient.class), jsonCodec);
+
+        String filtered = applyFilterPath(FULL_CLUSTER_HEALTH, ElasticsearchHealthProvider.CLUSTER_HEALTH_FIELDS);
+
+        assertEquals(provider.parseClusterHealth(stream(FULL_CLUSTER_HEALTH)), provider.parseClusterHealth(stream(filtered)));
+    }
+
+    // 레코드 컴포넌트를 따라가며 역직렬화에 쓰이는 JSON 경로를 모읍니다. 중첩 레코드가 아니면 말단 필드로 봅니다.
+    private static void collectRecordPaths(Class<?> type, String prefix, Set<String> paths) {
+        for (RecordComponent component : type.getRecordComponents()) {
+            JsonProperty property = component.getAnnotation(JsonProperty.class);
+            String name = prefix + (property != null ? property.value() : component.getName());
+            if (component.getType().isRecord()) {
+                collectRecordPaths(component.getType(), name + ".", paths);
+            } else {
+                paths.add(name);
+            }
+        }
+    }
+
+    // 와일드카드 없는 filter_path를 흉내 내어 지정한 경로의 값만 남깁니다.
+    private String applyFilterPath(String json, List<String> paths) throws IOException {
+        JsonNode source = objectMapper.readTree(json);
+        ObjectNode filtered = objectMapper.createObjectNode();
+        for (String path : paths) {
+            String[] segments = path.split("\\.");
+            JsonNode value = source;
+            for (String segment : segments) {
+                value = value.path(segment);
+            }
+            if (value.isMissingNode()) {
+                continue;
+            }
+            ObjectNode parent = filtered;
+            for (int i = 0; i < segments.length - 1; i++) {
+                parent = parent.has(segments[i]) ? (ObjectNode) parent.get(segments[i]) : parent.putObject(segments[i]);
+            }
+            parent.set(segments[segments.length - 1], value);
+        }
+        return objectMapper.writeValueAsString(filtered);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package com.silbaram.github.infrastructures.elasticsearch.snapshot;
+
+import com.silbaram.github.infrastructures.elasticsearch.model.AllocationInfo;
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterStatistics;
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchCatAllocationProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchClusterStatisticsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchHealthProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterSnapshotPollerTest {
+
+    private static final ClusterStatistics STATISTICS = new ClusterStatistics(
+            new ClusterStatistics.Cluster("my-cluster", "uuid", "green", 0L),
+            new ClusterStatistics.Nodes(1, 1, 1, 1, 0, 4, 0L, 0L, 0.0),
+            new ClusterStatistics.Indices(0L, new ClusterStatistics.Shards(0, 0, 0.0), new ClusterStatistics.Docs(0L, 0L)));
+    private static final AllocationInfo ALLOCATION = new AllocationInfo(3, 0L, 0L, 0L, 0L, 0, "host", "127.0.0.1", "nodeA");
+
+    @Mock
+    private ElasticsearchHealthProvider healthProvider;
+    @Mock
+    private ElasticsearchClusterStatisticsProvider statisticsProvider;
+    @Mock
+    private ElasticsearchCatAllocationProvider allocationProvider;
+
+    @Test
+    @DisplayName("current_갱신전_빈값반환")
+    void testCurrent_BeforeRefresh_ReturnsEmpty() {
+        ClusterSnapshotPoller poller = newPoller(Duration.ofMinutes(1));
+
+        assertTrue(poller.current().isEmpty());
+    }
+
+    @Test
+    @DisplayName("refresh_성공_세API결과를하나의스냅샷으로보관")
+    void testRefresh_Success_StoresSnapshot() {
+        ClusterSnapshotPoller poller = newPoller(Duration.ofMinutes(1));
+        stubProviders(Mono.just(Map.of("status", "green")));
+
+        poller.refresh().block();
+
+        ClusterSnapshot snapshot = poller.current().orElseThrow();
+        assertEquals("green", snapshot.health().get("status"));
+        assertEquals("my-cluster", snapshot.statistics().cluster().name());
+        assertEquals("nodeA", snapshot.allocation().get(0).node());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.allocation().add(ALLOCATION));
+    }
+
+    @Test
+    @DisplayName("refresh_실패_이전스냅샷유지")
+    void testRefresh_Failure_KeepsPreviousSnapshot() {
+        ClusterSnapshotPoller poller = newPoller(Duration.ofMinutes(1));
+        stubProviders(Mono.just(Map.of("status", "green")));
+        poller.refresh().block();
+
+        when(healthProvider.getClusterHealthAsync()).thenReturn(Mono.error(new IOException("boom")));
+        assertThrows(RuntimeException.class, () -> poller.refresh().block());
+
+        assertEquals("green", poller.current().orElseThrow().health().get("status"));
+    }
+
+    @Test
+    @DisplayName("current_최대보관시간초과_빈값반환")
+    void testCurrent_OlderThanMaxAge_ReturnsEmpty() {
+        ClusterSnapshotPoller poller = newPoller(Duration.ofMillis(-1));
+        stubProviders(Mono.just(Map.of("status", "green")));
+
+        poller.refresh().block();
+
+        assertTrue(poller.current().isEmpty());
+    }
+
+    private void stubProviders(Mono<Map<String, String>> health) {
+        when(healthProvider.getClusterHealthAsync()).thenReturn(health);
+        when(statisticsProvider.getClusterStatisticsAsync()).thenReturn(Mono.just(STATISTICS));
+        when(allocationProvider.getCatAllocationAsync()).thenReturn(Mono.just(List.of(ALLOCATION)));
+    }
+
+    private ClusterSnapshotPoller newPoller(Duration maxAge) {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        props.getSnapshot().setMaxAge(maxAge);
+        return new ClusterSnapshotPoller(healthProvider, statisticsProvider, allocationProvider, props);
+    }
+}
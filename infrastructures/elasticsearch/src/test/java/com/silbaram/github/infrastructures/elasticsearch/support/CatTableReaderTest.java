@@ -0,0 +1,91 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatTableReaderTest {
+
+    private final CatTableReader reader = new CatTableReader(new JsonFactory());
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("read_지정열만_열순서대로읽고_나머지필드는건너뜀")
+    void testRead_WithColumns_ReadsOnlyRequestedColumnsInOrder() throws IOException {
+        String body = "[{\"health\":\"green\",\"index\":\"logs-1\",\"docs.count\":\"10\",\"uuid\":\"abc\"},"
+                + "{\"index\":\"logs-2\",\"health\":\"yellow\",\"extra\":{\"nested\":[1,2]}}]";
+        List<CatTableReader.Column> columns = List.of(
+                new CatTableReader.Column("index", "index"),
+                new CatTableReader.Column("health", "health"),
+                new CatTableReader.Column("docs.count", "docsCount"));
+
+        CatTable table = reader.read(json(body), columns, null);
+
+        assertEquals(List.of("index", "health", "docsCount"), table.columns());
+        assertEquals(2, table.rows().size());
+        assertEquals(Arrays.asList("logs-1", "green", "10"), table.rows().get(0));
+        assertEquals(Arrays.asList("logs-2", "yellow", null), table.rows().get(1), "없는 필드는 null이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("read_행조건이주어지면_조건을만족하는행만포함")
+    void testRead_WithRowFilter_SkipsFilteredRows() throws IOException {
+        String body = "[{\"alias\":\".security\",\"index\":\".security-7\"},{\"alias\":\"logs\",\"index\":\"logs-1\"}]";
+        List<CatTableReader.Column> columns = List.of(
+                new CatTableReader.Column("alias", "alias"),
+                new CatTableReader.Column("index", "index"));
+
+        CatTable table = reader.read(json(body), columns, row -> !((String) row[0]).startsWith("."));
+
+        assertEquals(1, table.rows().size());
+        assertEquals(List.of("logs", "logs-1"), table.rows().get(0));
+    }
+
+    @Test
+    @DisplayName("read_숫자열은_문자열값을숫자로변환")
+    void testRead_NumericColumns_ParsesNumbers() throws IOException {
+        String body = "[{\"shards\":\"5\",\"disk.percent\":\"42.5\",\"node\":\"node-1\"},{\"shards\":null,\"disk.percent\":\"n/a\",\"node\":\"UNASSIGNED\"}]";
+        List<CatTableReader.Column> columns = List.of(
+                new CatTableReader.Column("shards", "shards", true),
+                new CatTableReader.Column("disk.percent", "diskPercent", true),
+                new CatTableReader.Column("node", "node"));
+
+        CatTable table = reader.read(json(body), columns, null);
+
+        assertEquals(Arrays.asList(5L, 42.5, "node-1"), table.rows().get(0));
+        assertEquals(Arrays.asList(null, "n/a", "UNASSIGNED"), table.rows().get(1), "숫자가 아닌 값은 그대로 유지되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("read_배열이아닌응답이면_IOException")
+    void testRead_NotArray_ThrowsIOException() {
+        assertThrows(IOException.class, () -> reader.read(json("{\"error\":\"boom\"}"), List.of(), null));
+    }
+
+    @Test
+    @DisplayName("fromRecords_레코드목록을_컬럼형으로변환")
+    void testFromRecords_ConvertsRecordsToColumnarTable() {
+        List<Node> nodes = List.of(new Node("node-1", 5), new Node("node-2", 3));
+
+        CatTable table = CatTable.fromRecords(Node.class, nodes).withColumn("snapshot_age_ms", 10L);
+
+        assertEquals(List.of("name", "shards", "snapshot_age_ms"), table.columns());
+        assertEquals(List.of("node-1", 5, 10L), table.rows().get(0));
+        assertEquals(List.of("node-2", 3, 10L), table.rows().get(1));
+    }
+
+    private record Node(String name, int shards) {
+    }
+}
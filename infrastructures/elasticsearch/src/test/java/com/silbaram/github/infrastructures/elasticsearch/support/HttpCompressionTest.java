@@ -0,0 +1,93 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.silbaram.github.infrastructures.elasticsearch.properties.ElasticsearchProperties;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Request;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpCompressionTest {
+
+    private static HttpCompression compression(boolean enabled, DataSize threshold) {
+        ElasticsearchProperties props = new ElasticsearchProperties();
+        props.getCompression().setEnabled(enabled);
+        props.getCompression().setRequestThreshold(threshold);
+        return new HttpCompression(props);
+    }
+
+    @Test
+    @DisplayName("setJsonEntity_기준크기이상이면_gzip으로압축하고통계기록")
+    void testSetJsonEntity_AboveThreshold_CompressesBody() throws IOException {
+        HttpCompression httpCompression = compression(true, DataSize.ofBytes(100));
+        String json = "{\"query\":{\"terms\":{\"id\":[" + "\"0123456789\",".repeat(50) + "\"end\"]}}}";
+        Request request = new Request("POST", "/logs/_search");
+
+        httpCompression.setJsonEntity(request, json);
+
+        HttpEntity entity = request.getEntity();
+        assertEquals("gzip", entity.getContentEncoding().getValue());
+        assertTrue(entity.getContentType().getValue().startsWith("application/json"));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(EntityUtils.toByteArray(entity)))) {
+            assertEquals(json, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        HttpCompressionStats stats = httpCompression.stats();
+        assertEquals(1, stats.compressedRequests());
+        assertEquals(json.length(), stats.requestBytes());
+        assertEquals(entity.getContentLength(), stats.compressedRequestBytes());
+        assertTrue(stats.requestBytesSaved() > 0, "반복이 많은 본문은 압축 후 더 작아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("setJsonEntity_기준크기미만이면_압축하지않음")
+    void testSetJsonEntity_BelowThreshold_LeavesBodyUncompressed() throws IOException {
+        HttpCompression httpCompression = compression(true, DataSize.ofKilobytes(4));
+        Request request = new Request("POST", "/logs/_search");
+
+        httpCompression.setJsonEntity(request, "{\"query\":{\"match_all\":{}}}");
+
+        assertNull(request.getEntity().getContentEncoding());
+        assertEquals("{\"query\":{\"match_all\":{}}}", EntityUtils.toString(request.getEntity()));
+        assertEquals(0, httpCompression.stats().compressedRequests());
+    }
+
+    @Test
+    @DisplayName("압축사용안함_본문그대로설정하고_Accept-Encoding헤더없음")
+    void testDisabled_LeavesBodyAndHeadersUnchanged() throws IOException {
+        HttpCompression httpCompression = compression(false, DataSize.ofBytes(0));
+        Request request = new Request("POST", "/logs/_search");
+
+        httpCompression.setJsonEntity(request, "{\"size\":0}");
+
+        assertNull(request.getEntity().getContentEncoding());
+        assertEquals("{\"size\":0}", EntityUtils.toString(request.getEntity()));
+        assertEquals(0, httpCompression.defaultHeaders().length);
+    }
+
+    @Test
+    @DisplayName("process_gzip응답만_압축응답수에포함")
+    void testProcess_CountsGzipResponses() {
+        HttpCompression httpCompression = compression(true, DataSize.ofKilobytes(4));
+        HttpResponse gzipResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        gzipResponse.addHeader("Content-Encoding", "gzip");
+        HttpResponse plainResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+
+        httpCompression.process(gzipResponse, null);
+        httpCompression.process(plainResponse, null);
+
+        assertEquals(1, httpCompression.stats().compressedResponses());
+        assertEquals("gzip", httpCompression.defaultHeaders()[0].getValue());
+    }
+}
@@ -0,0 +1,43 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonCodecTest {
+
+    @Test
+    @DisplayName("readerFor_같은타입은_캐시된ObjectReader반환")
+    void testReaderFor_SameType_ReturnsCachedReader() {
+        JsonCodec jsonCodec = new JsonCodec();
+
+        ObjectReader first = jsonCodec.readerFor(JsonCodec.LIST_OF_MAPS);
+        ObjectReader second = jsonCodec.readerFor(JsonCodec.LIST_OF_MAPS);
+
+        assertSame(first, second, "같은 대상 타입에는 같은 ObjectReader가 재사용되어야 합니다.");
+        assertNotSame(first, jsonCodec.readerFor(JsonCodec.MAP), "대상 타입이 다르면 다른 ObjectReader여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("readerFor_바이트코드가속사용시에도_동일하게역직렬화")
+    void testReaderFor_WithBytecodeAcceleration_ReadsSameResult() throws IOException {
+        String json = "[{\"index\":\"index1\",\"docs.count\":\"10\"},{\"index\":\"index2\",\"docs.count\":\"20\"}]";
+
+        List<Map<String, Object>> plain = new JsonCodec(false).readerFor(JsonCodec.LIST_OF_MAPS)
+                .readValue(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        List<Map<String, Object>> accelerated = new JsonCodec(true).readerFor(JsonCodec.LIST_OF_MAPS)
+                .readValue(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, plain.size());
+        assertEquals("index1", plain.get(0).get("index"));
+        assertEquals(plain, accelerated);
+    }
+}
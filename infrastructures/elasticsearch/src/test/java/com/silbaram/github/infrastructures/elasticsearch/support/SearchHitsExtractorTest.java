@@ -0,0 +1,129 @@
+package com.silbaram.github.infrastructures.elasticsearch.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchHitsExtractorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SearchHitsExtractor extractor = new SearchHitsExtractor(objectMapper.getFactory());
+
+    private static final String SEARCH_RESPONSE = "{" +
+            "\"took\":7,\"timed_out\":false," +
+            "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}," +
+            "\"hits\":{\"total\":{\"value\":3,\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[" +
+            "{\"_index\":\"books\",\"_id\":\"1\",\"_score\":1.0,\"_source\":{\"title\":\"first\"}}," +
+            "{\"_index\":\"books\",\"_id\":\"2\",\"_score\":1.0,\"_source\":{\"title\":\"second\"}}," +
+            "{\"_index\":\"books\",\"_id\":\"3\",\"_score\":1.0,\"_source\":{\"title\":\"third\"}}]}," +
+            "\"aggregations\":{\"by_title\":{\"buckets\":[{\"key\":\"first\",\"doc_count\":1}]}}}";
+
+    @Test
+    @DisplayName("extract_예산이내_id와source와집계만반환")
+    void testExtract_WithinBudget_ReturnsIdSourceAndAggregations() throws IOException {
+        JsonNode result = objectMapper.readTree(extractor.extract(stream(SEARCH_RESPONSE), 10, 1024 * 1024));
+
+        assertEquals(7, result.get("took").asInt());
+        assertEquals(3, result.get("total").get("value").asInt());
+        assertEquals(3, result.get("hits").size());
+        assertEquals("1", result.get("hits").get(0).get("_id").asText());
+        assertEquals("first", result.get("hits").get(0).get("_source").get("title").asText());
+        assertNull(result.get("hits").get(0).get("_index"), "_id와 _source 외의 히트 필드는 제외되어야 합니다.");
+        assertNull(result.get("_shards"), "_shards는 제외되어야 합니다.");
+        assertEquals(1, result.get("aggregations").get("by_title").get("buckets").size());
+        assertEquals(3, result.get("returned_hits").asInt());
+        assertEquals(0, result.get("omitted_hits").asInt());
+        assertEquals("eq", result.get("omitted_hits_relation").asText());
+        assertFalse(result.get("truncated").asBoolean());
+    }
+
+    @Test
+    @DisplayName("extract_최대히트수초과_잘림표시")
+    void testExtract_ExceedsMaxHits_MarksTruncated() throws IOException {
+        JsonNode result = objectMapper.readTree(extractor.extract(stream(SEARCH_RESPONSE), 2, 1024 * 1024));
+
+        assertEquals(2, result.get("hits").size());
+        assertEquals(2, result.get("returned_hits").asInt());
+        assertEquals(1, result.get("omitted_hits").asInt());
+        assertTrue(result.get("truncated").asBoolean());
+        assertEquals(SearchHitsExtractor.REASON_MAX_HITS, result.get("truncated_reason").asText());
+        assertNotNull(result.get("aggregations"), "히트 수 예산은 aggregations에 영향을 주지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("extract_최대바이트초과_잘림표시")
+    void testExtract_ExceedsMaxBytes_MarksTruncated() throws IOException {
+        // 히트 하나({"_id":"1","_source":{"title":"first"}})만 들어갈 수 있는 예산
+        JsonNode result = objectMapper.readTree(extractor.extract(stream(SEARCH_RESPONSE), 10, 45));
+
+        assertEquals(1, result.get("hits").size());
+        assertEquals(2, result.get("omitted_hits").asInt());
+        assertTrue(result.get("truncated").asBoolean());
+        assertEquals(SearchHitsExtractor.REASON_MAX_BYTES, result.get("truncated_reason").asText());
+        assertTrue(result.get("aggregations_truncated").asBoolean());
+        assertNull(result.get("aggregations"));
+    }
+
+    @Test
+    @DisplayName("extract_전체히트수가하한값_누락수를gte로표시")
+    void testExtract_TotalIsLowerBound_ReportsOmittedHitsAsGte() throws IOException {
+        String response = SEARCH_RESPONSE.replace("{\"value\":3,\"relation\":\"eq\"}", "{\"value\":10000,\"relation\":\"gte\"}");
+
+        JsonNode result = objectMapper.readTree(extractor.extract(stream(response), 2, 1024 * 1024));
+
+        assertEquals(9998, result.get("omitted_hits").asLong());
+        assertEquals("gte", result.get("omitted_hits_relation").asText());
+        assertEquals(10000, result.get("total").get("value").asInt());
+    }
+
+    @Test
+    @DisplayName("extract_전체히트수없음_건너뛴히트수를gte로표시")
+    void testExtract_WithoutTotal_CountsSkippedHits() throws IOException {
+        String response = SEARCH_RESPONSE.replace("\"total\":{\"value\":3,\"relation\":\"eq\"},", "");
+
+        JsonNode result = objectMapper.readTree(extractor.extract(stream(response), 2, 1024 * 1024));
+
+        assertEquals(1, result.get("omitted_hits").asInt());
+        assertEquals("gte", result.get("omitted_hits_relation").asText());
+        assertNull(result.get("total"));
+    }
+
+    @Test
+    @DisplayName("extract_예산보다큰_source와aggregations_복사를멈추고이후필드를읽음")
+    void testExtract_OversizedSourceAndAggregations_SkipsRestAndKeepsReading() throws IOException {
+        String large = "x".repeat(10_000);
+        String response = "{\"took\":3,\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"hits\":["
+            + "{\"_id\":\"1\",\"_source\":{\"title\":\"first\"}},"
+            + "{\"_id\":\"big\",\"_source\":{\"body\":\"" + large + "\",\"tags\":[{\"a\":1},{\"b\":2}]},\"_score\":1.0}]},"
+            + "\"aggregations\":{\"by_body\":{\"buckets\":[{\"key\":\"" + large + "\"}]}},"
+            + "\"timed_out\":false}";
+
+        JsonNode result = objectMapper.readTree(extractor.extract(stream(response), 10, 1024));
+
+        assertEquals(1, result.get("hits").size());
+        assertEquals("1", result.get("hits").get(0).get("_id").asText());
+        assertEquals(1, result.get("omitted_hits").asInt());
+        assertEquals(SearchHitsExtractor.REASON_MAX_BYTES, result.get("truncated_reason").asText());
+        assertTrue(result.get("aggregations_truncated").asBoolean());
+        assertNull(result.get("aggregations"));
+        assertFalse(result.get("timed_out").asBoolean());
+    }
+
+    @Test
+    @DisplayName("extract_객체가아닌응답_IOException발생")
+    void testExtract_NonObjectResponse_ThrowsIOException() {
+        assertThrows(IOException.class, () -> extractor.extract(stream("[1,2,3]"), 10, 1024));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,7 +1,9 @@
 package com.silbaram.github.mcp.server;
 
+import com.silbaram.github.mcp.server.elasticsearch.properties.McpProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 
 @SpringBootApplication
@@ -9,6 +11,7 @@ import org.springframework.context.annotation.ComponentScan;
     "com.silbaram.github.mcp.server",
     "com.silbaram.github.infrastructures.elasticsearch"
 })
+@EnableConfigurationProperties(McpProperties.class)
 public class ElasticSearchMcpServerApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,322 @@
+package com.silbaram.github.mcp.server.elasticsearch.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "mcp")
+public class McpProperties {
+    /** Cluster protection for search tools (mcp.guard.*) */
+    private Guard guard = new Guard();
+    /** Per-tool concurrency limits (mcp.bulkhead.*) */
+    private Bulkhead bulkhead = new Bulkhead();
+    /** Per-session accounting in HTTP/SSE mode (mcp.sessions.*) */
+    private Sessions sessions = new Sessions();
+    /** Meter registry settings (mcp.metrics.*) */
+    private Metrics metrics = new Metrics();
+
+    public Guard getGuard() {
+        return guard;
+    }
+    public void setGuard(Guard guard) {
+        this.guard = guard;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+    public void setBulkhead(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public Sessions getSessions() {
+        return sessions;
+    }
+    public void setSessions(Sessions sessions) {
+        this.sessions = sessions;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public static class Guard {
+        /** false disables both the concurrency limit and the circuit breaker */
+        private boolean enabled = true;
+        /** AIMD concurrency limit (mcp.guard.limit.*) */
+        private Limit limit = new Limit();
+        /** Calls waiting for a slot (mcp.guard.queue.*) */
+        private Queue queue = new Queue();
+        /** Circuit breaker (mcp.guard.circuit.*) */
+        private Circuit circuit = new Circuit();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Limit getLimit() {
+            return limit;
+        }
+        public void setLimit(Limit limit) {
+            this.limit = limit;
+        }
+
+        public Queue getQueue() {
+            return queue;
+        }
+        public void setQueue(Queue queue) {
+            this.queue = queue;
+        }
+
+        public Circuit getCircuit() {
+            return circuit;
+        }
+        public void setCircuit(Circuit circuit) {
+            this.circuit = circuit;
+        }
+
+        public static class Limit {
+            /** Concurrent Elasticsearch requests allowed at startup */
+            private int initial = 10;
+            private int min = 1;
+            private int max = 50;
+            /** Responses slower than this back off the limit like a 429/5xx */
+            private Duration latencyThreshold = Duration.ofSeconds(2);
+            /** Factor the limit is multiplied by on backoff */
+            private double backoffRatio = 0.9;
+
+            public int getInitial() {
+                return initial;
+            }
+            public void setInitial(int initial) {
+                this.initial = initial;
+            }
+
+            public int getMin() {
+                return min;
+            }
+            public void setMin(int min) {
+                this.min = min;
+            }
+
+            public int getMax() {
+                return max;
+            }
+            public void setMax(int max) {
+                this.max = max;
+            }
+
+            public Duration getLatencyThreshold() {
+                return latencyThreshold;
+            }
+            public void setLatencyThreshold(Duration latencyThreshold) {
+                this.latencyThreshold = latencyThreshold;
+            }
+
+            public double getBackoffRatio() {
+                return backoffRatio;
+            }
+            public void setBackoffRatio(double backoffRatio) {
+                this.backoffRatio = backoffRatio;
+            }
+        }
+
+        public static class Queue {
+            /** Calls beyond this many waiting ones are rejected immediately */
+            private int maxSize = 20;
+            /** Longest time a call waits for a slot */
+            private Duration maxWait = Duration.ofSeconds(5);
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            public Duration getMaxWait() {
+                return maxWait;
+            }
+            public void setMaxWait(Duration maxWait) {
+                this.maxWait = maxWait;
+            }
+        }
+
+        public static class Circuit {
+            /** Consecutive cluster failures that open the circuit */
+            private int failureThreshold = 5;
+            /** How long the circuit stays open before a single probe call */
+            private Duration openDuration = Duration.ofSeconds(30);
+
+            public int getFailureThreshold() {
+                return failureThreshold;
+            }
+            public void setFailureThreshold(int failureThreshold) {
+                this.failureThreshold = failureThreshold;
+            }
+
+            public Duration getOpenDuration() {
+                return openDuration;
+            }
+            public void setOpenDuration(Duration openDuration) {
+                this.openDuration = openDuration;
+            }
+        }
+    }
+
+    public static class Bulkhead {
+        private boolean enabled = true;
+        /** Limits of the search tools (mcp.bulkhead.search.*) */
+        private Search search = new Search();
+        /** Limits of every other tool (mcp.bulkhead.default.*) */
+        private Limits defaultLimits = new Limits();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Search getSearch() {
+            return search;
+        }
+        public void setSearch(Search search) {
+            this.search = search;
+        }
+
+        public Limits getDefault() {
+            return defaultLimits;
+        }
+        public void setDefault(Limits defaultLimits) {
+            this.defaultLimits = defaultLimits;
+        }
+
+        public static class Limits {
+            /** Calls of one tool running at the same time */
+            private int maxConcurrent;
+            /** Calls waiting beyond this many are rejected immediately */
+            private int queueDepth;
+            /** Longest time a call waits for a slot */
+            private Duration queueTimeout;
+
+            public Limits() {
+                this(4, 16, Duration.ofSeconds(5));
+            }
+
+            Limits(int maxConcurrent, int queueDepth, Duration queueTimeout) {
+                this.maxConcurrent = maxConcurrent;
+                this.queueDepth = queueDepth;
+                this.queueTimeout = queueTimeout;
+            }
+
+            public int getMaxConcurrent() {
+                return maxConcurrent;
+            }
+            public void setMaxConcurrent(int maxConcurrent) {
+                this.maxConcurrent = maxConcurrent;
+            }
+
+            public int getQueueDepth() {
+                return queueDepth;
+            }
+            public void setQueueDepth(int queueDepth) {
+                this.queueDepth = queueDepth;
+            }
+
+            public Duration getQueueTimeout() {
+                return queueTimeout;
+            }
+            public void setQueueTimeout(Duration queueTimeout) {
+                this.queueTimeout = queueTimeout;
+            }
+        }
+
+        public static class Search extends Limits {
+            /** Tools that use the search limits instead of the default ones */
+            private Set<String> tools = new LinkedHashSet<>(List.of(
+                "get_document_search_by_index",
+                "get_document_hits_by_index",
+                "get_document_aggregations_by_index",
+                "get_documents_multi_search",
+                "search_documents_paged",
+                "get_next_search_page",
+                "submit_async_search",
+                "get_async_search"
+            ));
+
+            public Search() {
+                super(8, 16, Duration.ofSeconds(10));
+            }
+
+            public Set<String> getTools() {
+                return tools;
+            }
+            public void setTools(Set<String> tools) {
+                this.tools = tools;
+            }
+        }
+    }
+
+    public static class Sessions {
+        /** Sessions kept before idle ones are dropped */
+        private int maxTracked = 1000;
+        /** Sessions quiet for longer than this are dropped first */
+        private Duration idleTimeout = Duration.ofMinutes(30);
+
+        public int getMaxTracked() {
+            return maxTracked;
+        }
+        public void setMaxTracked(int maxTracked) {
+            this.maxTracked = maxTracked;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+    }
+
+    public static class Metrics {
+        /** Periodic logging of all meters (mcp.metrics.logging.*) */
+        private Logging logging = new Logging();
+
+        public Logging getLogging() {
+            return logging;
+        }
+        public void setLogging(Logging logging) {
+            this.logging = logging;
+        }
+
+        public static class Logging {
+            private boolean enabled = false;
+            /** Interval between two meter dumps */
+            private Duration step = Duration.ofMinutes(1);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Duration getStep() {
+                return step;
+            }
+            public void setStep(Duration step) {
+                this.step = step;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.silbaram.github.mcp.server.elasticsearch.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Feeds the {@link McpSessionRegistry} from the HTTP/SSE transport.
+ * <p>
+ * Open SSE streams are counted on the SSE endpoint. Messages posted to the message endpoint are attributed to the
+ * {@code sessionId} query parameter that the transport hands out to each client. Only active when the server runs
+ * as a reactive web application (the {@code sse} profile).
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class McpSessionAccountingFilter implements WebFilter {
+
+    private final McpSessionRegistry sessionRegistry;
+    private final String sseEndpoint;
+    private final String messageEndpoint;
+
+    public McpSessionAccountingFilter(
+        McpSessionRegistry sessionRegistry,
+        @Value("${spring.ai.mcp.server.sse-endpoint:/sse}") String sseEndpoint,
+        @Value("${spring.ai.mcp.server.sse-message-endpoint:/mcp/message}") String messageEndpoint
+    ) {
+        this.sessionRegistry = sessionRegistry;
+        this.sseEndpoint = sseEndpoint;
+        this.messageEndpoint = messageEndpoint;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+
+        if (HttpMethod.GET.equals(request.getMethod()) && sseEndpoint.equals(path)) {
+            sessionRegistry.streamOpened();
+            // The stream ends when the client disconnects (cancel) or the server closes the session.
+            return chain.filter(exchange).doFinally(signal -> sessionRegistry.streamClosed());
+        }
+
+        String sessionId = request.getQueryParams().getFirst("sessionId");
+        if (!HttpMethod.POST.equals(request.getMethod()) || !messageEndpoint.equals(path) || sessionId == null) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        long requestBytes = request.getHeaders().getContentLength();
+        return chain.filter(exchange).doFinally(signal -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            boolean failed = signal == SignalType.ON_ERROR || (status != null && status.isError());
+            sessionRegistry.record(sessionId, requestBytes, System.nanoTime() - start, failed);
+        });
+    }
+}
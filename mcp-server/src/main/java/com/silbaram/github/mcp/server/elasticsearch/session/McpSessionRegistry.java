@@ -0,0 +1,147 @@
+package com.silbaram.github.mcp.server.elasticsearch.session;
+
+import com.silbaram.github.mcp.server.elasticsearch.properties.McpProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-session accounting for MCP clients connected over the HTTP/SSE transport.
+ * <p>
+ * All sessions share the same Elasticsearch connection pool, caches and tool bulkheads; this registry only keeps
+ * track of who is using them. Sessions idle for longer than {@code mcp.sessions.idle-timeout} are dropped once more
+ * than {@code mcp.sessions.max-tracked} sessions are known. In stdio mode nothing is recorded.
+ */
+@Component
+public class McpSessionRegistry {
+
+    private final int maxTracked;
+    private final long idleTimeoutMillis;
+    private final LongSupplier clock;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private final LongAdder evictedSessions = new LongAdder();
+
+    public McpSessionRegistry(McpProperties props) {
+        this(props.getSessions().getMaxTracked(), props.getSessions().getIdleTimeout(), System::currentTimeMillis);
+    }
+
+    McpSessionRegistry(int maxTracked, Duration idleTimeout, LongSupplier clock) {
+        this.maxTracked = Math.max(1, maxTracked);
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Records one MCP message posted by a session.
+     *
+     * @param sessionId the transport session id
+     * @param requestBytes size of the request body, or 0 if unknown
+     * @param durationNanos time until the message was handled, including any tool call it triggered
+     * @param failed true if the message was answered with an error status
+     */
+    public void record(String sessionId, long requestBytes, long durationNanos, boolean failed) {
+        long now = clock.getAsLong();
+        Session session = sessions.computeIfAbsent(sessionId, id -> new Session(id, now));
+        session.messages.increment();
+        if (failed) {
+            session.errors.increment();
+        }
+        session.requestBytes.add(Math.max(0L, requestBytes));
+        session.busyNanos.add(durationNanos);
+        session.lastSeenMillis.set(now);
+        if (sessions.size() > maxTracked) {
+            evict(now);
+        }
+    }
+
+    public void streamOpened() {
+        openStreams.incrementAndGet();
+    }
+
+    public void streamClosed() {
+        openStreams.decrementAndGet();
+    }
+
+    /**
+     * @return number of SSE streams currently open
+     */
+    public int openStreams() {
+        return openStreams.get();
+    }
+
+    public int trackedSessions() {
+        return sessions.size();
+    }
+
+    public long evictedSessions() {
+        return evictedSessions.sum();
+    }
+
+    /**
+     * @return accounting for every tracked session, most recently active first
+     */
+    public List<SessionStats> sessions() {
+        return sessions.values().stream()
+                .map(Session::snapshot)
+                .sorted(Comparator.comparing(SessionStats::lastSeen).reversed())
+                .toList();
+    }
+
+    // Drops idle sessions first and, if that is not enough, the least recently active ones.
+    private void evict(long now) {
+        sessions.values().removeIf(session -> {
+            boolean idle = now - session.lastSeenMillis.get() > idleTimeoutMillis;
+            if (idle) {
+                evictedSessions.increment();
+            }
+            return idle;
+        });
+        while (sessions.size() > maxTracked) {
+            sessions.values().stream()
+                    .min(Comparator.comparingLong(session -> session.lastSeenMillis.get()))
+                    .ifPresent(oldest -> {
+                        if (sessions.remove(oldest.id, oldest)) {
+                            evictedSessions.increment();
+                        }
+                    });
+        }
+    }
+
+    private static final class Session {
+        private final String id;
+        private final long firstSeenMillis;
+        private final AtomicLong lastSeenMillis;
+        private final LongAdder messages = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+
+        private Session(String id, long now) {
+            this.id = id;
+            this.firstSeenMillis = now;
+            this.lastSeenMillis = new AtomicLong(now);
+        }
+
+        private SessionStats snapshot() {
+            return new SessionStats(
+                id,
+                messages.sum(),
+                errors.sum(),
+                requestBytes.sum(),
+                Duration.ofNanos(busyNanos.sum()).toMillis(),
+                Instant.ofEpochMilli(firstSeenMillis),
+                Instant.ofEpochMilli(lastSeenMillis.get())
+            );
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.silbaram.github.mcp.server.elasticsearch.session;
+
+import java.time.Instant;
+
+/**
+ * Accounting for one MCP session.
+ *
+ * @param sessionId the transport session id
+ * @param messages number of MCP messages posted by the session
+ * @param errors number of messages answered with an error status
+ * @param requestBytes total size of the posted messages
+ * @param busyMillis total time spent handling the session's messages, including tool calls
+ * @param firstSeen time of the session's first message
+ * @param lastSeen time of the session's latest message
+ */
+public record SessionStats(
+    String sessionId,
+    long messages,
+    long errors,
+    long requestBytes,
+    long busyMillis,
+    Instant firstSeen,
+    Instant lastSeen
+) {
+}
@@ -1,47 +1,90 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchCluster;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
 import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchAliasesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.CatResultFormat;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 @Service
 public class AliasesToolsService {
 
     private final ElasticsearchAliasesProvider elasticsearchAliasesProvider;
+    private final ToolCallCoalescer toolCallCoalescer;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchClusterRegistry clusterRegistry;
 
-    public AliasesToolsService(ElasticsearchAliasesProvider elasticsearchAliasesProvider) {
+    public AliasesToolsService(ElasticsearchAliasesProvider elasticsearchAliasesProvider, ToolCallCoalescer toolCallCoalescer, ToolMetrics toolMetrics, ElasticsearchClusterRegistry clusterRegistry) {
         this.elasticsearchAliasesProvider = elasticsearchAliasesProvider;
+        this.toolCallCoalescer = toolCallCoalescer;
+        this.toolMetrics = toolMetrics;
+        this.clusterRegistry = clusterRegistry;
     }
 
     @Tool(
         name = "get_cat_aliases",
-        description = "Get a list of all aliases Elasticsearch."
+        description = "Get a list of all aliases Elasticsearch. Sorting is applied by the cluster; use offset/limit to page through large clusters."
     )
-    public List<Map<String, Object>> getCatAliases() {
-        try {
-            return elasticsearchAliasesProvider.getCatAliases();
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
-        }
+    public Object getCatAliases(
+        @ToolParam(required = false, description = "Result shape: 'rows' (default, one object per row) or 'columnar' ({columns, rows} with key names sent once)")
+        String format,
+        @ToolParam(required = false, description = "Comma-separated sort keys applied by the cluster, e.g. 'alias,index:desc'")
+        String sort,
+        @ToolParam(required = false, description = "Number of matching rows to skip")
+        Integer offset,
+        @ToolParam(required = false, description = "Maximum number of rows to return")
+        Integer limit,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        return listAliases("get_cat_aliases", cluster, null, format, new CatListOptions(null, null, splitSort(sort), offset, limit));
     }
 
     @Tool(
         name = "get_cat_aliases_by_name",
-        description = "Get only the aliases matching the specified alias name or wildcard pattern."
+        description = "Get only the aliases matching the specified alias name or wildcard pattern. Sorting is applied by the cluster; use offset/limit to page through the matches."
     )
-    public List<Map<String, Object>> getCatAliasesByName(
+    public Object getCatAliasesByName(
         @ToolParam(description = "Alias name or wildcard pattern to filter")
-        String aliasName
+        String aliasName,
+        @ToolParam(required = false, description = "Result shape: 'rows' (default, one object per row) or 'columnar' ({columns, rows} with key names sent once)")
+        String format,
+        @ToolParam(required = false, description = "Comma-separated sort keys applied by the cluster, e.g. 'alias,index:desc'")
+        String sort,
+        @ToolParam(required = false, description = "Number of matching rows to skip")
+        Integer offset,
+        @ToolParam(required = false, description = "Maximum number of rows to return")
+        Integer limit,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
     ) {
-        try {
-            return elasticsearchAliasesProvider.getCatAliasesByName(aliasName);
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
-        }
+        return listAliases("get_cat_aliases_by_name", cluster, aliasName, format, new CatListOptions(null, null, splitSort(sort), offset, limit));
+    }
+
+    private Object listAliases(String toolName, String cluster, String aliasName, String format, CatListOptions options) {
+        boolean columnar = CatResultFormat.parse(format) == CatResultFormat.COLUMNAR;
+        ElasticsearchCluster target = ElasticsearchClusterRegistry.isDefault(cluster) ? null : clusterRegistry.cluster(cluster);
+        String clusterName = target == null ? ElasticsearchClusterRegistry.DEFAULT_CLUSTER : target.name();
+        ElasticsearchAliasesProvider provider = target == null ? elasticsearchAliasesProvider : target.aliases();
+        return toolMetrics.record(toolName, () -> toolCallCoalescer.coalesce(toolName, Arrays.asList(clusterName, aliasName, columnar, options),
+                        () -> columnar
+                                ? provider.listAliasesTableAsync(aliasName, options).cast(Object.class)
+                                : provider.listAliasesAsync(aliasName, options).cast(Object.class))
+                .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                .block());
+    }
+
+    private static List<String> splitSort(String sort) {
+        return sort == null ? List.of() : List.of(sort.split(","));
     }
 }
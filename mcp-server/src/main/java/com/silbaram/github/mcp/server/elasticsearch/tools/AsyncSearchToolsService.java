@@ -0,0 +1,112 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools;
+
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchAsyncSearchProvider;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ElasticsearchGuard;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Service class that provides async search tools for long-running queries such as heavy aggregations.
+ */
+@Service
+public class AsyncSearchToolsService {
+
+    private final ElasticsearchAsyncSearchProvider asyncSearchProvider;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchGuard elasticsearchGuard;
+    private final ElasticsearchClusterRegistry clusterRegistry;
+
+    public AsyncSearchToolsService(
+        ElasticsearchAsyncSearchProvider asyncSearchProvider,
+        ToolMetrics toolMetrics,
+        ElasticsearchGuard elasticsearchGuard,
+        ElasticsearchClusterRegistry clusterRegistry
+    ) {
+        this.asyncSearchProvider = asyncSearchProvider;
+        this.toolMetrics = toolMetrics;
+        this.elasticsearchGuard = elasticsearchGuard;
+        this.clusterRegistry = clusterRegistry;
+    }
+
+    @Tool(
+        name = "submit_async_search",
+        description = "Submit a long-running search (e.g. heavy aggregations) to an Elasticsearch index using queryDsl. "
+            + "If it finishes within the wait time the complete result is returned. Otherwise the response has is_running=true, "
+            + "partial results and an id; poll it with get_async_search and delete it with delete_async_search when no longer needed."
+    )
+    public String submitAsyncSearch(
+        @ToolParam(description = "The name of the elasticsearch index or index pattern to search")
+        String index,
+        @ToolParam(description = "elasticsearch Search queryDSL")
+        String queryBody,
+        @ToolParam(required = false, description = "Seconds to wait for completion before returning partial results (defaults to the server setting, capped by the server maximum)")
+        Integer waitSeconds,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        return toolMetrics.recordSearch("submit_async_search", () -> call(cluster, provider -> provider.submitAsync(index, queryBody, toDuration(waitSeconds)))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    @Tool(
+        name = "get_async_search",
+        description = "Return the current state of an async search started with submit_async_search: "
+            + "is_running, is_partial and the (partial) search response. Each call extends how long the cluster keeps the result."
+    )
+    public String getAsyncSearch(
+        @ToolParam(description = "The id returned by submit_async_search")
+        String id,
+        @ToolParam(required = false, description = "Seconds to wait for the search to complete before returning (defaults to 0, capped by the server maximum)")
+        Integer waitSeconds,
+        @ToolParam(required = false, description = "The cluster the search was submitted to; defaults to the 'default' cluster")
+        String cluster
+    ) {
+        return toolMetrics.recordSearch("get_async_search", () -> call(cluster, provider -> provider.getAsync(id, toDuration(waitSeconds)))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    @Tool(
+        name = "delete_async_search",
+        description = "Cancel an async search if it is still running and delete its stored result."
+    )
+    public boolean deleteAsyncSearch(
+        @ToolParam(description = "The id returned by submit_async_search")
+        String id,
+        @ToolParam(required = false, description = "The cluster the search was submitted to; defaults to the 'default' cluster")
+        String cluster
+    ) {
+        ElasticsearchAsyncSearchProvider provider = ElasticsearchClusterRegistry.isDefault(cluster)
+                ? asyncSearchProvider
+                : clusterRegistry.cluster(cluster).asyncSearch();
+        return toolMetrics.record("delete_async_search", () -> Boolean.TRUE.equals(provider.deleteAsync(id)
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block()));
+    }
+
+    /**
+     * Calls the selected cluster. The guard tracks the load of the default cluster, so the other clusters are called directly.
+     * Async search calls wait up to wait_for_completion_timeout by design, so their latency is kept out of the guard's limit.
+     */
+    private Mono<String> call(String cluster, Function<ElasticsearchAsyncSearchProvider, Mono<String>> call) {
+        if (ElasticsearchClusterRegistry.isDefault(cluster)) {
+            return elasticsearchGuard.guardLongRunning(() -> call.apply(asyncSearchProvider));
+        }
+        ElasticsearchAsyncSearchProvider provider = clusterRegistry.cluster(cluster).asyncSearch();
+        return Mono.defer(() -> call.apply(provider));
+    }
+
+    private static Duration toDuration(Integer seconds) {
+        return seconds == null ? null : Duration.ofSeconds(Math.max(0, seconds));
+    }
+}
@@ -1,19 +1,42 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchCluster;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
 import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchHealthProvider;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshotPoller;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class ClusterHealthToolsService {
 
     private final ElasticsearchHealthProvider elasticsearchHealthProvider;
+    private final ToolCallCoalescer toolCallCoalescer;
+    private final ClusterSnapshotPoller clusterSnapshotPoller;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchClusterRegistry clusterRegistry;
 
-    public ClusterHealthToolsService(ElasticsearchHealthProvider elasticsearchHealthProvider) {
+    public ClusterHealthToolsService(
+        ElasticsearchHealthProvider elasticsearchHealthProvider,
+        ToolCallCoalescer toolCallCoalescer,
+        ClusterSnapshotPoller clusterSnapshotPoller,
+        ToolMetrics toolMetrics,
+        ElasticsearchClusterRegistry clusterRegistry
+    ) {
         this.elasticsearchHealthProvider = elasticsearchHealthProvider;
+        this.toolCallCoalescer = toolCallCoalescer;
+        this.clusterSnapshotPoller = clusterSnapshotPoller;
+        this.toolMetrics = toolMetrics;
+        this.clusterRegistry = clusterRegistry;
     }
 
 
@@ -21,11 +44,29 @@ public class ClusterHealthToolsService {
         name = "get_cluster_health",
         description = "Returns basic information about the health of the cluster."
     )
-    public Map<String, String> getClusterHealth() {
-        try {
-            return elasticsearchHealthProvider.getClusterHealth();
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
+    public Map<String, String> getClusterHealth(
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        if (!ElasticsearchClusterRegistry.isDefault(cluster)) {
+            ElasticsearchCluster target = clusterRegistry.cluster(cluster);
+            return toolMetrics.record("get_cluster_health", () -> toolCallCoalescer.coalesce("get_cluster_health", List.of(target.name()), target.health()::getClusterHealthAsync)
+                    .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                    .block());
         }
+        // Served from the background snapshot when polling is enabled and the snapshot is fresh enough.
+        return toolMetrics.record("get_cluster_health", () -> clusterSnapshotPoller.current()
+                .map(snapshot -> {
+                    Map<String, String> health = new HashMap<>(snapshot.health());
+                    health.put("snapshot_age_ms", Long.toString(snapshot.ageMillis()));
+                    return health;
+                })
+                .orElseGet(this::fetchClusterHealth));
+    }
+
+    private Map<String, String> fetchClusterHealth() {
+        return toolCallCoalescer.coalesce("get_cluster_health", List.of(), elasticsearchHealthProvider::getClusterHealthAsync)
+                .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                .block();
     }
 }
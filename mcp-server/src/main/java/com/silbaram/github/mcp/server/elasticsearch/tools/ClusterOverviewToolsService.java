@@ -0,0 +1,101 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools;
+
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchCluster;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterOverview;
+import com.silbaram.github.infrastructures.elasticsearch.model.IndexInfo;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshot;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshotPoller;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service class that provides a single triage tool combining cluster health, statistics, shard allocation and index listings.
+ * <p>
+ * The sub-requests are sent concurrently, so the latency of the tool is that of the slowest request rather than the sum.
+ * On the default cluster, health, statistics and allocation come from the background snapshot when it is fresh.
+ */
+@Service
+public class ClusterOverviewToolsService {
+
+    private static final int DEFAULT_LIMIT = 5;
+    // Elasticsearch's default low disk watermark: above it no new shards are allocated to the node.
+    private static final int DEFAULT_DISK_WATERMARK_PERCENT = 85;
+
+    private final ElasticsearchClusterRegistry clusterRegistry;
+    private final ClusterSnapshotPoller clusterSnapshotPoller;
+    private final ToolCallCoalescer toolCallCoalescer;
+    private final ToolMetrics toolMetrics;
+
+    public ClusterOverviewToolsService(
+        ElasticsearchClusterRegistry clusterRegistry,
+        ClusterSnapshotPoller clusterSnapshotPoller,
+        ToolCallCoalescer toolCallCoalescer,
+        ToolMetrics toolMetrics
+    ) {
+        this.clusterRegistry = clusterRegistry;
+        this.clusterSnapshotPoller = clusterSnapshotPoller;
+        this.toolCallCoalescer = toolCallCoalescer;
+        this.toolMetrics = toolMetrics;
+    }
+
+    @Tool(
+        name = "get_cluster_overview",
+        description = "Returns a compact triage summary of the cluster in one call: status, node counts, heap usage, shard counts "
+            + "(active, unassigned, initializing, relocating), nodes whose disk usage is at or above the watermark, the largest indices and the red indices. "
+            + "Prefer this over calling get_cluster_health, get_cluster_statistics, get_shard_allocation and get_cat_indices one after another."
+    )
+    public ClusterOverview getClusterOverview(
+        @ToolParam(required = false, description = "Maximum number of disk hotspots, largest indices and red indices to return (defaults to 5)")
+        Integer limit,
+        @ToolParam(required = false, description = "Disk usage percent at or above which a node is reported as a hotspot (defaults to 85)")
+        Integer diskWatermarkPercent,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        int maxRows = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        int watermark = diskWatermarkPercent == null ? DEFAULT_DISK_WATERMARK_PERCENT : diskWatermarkPercent;
+        ElasticsearchCluster target = clusterRegistry.cluster(cluster);
+        return toolMetrics.record("get_cluster_overview", () -> toolCallCoalescer.coalesce("get_cluster_overview", Arrays.asList(target.name(), maxRows, watermark),
+                        () -> overview(target, maxRows, watermark))
+                .onErrorMap(IOException.class, e -> new RuntimeException("Error building cluster overview: " + e.getMessage(), e))
+                .block());
+    }
+
+    private Mono<ClusterOverview> overview(ElasticsearchCluster target, int limit, int diskWatermarkPercent) {
+        // Sorting and the red filter are applied by the cluster and only `limit` rows are read from each listing.
+        Mono<List<IndexInfo>> largestIndices = target.indices()
+                .listIndicesAsync(null, new CatListOptions(null, null, List.of("store.size:desc"), null, limit));
+        Mono<List<IndexInfo>> redIndices = target.indices()
+                .listIndicesAsync(null, new CatListOptions("red", null, List.of("index"), null, limit));
+
+        Optional<ClusterSnapshot> snapshot = ElasticsearchClusterRegistry.isDefault(target.name())
+                ? clusterSnapshotPoller.current()
+                : Optional.empty();
+        if (snapshot.isPresent()) {
+            ClusterSnapshot current = snapshot.get();
+            return Mono.zip(largestIndices, redIndices)
+                    .map(indices -> ClusterOverview.summarize(current.health(), current.statistics(), current.allocation(),
+                            indices.getT1(), indices.getT2(), diskWatermarkPercent, limit, current.ageMillis()));
+        }
+        return Mono.zip(
+                        target.health().getClusterHealthAsync(),
+                        target.statistics().getClusterStatisticsAsync(),
+                        target.allocation().getCatAllocationAsync(),
+                        largestIndices,
+                        redIndices)
+                .map(results -> ClusterOverview.summarize(results.getT1(), results.getT2(), results.getT3(),
+                        results.getT4(), results.getT5(), diskWatermarkPercent, limit, null));
+    }
+}
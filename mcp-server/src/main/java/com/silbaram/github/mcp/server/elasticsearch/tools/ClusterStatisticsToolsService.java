@@ -1,30 +1,76 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchCluster;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterStatistics;
 import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchClusterStatisticsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshotPoller;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.List;
 
 @Service
 public class ClusterStatisticsToolsService {
 
     private final ElasticsearchClusterStatisticsProvider elasticsearchClusterStatisticsProvider;
+    private final ToolCallCoalescer toolCallCoalescer;
+    private final ClusterSnapshotPoller clusterSnapshotPoller;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchClusterRegistry clusterRegistry;
 
-    public ClusterStatisticsToolsService(ElasticsearchClusterStatisticsProvider elasticsearchClusterStatisticsProvider) {
+    public ClusterStatisticsToolsService(
+        ElasticsearchClusterStatisticsProvider elasticsearchClusterStatisticsProvider,
+        ToolCallCoalescer toolCallCoalescer,
+        ClusterSnapshotPoller clusterSnapshotPoller,
+        ToolMetrics toolMetrics,
+        ElasticsearchClusterRegistry clusterRegistry
+    ) {
         this.elasticsearchClusterStatisticsProvider = elasticsearchClusterStatisticsProvider;
+        this.toolCallCoalescer = toolCallCoalescer;
+        this.clusterSnapshotPoller = clusterSnapshotPoller;
+        this.toolMetrics = toolMetrics;
+        this.clusterRegistry = clusterRegistry;
     }
 
     @Tool(
         name = "get_cluster_statistics",
         description = "Returns comprehensive cluster statistics including cluster name, UUID, health status, node roles, OS and JVM resource usage, index counts, and shard metrics."
     )
-    public Map<String, Object> getClusterStatistics() {
-        try {
-            return elasticsearchClusterStatisticsProvider.getClusterStatistics();
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
+    public Object getClusterStatistics(
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        if (!ElasticsearchClusterRegistry.isDefault(cluster)) {
+            ElasticsearchCluster target = clusterRegistry.cluster(cluster);
+            return toolMetrics.record("get_cluster_statistics", () -> toolCallCoalescer.coalesce("get_cluster_statistics", List.of(target.name()), target.statistics()::getClusterStatisticsAsync)
+                    .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                    .block());
         }
+        // Served from the background snapshot when polling is enabled and the snapshot is fresh enough.
+        return toolMetrics.record("get_cluster_statistics", () -> clusterSnapshotPoller.current()
+                .<Object>map(snapshot -> new SnapshotStatistics(snapshot.statistics(), snapshot.ageMillis()))
+                .orElseGet(this::fetchClusterStatistics));
+    }
+
+    private ClusterStatistics fetchClusterStatistics() {
+        return toolCallCoalescer.coalesce("get_cluster_statistics", List.of(), elasticsearchClusterStatisticsProvider::getClusterStatisticsAsync)
+                .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                .block();
+    }
+
+    /**
+     * Statistics served from the background snapshot: the regular fields plus {@code snapshot_age_ms}.
+     */
+    public record SnapshotStatistics(
+            @JsonUnwrapped ClusterStatistics statistics,
+            @JsonProperty("snapshot_age_ms") long snapshotAgeMs) {
     }
 }
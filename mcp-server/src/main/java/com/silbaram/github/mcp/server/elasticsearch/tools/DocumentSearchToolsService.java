@@ -1,19 +1,42 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.silbaram.github.infrastructures.elasticsearch.cache.SearchResultCache;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
 import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchSearchProvider;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ElasticsearchGuard;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
 
 @Service
 public class DocumentSearchToolsService {
 
     private final ElasticsearchSearchProvider elasticsearchSearchProvider;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchGuard elasticsearchGuard;
+    private final SearchResultCache searchResultCache;
+    private final ElasticsearchClusterRegistry clusterRegistry;
 
-    public DocumentSearchToolsService(ElasticsearchSearchProvider elasticsearchSearchProvider) {
+    public DocumentSearchToolsService(
+        ElasticsearchSearchProvider elasticsearchSearchProvider,
+        ToolMetrics toolMetrics,
+        ElasticsearchGuard elasticsearchGuard,
+        SearchResultCache searchResultCache,
+        ElasticsearchClusterRegistry clusterRegistry
+    ) {
         this.elasticsearchSearchProvider = elasticsearchSearchProvider;
+        this.toolMetrics = toolMetrics;
+        this.elasticsearchGuard = elasticsearchGuard;
+        this.searchResultCache = searchResultCache;
+        this.clusterRegistry = clusterRegistry;
     }
 
     @Tool(
@@ -24,12 +47,99 @@ public class DocumentSearchToolsService {
         @ToolParam(description = "The name of the elasticsearch index to search")
         String index,
         @ToolParam(description = "elasticsearch Search queryDSL")
-        String queryBody
+        String queryBody,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
     ) {
-        try {
-            return elasticsearchSearchProvider.searchByIndex(index, queryBody);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        // Cache hits are answered without passing through the guard; the cache holds the default cluster only.
+        return toolMetrics.recordSearch("get_document_search_by_index", () -> (ElasticsearchClusterRegistry.isDefault(cluster)
+                    ? searchResultCache.getOrSearch(index, queryBody, () -> search(cluster, provider -> provider.searchByIndexAsync(index, queryBody)))
+                    : search(cluster, provider -> provider.searchByIndexAsync(index, queryBody)))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    @Tool(
+        name = "get_document_hits_by_index",
+        description = "Search for documents in your Elasticsearch index using queryDsl and return only hit ids, _source, totals and aggregations. "
+            + "The result is capped by a hit count and byte budget and marked as truncated when the budget is exceeded."
+    )
+    public String getDocumentHitsByIndex(
+        @ToolParam(description = "The name of the elasticsearch index to search")
+        String index,
+        @ToolParam(description = "elasticsearch Search queryDSL")
+        String queryBody,
+        @ToolParam(required = false, description = "Maximum number of hits to return (defaults to the server setting)")
+        Integer maxHits,
+        @ToolParam(required = false, description = "Maximum size in bytes of the returned hits and aggregations (defaults to the server setting)")
+        Long maxBytes,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        return toolMetrics.recordSearch("get_document_hits_by_index", () -> search(cluster, provider -> provider.searchHitsByIndexAsync(index, queryBody, maxHits, maxBytes))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    @Tool(
+        name = "get_document_aggregations_by_index",
+        description = "Count documents or run aggregations in your Elasticsearch index without returning any hits. "
+            + "Queries without aggregations run as a _count and return {\"count\": n}; otherwise only the aggregations tree is returned. "
+            + "Prefer this over get_document_search_by_index when you only need counts or aggregations."
+    )
+    public String getDocumentAggregationsByIndex(
+        @ToolParam(description = "The name of the elasticsearch index to search")
+        String index,
+        @ToolParam(description = "elasticsearch Search queryDSL with query and/or aggs (size, sort, _source and other hit options are ignored)")
+        String queryBody,
+        @ToolParam(required = false, description = "Also compute the exact total hit count alongside the aggregations (defaults to false)")
+        Boolean trackTotalHits,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        return toolMetrics.recordSearch("get_document_aggregations_by_index", () -> search(cluster, provider -> provider.aggregateByIndexAsync(index, queryBody, trackTotalHits))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    @Tool(
+        name = "get_documents_multi_search",
+        description = "Run several searches, each against its own index, in a single _msearch request. "
+            + "Returns the _msearch response whose responses array holds each search's result or error in the order given."
+    )
+    public String getDocumentsMultiSearch(
+        @ToolParam(description = "The searches to run, in order")
+        List<SearchQuery> searches,
+        @ToolParam(required = false, description = "Maximum number of searches the cluster runs concurrently (defaults to the server setting)")
+        Integer maxConcurrentSearches,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        List<ElasticsearchSearchProvider.MultiSearchItem> items = searches == null ? List.of() : searches.stream()
+                .map(search -> new ElasticsearchSearchProvider.MultiSearchItem(search.index(), search.queryBody()))
+                .toList();
+        return toolMetrics.recordSearch("get_documents_multi_search", () -> search(cluster, provider -> provider.multiSearchAsync(items, maxConcurrentSearches))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    /**
+     * Runs a search on the selected cluster. The guard tracks the load of the default cluster,
+     * so the other clusters are queried directly.
+     */
+    private <T> Mono<T> search(String cluster, Function<ElasticsearchSearchProvider, Mono<T>> call) {
+        if (ElasticsearchClusterRegistry.isDefault(cluster)) {
+            return elasticsearchGuard.guard(() -> call.apply(elasticsearchSearchProvider));
         }
+        ElasticsearchSearchProvider provider = clusterRegistry.cluster(cluster).search();
+        return Mono.defer(() -> call.apply(provider));
+    }
+
+    public record SearchQuery(
+        @JsonPropertyDescription("The name of the elasticsearch index to search")
+        String index,
+        @JsonPropertyDescription("elasticsearch Search queryDSL")
+        String queryBody
+    ) {
     }
 }
@@ -1,47 +1,116 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchCluster;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
 import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchIndicesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.model.IndexInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.CatResultFormat;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 @Service
 public class IndicesToolsService {
 
     private final ElasticsearchIndicesProvider elasticsearchIndicesProvider;
+    private final ToolCallCoalescer toolCallCoalescer;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchClusterRegistry clusterRegistry;
 
-    public IndicesToolsService(ElasticsearchIndicesProvider elasticsearchIndicesProvider) {
+    public IndicesToolsService(ElasticsearchIndicesProvider elasticsearchIndicesProvider, ToolCallCoalescer toolCallCoalescer, ToolMetrics toolMetrics, ElasticsearchClusterRegistry clusterRegistry) {
         this.elasticsearchIndicesProvider = elasticsearchIndicesProvider;
+        this.toolCallCoalescer = toolCallCoalescer;
+        this.toolMetrics = toolMetrics;
+        this.clusterRegistry = clusterRegistry;
     }
 
     @Tool(
         name = "get_cat_indices",
-        description = "Get a list of all indices in Elasticsearch."
+        description = "Get a list of all indices in Elasticsearch. Health/status filters and sorting are applied by the cluster; use offset/limit to page through large clusters."
     )
-    public List<Map<String, Object>> getCatIndices() {
-        try {
-            return elasticsearchIndicesProvider.getCatIndices();
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
-        }
+    public Object getCatIndices(
+        @ToolParam(required = false, description = "Result shape: 'rows' (default, one object per row) or 'columnar' ({columns, rows} with key names sent once)")
+        String format,
+        @ToolParam(required = false, description = "Only indices with this health: green, yellow or red")
+        String health,
+        @ToolParam(required = false, description = "Only indices with this status: open or closed")
+        String status,
+        @ToolParam(required = false, description = "Comma-separated sort keys applied by the cluster, e.g. 'docsCount:desc,index'")
+        String sort,
+        @ToolParam(required = false, description = "Number of matching rows to skip")
+        Integer offset,
+        @ToolParam(required = false, description = "Maximum number of rows to return")
+        Integer limit,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
+    ) {
+        return listIndices("get_cat_indices", cluster, null, format, new CatListOptions(health, status, splitSort(sort), offset, limit));
+    }
+
+    public List<IndexInfo> getCatIndices() {
+        return toolMetrics.record("get_cat_indices", () -> toolCallCoalescer.coalesce("get_cat_indices", List.of(), elasticsearchIndicesProvider::getCatIndicesAsync)
+                .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                .block());
     }
 
     @Tool(
         name = "get_cat_indices_by_name",
-        description = "Get a list of indices matching the specified index name or wildcard pattern."
+        description = "Get a list of indices matching the specified index name or wildcard pattern. Health/status filters and sorting are applied by the cluster; use offset/limit to page through the matches."
     )
-    public List<Map<String, Object>> getCatIndicesByName(
+    public Object getCatIndicesByName(
         @ToolParam(description = "Index name or pattern to filter indices by")
-        String indexName
+        String indexName,
+        @ToolParam(required = false, description = "Result shape: 'rows' (default, one object per row) or 'columnar' ({columns, rows} with key names sent once)")
+        String format,
+        @ToolParam(required = false, description = "Only indices with this health: green, yellow or red")
+        String health,
+        @ToolParam(required = false, description = "Only indices with this status: open or closed")
+        String status,
+        @ToolParam(required = false, description = "Comma-separated sort keys applied by the cluster, e.g. 'docsCount:desc,index'")
+        String sort,
+        @ToolParam(required = false, description = "Number of matching rows to skip")
+        Integer offset,
+        @ToolParam(required = false, description = "Maximum number of rows to return")
+        Integer limit,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
     ) {
-        try {
-            return elasticsearchIndicesProvider.getCatIndicesByName(indexName);
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
+        return listIndices("get_cat_indices_by_name", cluster, indexName, format, new CatListOptions(health, status, splitSort(sort), offset, limit));
+    }
+
+    public List<IndexInfo> getCatIndicesByName(String indexName) {
+        return toolMetrics.record("get_cat_indices_by_name", () -> toolCallCoalescer.coalesce("get_cat_indices_by_name", Collections.singletonList(indexName), () -> elasticsearchIndicesProvider.getCatIndicesByNameAsync(indexName))
+                .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                .block());
+    }
+
+    private Object listIndices(String toolName, String cluster, String indexName, String format, CatListOptions options) {
+        boolean columnar = CatResultFormat.parse(format) == CatResultFormat.COLUMNAR;
+        boolean defaultCluster = ElasticsearchClusterRegistry.isDefault(cluster);
+        if (defaultCluster && !columnar && options.equals(CatListOptions.NONE)) {
+            return indexName == null ? getCatIndices() : getCatIndicesByName(indexName);
         }
+        ElasticsearchCluster target = defaultCluster ? null : clusterRegistry.cluster(cluster);
+        String clusterName = target == null ? ElasticsearchClusterRegistry.DEFAULT_CLUSTER : target.name();
+        ElasticsearchIndicesProvider provider = target == null ? elasticsearchIndicesProvider : target.indices();
+        return toolMetrics.record(toolName, () -> toolCallCoalescer.coalesce(toolName, Arrays.asList(clusterName, indexName, columnar, options),
+                        () -> columnar
+                                ? provider.listIndicesTableAsync(indexName, options).cast(Object.class)
+                                : provider.listIndicesAsync(indexName, options).cast(Object.class))
+                .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                .block());
+    }
+
+    private static List<String> splitSort(String sort) {
+        return sort == null ? List.of() : List.of(sort.split(","));
     }
 }
@@ -1,6 +1,9 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
-import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchMappingsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.cache.MappingsCache;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
@@ -10,10 +13,14 @@ import java.io.IOException;
 @Service
 public class MappingsToolsService {
 
-    private final ElasticsearchMappingsProvider elasticsearchMappingsProvider;
+    private final MappingsCache mappingsCache;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchClusterRegistry clusterRegistry;
 
-    public MappingsToolsService(ElasticsearchMappingsProvider elasticsearchMappingsProvider) {
-        this.elasticsearchMappingsProvider = elasticsearchMappingsProvider;
+    public MappingsToolsService(MappingsCache mappingsCache, ToolMetrics toolMetrics, ElasticsearchClusterRegistry clusterRegistry) {
+        this.mappingsCache = mappingsCache;
+        this.toolMetrics = toolMetrics;
+        this.clusterRegistry = clusterRegistry;
     }
 
     @Tool(
@@ -22,12 +29,15 @@ public class MappingsToolsService {
     )
     public String getCatMappings(
         @ToolParam(description = "Name of the Elasticsearch index to get mappings for")
-        String index
+        String index,
+        @ToolParam(required = false, description = ClusterParameter.DESCRIPTION)
+        String cluster
     ) {
-        try {
-            return elasticsearchMappingsProvider.getCatMappings(index);
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
-        }
+        // The mappings cache holds the default cluster only.
+        return toolMetrics.record("get_cat_mappings", () -> (ElasticsearchClusterRegistry.isDefault(cluster)
+                    ? mappingsCache.getMappings(index)
+                    : clusterRegistry.cluster(cluster).mappings().getCatMappingsAsync(index))
+                .onErrorMap(IOException.class, e -> new RuntimeException(e.getMessage()))
+                .block());
     }
 }
@@ -0,0 +1,70 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools;
+
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ClusterResult;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.infrastructures.elasticsearch.model.IndexInfo;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class that lists the configured clusters and queries all of them at once.
+ * <p>
+ * The fan-out tools send one request per cluster concurrently. Each cluster has its own timeout
+ * ({@code elasticsearch.search.fan-out.timeout}); a slow or failing cluster is reported with status
+ * {@code timeout} or {@code error} while the results of the other clusters are still returned.
+ */
+@Service
+public class MultiClusterToolsService {
+
+    private final ElasticsearchClusterRegistry clusterRegistry;
+    private final ToolMetrics toolMetrics;
+
+    public MultiClusterToolsService(ElasticsearchClusterRegistry clusterRegistry, ToolMetrics toolMetrics) {
+        this.clusterRegistry = clusterRegistry;
+        this.toolMetrics = toolMetrics;
+    }
+
+    @Tool(
+        name = "list_clusters",
+        description = "List the names of the Elasticsearch clusters this server can query. Pass one as the 'cluster' argument of the other tools; 'default' is used when it is omitted."
+    )
+    public List<String> listClusters() {
+        return clusterRegistry.names();
+    }
+
+    @Tool(
+        name = "get_cluster_health_all_clusters",
+        description = "Returns basic health information of every configured Elasticsearch cluster, queried concurrently. "
+            + "Each entry has the cluster name and status ok, timeout or error; clusters that are slow or failing do not hold back the others."
+    )
+    public List<ClusterResult<Map<String, String>>> getClusterHealthAllClusters() {
+        return toolMetrics.record("get_cluster_health_all_clusters", () -> clusterRegistry.fanOut(cluster -> cluster.health().getClusterHealthAsync())
+                .block());
+    }
+
+    @Tool(
+        name = "get_cat_indices_by_name_all_clusters",
+        description = "Find indices matching the specified index name or wildcard pattern in every configured Elasticsearch cluster, queried concurrently. "
+            + "Each entry has the cluster name and status ok, timeout or error; clusters that are slow or failing do not hold back the others."
+    )
+    public List<ClusterResult<List<IndexInfo>>> getCatIndicesByNameAllClusters(
+        @ToolParam(description = "Index name or pattern to filter indices by")
+        String indexName,
+        @ToolParam(required = false, description = "Only indices with this health: green, yellow or red")
+        String health,
+        @ToolParam(required = false, description = "Only indices with this status: open or closed")
+        String status,
+        @ToolParam(required = false, description = "Maximum number of rows to return per cluster")
+        Integer limit
+    ) {
+        CatListOptions options = new CatListOptions(health, status, List.of(), null, limit);
+        return toolMetrics.record("get_cat_indices_by_name_all_clusters", () -> clusterRegistry.fanOut(cluster -> cluster.indices().listIndicesAsync(indexName, options))
+                .block());
+    }
+}
@@ -0,0 +1,70 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools;
+
+import com.silbaram.github.infrastructures.elasticsearch.pagination.SearchCursorManager;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ElasticsearchGuard;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * Service class that provides cursor-based deep pagination tools backed by point-in-time and search_after.
+ */
+@Service
+public class PagedSearchToolsService {
+
+    private final SearchCursorManager searchCursorManager;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchGuard elasticsearchGuard;
+
+    public PagedSearchToolsService(SearchCursorManager searchCursorManager, ToolMetrics toolMetrics, ElasticsearchGuard elasticsearchGuard) {
+        this.searchCursorManager = searchCursorManager;
+        this.toolMetrics = toolMetrics;
+        this.elasticsearchGuard = elasticsearchGuard;
+    }
+
+    @Tool(
+        name = "search_documents_paged",
+        description = "Start a paged search over an Elasticsearch index using queryDsl. Returns the first page of hits and an opaque cursor; "
+            + "pass the cursor to get_next_search_page for the following pages. The cursor is null once the results are exhausted. "
+            + "Use this instead of from/size to walk large result sets."
+    )
+    public String searchDocumentsPaged(
+        @ToolParam(description = "The name of the elasticsearch index or index pattern to search")
+        String index,
+        @ToolParam(description = "elasticsearch Search queryDSL (from and pit are ignored; sort is optional)")
+        String queryBody,
+        @ToolParam(required = false, description = "Number of hits per page (defaults to the server setting)")
+        Integer pageSize
+    ) {
+        return toolMetrics.recordSearch("search_documents_paged", () -> elasticsearchGuard.guard(() -> searchCursorManager.open(index, queryBody, pageSize))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    @Tool(
+        name = "get_next_search_page",
+        description = "Return the next page of a paged search started with search_documents_paged."
+    )
+    public String getNextSearchPage(
+        @ToolParam(description = "The cursor returned by the previous page")
+        String cursor
+    ) {
+        return toolMetrics.recordSearch("get_next_search_page", () -> elasticsearchGuard.guard(() -> searchCursorManager.next(cursor))
+                .onErrorMap(IOException.class, RuntimeException::new)
+                .block());
+    }
+
+    @Tool(
+        name = "close_search_cursor",
+        description = "Close a paged search cursor that is no longer needed. Cursors also close automatically when exhausted or idle."
+    )
+    public boolean closeSearchCursor(
+        @ToolParam(description = "The cursor to close")
+        String cursor
+    ) {
+        return toolMetrics.record("close_search_cursor", () -> Boolean.TRUE.equals(searchCursorManager.close(cursor).block()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools;
+
+import com.silbaram.github.mcp.server.elasticsearch.session.McpSessionRegistry;
+import com.silbaram.github.mcp.server.elasticsearch.session.SessionStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class that exposes the server's own metrics as JSON, which is the only export path in stdio mode.
+ */
+@Service
+public class ServerMetricsToolsService {
+
+    private final MeterRegistry meterRegistry;
+    private final McpSessionRegistry sessionRegistry;
+
+    public ServerMetricsToolsService(MeterRegistry meterRegistry, McpSessionRegistry sessionRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Tool(
+        name = "get_server_metrics",
+        description = "Returns this MCP server's metrics: per-tool latency percentiles (ms), response sizes, error counts by cause, "
+            + "Elasticsearch-reported search took times and cache counters."
+    )
+    public List<Map<String, Object>> getServerMetrics(
+        @ToolParam(required = false, description = "Only return meters whose name starts with this prefix, e.g. mcp.tool")
+        String namePrefix
+    ) {
+        List<Map<String, Object>> meters = new ArrayList<>();
+        meterRegistry.getMeters().stream()
+                .filter(meter -> namePrefix == null || namePrefix.isBlank() || meter.getId().getName().startsWith(namePrefix))
+                .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName()))
+                .forEach(meter -> meters.add(describe(meter)));
+        return meters;
+    }
+
+    @Tool(
+        name = "get_server_sessions",
+        description = "Returns per-session accounting when this server runs in HTTP/SSE mode and is shared by several MCP clients: "
+            + "messages, errors, request bytes and busy time per session, most recently active first. Empty in stdio mode."
+    )
+    public List<SessionStats> getServerSessions(
+        @ToolParam(required = false, description = "Maximum number of sessions to return (defaults to all)")
+        Integer limit
+    ) {
+        List<SessionStats> sessions = sessionRegistry.sessions();
+        return limit != null && limit >= 0 && limit < sessions.size() ? sessions.subList(0, limit) : sessions;
+    }
+
+    private Map<String, Object> describe(Meter meter) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("name", meter.getId().getName());
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (Tag tag : meter.getId().getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        description.put("tags", tags);
+
+        if (meter instanceof Timer timer) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            description.put("count", snapshot.count());
+            description.put("mean_ms", snapshot.mean(TimeUnit.MILLISECONDS));
+            description.put("max_ms", snapshot.max(TimeUnit.MILLISECONDS));
+            description.put("percentiles_ms", percentiles(snapshot, true));
+        } else if (meter instanceof DistributionSummary summary) {
+            HistogramSnapshot snapshot = summary.takeSnapshot();
+            description.put("count", snapshot.count());
+            description.put("mean", snapshot.mean());
+            description.put("max", snapshot.max());
+            description.put("percentiles", percentiles(snapshot, false));
+        } else {
+            for (Measurement measurement : meter.measure()) {
+                description.put(measurement.getStatistic().getTagValueRepresentation(), measurement.getValue());
+            }
+        }
+        return description;
+    }
+
+    private Map<String, Double> percentiles(HistogramSnapshot snapshot, boolean time) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            String key = "p" + Math.round(value.percentile() * 100);
+            percentiles.put(key, time ? value.value(TimeUnit.MILLISECONDS) : value.value());
+        }
+        return percentiles;
+    }
+}
@@ -1,13 +1,21 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.infrastructures.elasticsearch.model.AllocationInfo;
 import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchCatAllocationProvider;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshotPoller;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatTable;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.CatResultFormat;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ClusterParameter;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Service class that provides tools to get shard allocation information from Elasticsearch.
@@ -16,51 +24,117 @@ import java.util.Map;
 public class ShardAllocationToolsService {
 
     private final ElasticsearchCatAllocationProvider elasticsearchCatAllocationProvider;
+    private final ClusterSnapshotPoller clusterSnapshotPoller;
+    private final ToolMetrics toolMetrics;
+    private final ElasticsearchClusterRegistry clusterRegistry;
 
     /**
      * Constructs a ShardAllocationToolsService with the given ElasticsearchCatAllocationProvider.
      *
      * @param elasticsearchCatAllocationProvider The provider for Elasticsearch cat allocation information.
+     * @param clusterSnapshotPoller The background poller whose snapshot is used when it is enabled and fresh.
+     * @param toolMetrics Records latency, response size and errors of each tool call.
+     * @param clusterRegistry The named clusters selectable with the {@code cluster} argument.
      */
-    public ShardAllocationToolsService(ElasticsearchCatAllocationProvider elasticsearchCatAllocationProvider) {
+    public ShardAllocationToolsService(
+            ElasticsearchCatAllocationProvider elasticsearchCatAllocationProvider,
+            ClusterSnapshotPoller clusterSnapshotPoller,
+            ToolMetrics toolMetrics,
+            ElasticsearchClusterRegistry clusterRegistry) {
         this.elasticsearchCatAllocationProvider = elasticsearchCatAllocationProvider;
+        this.clusterSnapshotPoller = clusterSnapshotPoller;
+        this.toolMetrics = toolMetrics;
+        this.clusterRegistry = clusterRegistry;
     }
 
     /**
-     * Retrieves information about shard allocation in the Elasticsearch cluster.
+     * Retrieves information about shard allocation in the requested result shape.
+     * The columnar shape is read straight from the response without building a map per row;
+     * when served from the background snapshot it is converted from the snapshot rows instead.
+     * Clusters other than the default one are always queried directly.
      *
-     * @return A list of maps, where each map represents shard allocation information.
+     * @param format {@code rows} (default) or {@code columnar}.
+     * @param cluster The cluster to query; the default cluster when empty.
+     * @return A list of allocation rows, or a {@link CatTable} when the columnar shape is requested.
      */
     @Tool(
         name = "get_shard_allocation",
         description = "Returns information about shard allocation in the Elasticsearch cluster."
     )
-    public List<Map<String, Object>> getShardAllocation() {
-        try {
-            return elasticsearchCatAllocationProvider.getCatAllocation();
-        } catch (IOException e) {
-            throw new RuntimeException("Error retrieving shard allocation information: " + e.getMessage(), e);
+    public Object getShardAllocation(
+            @ToolParam(required = false, description = "Result shape: 'rows' (default, one object per row) or 'columnar' ({columns, rows} with key names sent once)") String format,
+            @ToolParam(required = false, description = ClusterParameter.DESCRIPTION) String cluster) {
+        boolean columnar = CatResultFormat.parse(format) == CatResultFormat.COLUMNAR;
+        if (!ElasticsearchClusterRegistry.isDefault(cluster)) {
+            ElasticsearchCatAllocationProvider provider = clusterRegistry.cluster(cluster).allocation();
+            return toolMetrics.record("get_shard_allocation", () -> (columnar
+                        ? provider.getCatAllocationTableAsync().cast(Object.class)
+                        : provider.getCatAllocationAsync().cast(Object.class))
+                    .onErrorMap(IOException.class, e -> new RuntimeException("Error retrieving shard allocation information: " + e.getMessage(), e))
+                    .block());
+        }
+        if (!columnar) {
+            return getShardAllocation();
         }
+        return toolMetrics.record("get_shard_allocation", () -> clusterSnapshotPoller.current()
+                .map(snapshot -> CatTable.fromRecords(AllocationInfo.class, snapshot.allocation())
+                        .withColumn("snapshot_age_ms", snapshot.ageMillis()))
+                .orElseGet(() -> elasticsearchCatAllocationProvider.getCatAllocationTableAsync()
+                        .onErrorMap(IOException.class, e -> new RuntimeException("Error retrieving shard allocation information: " + e.getMessage(), e))
+                        .block()));
+    }
+
+    /**
+     * Retrieves information about shard allocation in the Elasticsearch cluster.
+     * When served from the background snapshot, each row is a {@link SnapshotAllocation} carrying {@code snapshot_age_ms}.
+     *
+     * @return A list of {@link AllocationInfo} rows, or {@link SnapshotAllocation} rows when served from the snapshot.
+     */
+    public List<?> getShardAllocation() {
+        return toolMetrics.record("get_shard_allocation", () -> clusterSnapshotPoller.current()
+                .<List<?>>map(snapshot -> {
+                    long ageMillis = snapshot.ageMillis();
+                    return snapshot.allocation().stream()
+                            .map(allocation -> new SnapshotAllocation(allocation, ageMillis))
+                            .toList();
+                })
+                .orElseGet(this::fetchShardAllocation));
+    }
+
+    private List<AllocationInfo> fetchShardAllocation() {
+        return elasticsearchCatAllocationProvider.getCatAllocationAsync()
+                .onErrorMap(IOException.class, e -> new RuntimeException("Error retrieving shard allocation information: " + e.getMessage(), e))
+                .block();
     }
 
     /**
      * Retrieves shard allocation information for a specific node in the Elasticsearch cluster.
      *
      * @param nodeId The ID of the node.
-     * @return A list of maps, where each map represents a shard and its allocation details.
+     * @param cluster The cluster to query; the default cluster when empty.
+     * @return A list of allocation rows for the node.
      * @throws RuntimeException if an IOException occurs during the Elasticsearch API call.
      */
     @Tool(
         name = "get_shard_allocation_for_node",
         description = "Returns information about shard allocation for a specific node in the Elasticsearch cluster."
     )
-    public List<Map<String, Object>> getShardAllocationForNode(
-            @ToolParam(description = "The ID of the node to get shard allocation for.") String nodeId) { // Annotation changed
-        try {
-            return elasticsearchCatAllocationProvider.getCatAllocation(nodeId);
-        } catch (IOException e) {
-            // Updated exception throwing:
-            throw new RuntimeException("Error retrieving shard allocation information for node " + nodeId + ": " + e.getMessage(), e);
-        }
+    public List<AllocationInfo> getShardAllocationForNode(
+            @ToolParam(description = "The ID of the node to get shard allocation for.") String nodeId, // Annotation changed
+            @ToolParam(required = false, description = ClusterParameter.DESCRIPTION) String cluster) {
+        ElasticsearchCatAllocationProvider provider = ElasticsearchClusterRegistry.isDefault(cluster)
+                ? elasticsearchCatAllocationProvider
+                : clusterRegistry.cluster(cluster).allocation();
+        return toolMetrics.record("get_shard_allocation_for_node", () -> provider.getCatAllocationAsync(nodeId)
+                .onErrorMap(IOException.class, e -> new RuntimeException("Error retrieving shard allocation information for node " + nodeId + ": " + e.getMessage(), e))
+                .block());
+    }
+
+    /**
+     * An allocation row served from the background snapshot: the regular fields plus {@code snapshot_age_ms}.
+     */
+    public record SnapshotAllocation(
+            @JsonUnwrapped AllocationInfo allocation,
+            @JsonProperty("snapshot_age_ms") long snapshotAgeMs) {
     }
 }
@@ -0,0 +1,105 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.config;
+
+import com.silbaram.github.infrastructures.elasticsearch.cache.MappingsCache;
+import com.silbaram.github.infrastructures.elasticsearch.cache.SearchResultCache;
+import com.silbaram.github.infrastructures.elasticsearch.support.HttpCompression;
+import com.silbaram.github.mcp.server.elasticsearch.properties.McpProperties;
+import com.silbaram.github.mcp.server.elasticsearch.session.McpSessionRegistry;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.Bulkhead;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.CircuitBreaker;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ElasticsearchGuard;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolExecutor;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.logging.LoggingMeterRegistry;
+import io.micrometer.core.instrument.logging.LoggingRegistryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * In-memory registry read by the get_server_metrics tool. With mcp.metrics.logging.enabled the registry
+     * also logs all meters every mcp.metrics.logging.step (route that logger to a file in stdio mode).
+     */
+    @Bean
+    @ConditionalOnMissingBean(MeterRegistry.class)
+    public MeterRegistry meterRegistry(McpProperties props) {
+        McpProperties.Metrics.Logging logging = props.getMetrics().getLogging();
+        if (!logging.isEnabled()) {
+            return new SimpleMeterRegistry();
+        }
+        Duration step = logging.getStep();
+        LoggingRegistryConfig config = new LoggingRegistryConfig() {
+            @Override
+            public String get(String key) {
+                return null;
+            }
+
+            @Override
+            public Duration step() {
+                return step;
+            }
+        };
+        return new LoggingMeterRegistry(config, Clock.SYSTEM);
+    }
+
+    @Bean
+    public MeterBinder elasticsearchServerMetrics(
+        MeterRegistry meterRegistry,
+        MappingsCache mappingsCache,
+        ToolCallCoalescer toolCallCoalescer,
+        HttpCompression httpCompression,
+        ElasticsearchGuard elasticsearchGuard,
+        SearchResultCache searchResultCache,
+        ToolExecutor toolExecutor,
+        McpSessionRegistry sessionRegistry
+    ) {
+        MeterBinder binder = registry -> {
+            FunctionCounter.builder("mcp.mappings.cache.hits", mappingsCache, cache -> cache.stats().hits()).register(registry);
+            FunctionCounter.builder("mcp.mappings.cache.misses", mappingsCache, cache -> cache.stats().misses()).register(registry);
+            FunctionCounter.builder("mcp.mappings.cache.invalidations", mappingsCache, cache -> cache.stats().invalidations()).register(registry);
+            FunctionCounter.builder("mcp.mappings.cache.evictions", mappingsCache, cache -> cache.stats().evictions()).register(registry);
+            Gauge.builder("mcp.mappings.cache.size", mappingsCache, cache -> cache.stats().size()).register(registry);
+            FunctionCounter.builder("mcp.tool.coalesced", toolCallCoalescer, ToolCallCoalescer::coalescedCalls).register(registry);
+            FunctionCounter.builder("mcp.elasticsearch.compression.requests", httpCompression, compression -> compression.stats().compressedRequests())
+                .register(registry);
+            FunctionCounter.builder("mcp.elasticsearch.compression.request.bytes.saved", httpCompression, compression -> compression.stats().requestBytesSaved())
+                .baseUnit("bytes")
+                .register(registry);
+            Gauge.builder("mcp.guard.limit", elasticsearchGuard, guard -> guard.limiter().currentLimit()).register(registry);
+            Gauge.builder("mcp.guard.in.flight", elasticsearchGuard, guard -> guard.limiter().inFlight()).register(registry);
+            Gauge.builder("mcp.guard.queued", elasticsearchGuard, guard -> guard.limiter().queued()).register(registry);
+            Gauge.builder("mcp.guard.circuit.open", elasticsearchGuard, guard -> guard.circuitBreaker().state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(registry);
+            FunctionCounter.builder("mcp.guard.rejected", elasticsearchGuard, ElasticsearchGuard::rejectedCalls).register(registry);
+            FunctionCounter.builder("mcp.elasticsearch.compression.responses", httpCompression, compression -> compression.stats().compressedResponses())
+                .register(registry);
+            FunctionCounter.builder("mcp.search.cache.hits", searchResultCache, cache -> cache.stats().hits()).register(registry);
+            FunctionCounter.builder("mcp.search.cache.misses", searchResultCache, cache -> cache.stats().misses()).register(registry);
+            FunctionCounter.builder("mcp.search.cache.invalidations", searchResultCache, cache -> cache.stats().invalidations()).register(registry);
+            FunctionCounter.builder("mcp.search.cache.evictions", searchResultCache, cache -> cache.stats().evictions()).register(registry);
+            Gauge.builder("mcp.search.cache.size", searchResultCache, cache -> cache.stats().size()).register(registry);
+            FunctionCounter.builder("mcp.tool.bulkhead.rejected", toolExecutor, ToolExecutor::rejectedCalls).register(registry);
+            Gauge.builder("mcp.tool.bulkhead.in.flight", toolExecutor, executor -> executor.bulkheads().stream().mapToInt(Bulkhead::inFlight).sum())
+                .register(registry);
+            Gauge.builder("mcp.tool.bulkhead.queued", toolExecutor, executor -> executor.bulkheads().stream().mapToInt(Bulkhead::queued).sum())
+                .register(registry);
+            Gauge.builder("mcp.sessions.open.streams", sessionRegistry, McpSessionRegistry::openStreams).register(registry);
+            Gauge.builder("mcp.sessions.tracked", sessionRegistry, McpSessionRegistry::trackedSessions).register(registry);
+            FunctionCounter.builder("mcp.sessions.evicted", sessionRegistry, McpSessionRegistry::evictedSessions).register(registry);
+        };
+        // Without the actuator nothing binds MeterBinder beans automatically.
+        binder.bindTo(meterRegistry);
+        return binder;
+    }
+}
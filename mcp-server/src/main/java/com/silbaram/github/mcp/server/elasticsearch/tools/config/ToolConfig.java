@@ -2,12 +2,17 @@ package com.silbaram.github.mcp.server.elasticsearch.tools.config;
 
 import com.silbaram.github.mcp.server.elasticsearch.tools.*;
 import com.silbaram.github.mcp.server.elasticsearch.tools.ShardAllocationToolsService;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.BulkheadToolCallback;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolExecutor;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Configuration
@@ -18,22 +23,39 @@ public class ToolConfig {
         ClusterHealthToolsService clusterHealthToolsService,
         MappingsToolsService mappingsToolsService,
         ClusterStatisticsToolsService clusterStatisticsToolsService,
+        ClusterOverviewToolsService clusterOverviewToolsService,
         IndicesToolsService indicesToolsService,
         AliasesToolsService aliasesToolsService,
         DocumentSearchToolsService documentSearchToolsService,
-        ShardAllocationToolsService shardAllocationToolsService
+        ShardAllocationToolsService shardAllocationToolsService,
+        PagedSearchToolsService pagedSearchToolsService,
+        AsyncSearchToolsService asyncSearchToolsService,
+        ServerMetricsToolsService serverMetricsToolsService,
+        MultiClusterToolsService multiClusterToolsService,
+        ToolExecutor toolExecutor,
+        ToolMetrics toolMetrics
     ) {
 
         List<Object> toolList = new ArrayList<>();
         toolList.add(clusterHealthToolsService);
         toolList.add(mappingsToolsService);
         toolList.add(clusterStatisticsToolsService);
+        toolList.add(clusterOverviewToolsService);
         toolList.add(indicesToolsService);
         toolList.add(aliasesToolsService);
         toolList.add(documentSearchToolsService);
         toolList.add(shardAllocationToolsService);
+        toolList.add(pagedSearchToolsService);
+        toolList.add(asyncSearchToolsService);
+        toolList.add(serverMetricsToolsService);
+        toolList.add(multiClusterToolsService);
 
-        return  MethodToolCallbackProvider.builder().toolObjects(toolList.toArray()).build();
+        ToolCallbackProvider methodTools = MethodToolCallbackProvider.builder().toolObjects(toolList.toArray()).build();
+        // Every tool call runs behind its own bulkhead; its queue wait, rejections and result size are recorded here.
+        ToolCallback[] toolCallbacks = Arrays.stream(methodTools.getToolCallbacks())
+                .map(toolCallback -> new BulkheadToolCallback(toolCallback, toolExecutor, toolMetrics))
+                .toArray(ToolCallback[]::new);
+        return () -> toolCallbacks;
 
     }
 }
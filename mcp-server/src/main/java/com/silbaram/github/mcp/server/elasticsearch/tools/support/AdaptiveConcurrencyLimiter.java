@@ -0,0 +1,184 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Caps the number of in-flight Elasticsearch requests with a limit that adapts to observed latency (AIMD).
+ * <p>
+ * Each request that completes within the latency threshold raises the limit by {@code 1/limit}, i.e. by one
+ * per window of {@code limit} requests. A slow request or an overload failure multiplies it by the backoff ratio.
+ * Calls over the limit wait in a bounded FIFO queue for up to the maximum queue wait; when the queue is full
+ * or the wait expires they fail with {@link ElasticsearchOverloadedException}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final int maxQueued;
+    private final Duration maxQueueWait;
+
+    // Guarded by this.
+    private double limit;
+    private int inFlight;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                      double backoffRatio, int maxQueued, Duration maxQueueWait) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit bounds: min " + minLimit + ", max " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.maxQueued = Math.max(0, maxQueued);
+        this.maxQueueWait = maxQueueWait;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Acquires a slot, waiting in the queue if the limit is reached.
+     * The returned permit must be released exactly once through one of its methods.
+     *
+     * @return a Mono emitting the permit, or failing with {@link ElasticsearchOverloadedException}
+     */
+    public Mono<Permit> acquire() {
+        return Mono.defer(() -> {
+            Waiter waiter;
+            synchronized (this) {
+                if (inFlight < currentLimit()) {
+                    inFlight++;
+                    return Mono.just(new Permit());
+                }
+                if (waiters.size() >= maxQueued) {
+                    return Mono.error(overloaded("queue is full"));
+                }
+                waiter = new Waiter();
+                waiters.addLast(waiter);
+            }
+            return waiter.sink.asMono()
+                    .doOnCancel(() -> abandon(waiter))
+                    .timeout(maxQueueWait, Mono.error(() -> overloaded("waited " + maxQueueWait.toMillis() + " ms in queue")));
+        });
+    }
+
+    public synchronized int currentLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    private ElasticsearchOverloadedException overloaded(String reason) {
+        return new ElasticsearchOverloadedException("Elasticsearch is busy (" + reason + ", " + inFlight()
+                + " requests in flight, limit " + currentLimit() + "); retry the call later");
+    }
+
+    private void abandon(Waiter waiter) {
+        Permit granted;
+        synchronized (this) {
+            if (waiters.remove(waiter)) {
+                return;
+            }
+            granted = waiter.permit;
+        }
+        // The slot was handed over just as the waiter gave up.
+        if (granted != null) {
+            granted.ignore();
+        }
+    }
+
+    private void release(Outcome outcome, long latencyNanos) {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> {
+                    if (latencyNanos <= latencyThresholdNanos) {
+                        limit = Math.min(maxLimit, limit + 1.0 / limit);
+                    } else {
+                        limit = Math.max(minLimit, limit * backoffRatio);
+                    }
+                }
+                case DROPPED -> limit = Math.max(minLimit, limit * backoffRatio);
+                case IGNORED -> {
+                }
+            }
+            while (!waiters.isEmpty() && inFlight < currentLimit()) {
+                Waiter waiter = waiters.pollFirst();
+                waiter.permit = new Permit();
+                inFlight++;
+                granted.add(waiter);
+            }
+        }
+        // Emit outside the lock: the waiter continues with its request on this thread.
+        for (Waiter waiter : granted) {
+            waiter.sink.tryEmitValue(waiter.permit);
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS, DROPPED, IGNORED
+    }
+
+    private static final class Waiter {
+        private final Sinks.One<Permit> sink = Sinks.one();
+        private Permit permit;
+    }
+
+    /**
+     * A slot held by one request.
+     */
+    public final class Permit {
+
+        private boolean released;
+
+        /**
+         * The request completed; its latency feeds the limit.
+         */
+        public void success(long latencyNanos) {
+            releaseOnce(Outcome.SUCCESS, latencyNanos);
+        }
+
+        /**
+         * The request failed because the cluster is overloaded or unavailable; the limit backs off.
+         */
+        public void dropped() {
+            releaseOnce(Outcome.DROPPED, 0);
+        }
+
+        /**
+         * The request ended without saying anything about cluster load (cancelled, client error).
+         */
+        public void ignore() {
+            releaseOnce(Outcome.IGNORED, 0);
+        }
+
+        private void releaseOnce(Outcome outcome, long latencyNanos) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            release(outcome, latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many calls of one tool run at the same time.
+ * <p>
+ * Up to {@code maxConcurrent} calls run at once. Further calls wait in FIFO order for at most {@code queueTimeout},
+ * and at most {@code queueDepth} calls may wait; anything beyond that fails immediately with
+ * {@link ToolRejectedException}. Waiting blocks the calling thread, so calls must not arrive on a non-blocking thread.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int queueDepth;
+    private final long queueTimeoutNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public Bulkhead(String name, int maxConcurrent, int queueDepth, Duration queueTimeout) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.queueDepth = Math.max(0, queueDepth);
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Runs the call once a slot is free.
+     *
+     * @throws ToolRejectedException if the queue is full, the wait times out or the thread is interrupted
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        // The untimed tryAcquire() barges past waiting calls even on a fair semaphore; a zero timeout keeps FIFO order.
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted while waiting for a free slot");
+        }
+        if (queued.incrementAndGet() > queueDepth) {
+            queued.decrementAndGet();
+            throw reject("too many calls are waiting");
+        }
+        try {
+            if (!permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw reject("timed out waiting for a free slot");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted while waiting for a free slot");
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private ToolRejectedException reject(String reason) {
+        rejectedCalls.increment();
+        return new ToolRejectedException("Tool " + name + " is busy (" + maxConcurrent + " calls running): " + reason + "; retry later");
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    public long rejectedCalls() {
+        return rejectedCalls.sum();
+    }
+}
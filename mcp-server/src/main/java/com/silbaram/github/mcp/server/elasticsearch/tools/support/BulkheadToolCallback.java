@@ -0,0 +1,63 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import java.util.function.Supplier;
+
+/**
+ * Decorates a tool callback so every invocation goes through the {@link ToolExecutor}. The time a call waits for its
+ * bulkhead slot, bulkhead rejections and the size of the text the callback returns to the client are recorded here
+ * through {@link ToolMetrics}; the tool body records its own duration.
+ */
+public class BulkheadToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final ToolExecutor toolExecutor;
+    private final ToolMetrics toolMetrics;
+
+    public BulkheadToolCallback(ToolCallback delegate, ToolExecutor toolExecutor, ToolMetrics toolMetrics) {
+        this.delegate = delegate;
+        this.toolExecutor = toolExecutor;
+        this.toolMetrics = toolMetrics;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return execute(() -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return execute(() -> delegate.call(toolInput, toolContext));
+    }
+
+    private String execute(Supplier<String> call) {
+        String toolName = getToolDefinition().name();
+        long queuedAt = System.nanoTime();
+        String result;
+        try {
+            result = toolExecutor.execute(toolName, () -> {
+                toolMetrics.recordQueueWait(toolName, System.nanoTime() - queuedAt);
+                return call.get();
+            });
+        } catch (ToolRejectedException e) {
+            toolMetrics.recordRejected(toolName, System.nanoTime() - queuedAt, e);
+            throw e;
+        }
+        toolMetrics.recordResponseBytes(toolName, result);
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import java.util.Locale;
+
+/**
+ * Result shape of the _cat based tools.
+ * <ul>
+ *     <li>{@link #ROWS}: a list of objects, one per row (the default).</li>
+ *     <li>{@link #COLUMNAR}: {@code {"columns":[...],"rows":[[...],...]}}, so key names are sent only once.</li>
+ * </ul>
+ */
+public enum CatResultFormat {
+    ROWS,
+    COLUMNAR;
+
+    /**
+     * Parses the {@code format} tool argument. A missing or blank value selects {@link #ROWS}.
+     *
+     * @throws IllegalArgumentException if the value is not a known format
+     */
+    public static CatResultFormat parse(String format) {
+        if (format == null || format.isBlank()) {
+            return ROWS;
+        }
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown format '" + format + "', expected 'rows' or 'columnar'");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops sending requests to Elasticsearch after repeated overload or availability failures.
+ * <p>
+ * The circuit opens after {@code failureThreshold} consecutive failures. While open, calls are rejected
+ * immediately. After {@code openDuration} the circuit is half-open and lets a single probe request through:
+ * a successful probe closes the circuit, a failed one opens it again for another {@code openDuration}.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    // Guarded by this.
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return true if the call may proceed; the caller must then report exactly one outcome
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+            probeInFlight = false;
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * The call ended without a verdict on cluster health (cancelled or rejected before it was sent).
+     */
+    public synchronized void onIgnore() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * @return time until a half-open probe is allowed, or zero if the circuit is not open
+     */
+    public synchronized Duration retryAfter() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0L, openDurationNanos - (nanoClock.getAsLong() - openedAtNanos)));
+    }
+}
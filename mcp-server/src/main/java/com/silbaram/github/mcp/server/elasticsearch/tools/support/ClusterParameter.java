@@ -0,0 +1,16 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+/**
+ * The optional {@code cluster} argument shared by the tools.
+ * <p>
+ * A missing or blank value, or {@code default}, selects the cluster configured under {@code elasticsearch.search.hosts}.
+ * Caches, the background snapshot and the {@link ElasticsearchGuard} apply to that cluster only; the other clusters
+ * configured under {@code elasticsearch.search.clusters} are queried directly.
+ */
+public final class ClusterParameter {
+
+    public static final String DESCRIPTION = "Name of the Elasticsearch cluster to query (see list_clusters); defaults to the 'default' cluster";
+
+    private ClusterParameter() {
+    }
+}
@@ -0,0 +1,126 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import com.silbaram.github.infrastructures.elasticsearch.support.ElasticsearchErrors;
+import com.silbaram.github.mcp.server.elasticsearch.properties.McpProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Protects the cluster from bursts of expensive tool calls.
+ * <p>
+ * Requests pass through a {@link CircuitBreaker} and an {@link AdaptiveConcurrencyLimiter}. Responses with
+ * status 429 or 5xx and connection failures or timeouts count as cluster failures: they back off the concurrency
+ * limit and, when repeated, open the circuit. Rejected calls fail with {@link ElasticsearchOverloadedException}
+ * without sending anything to Elasticsearch. Settings are under {@code mcp.guard.*}.
+ */
+@Component
+public class ElasticsearchGuard {
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public ElasticsearchGuard(McpProperties props) {
+        this(props.getGuard().isEnabled(), newLimiter(props.getGuard()), newCircuitBreaker(props.getGuard().getCircuit()));
+    }
+
+    ElasticsearchGuard(boolean enabled, AdaptiveConcurrencyLimiter limiter, CircuitBreaker circuitBreaker) {
+        this.enabled = enabled;
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Runs an Elasticsearch call behind the circuit breaker and concurrency limit.
+     *
+     * @param call supplier of the Elasticsearch request, invoked once a slot is available
+     * @return a Mono emitting the call's result, or failing with {@link ElasticsearchOverloadedException} if rejected
+     */
+    public <T> Mono<T> guard(Supplier<Mono<T>> call) {
+        return guard(call, true);
+    }
+
+    /**
+     * Same as {@link #guard(Supplier)} for calls that wait on the cluster by design, such as async search submits
+     * that block until {@code wait_for_completion_timeout}. Their latency says nothing about cluster load, so a
+     * successful call releases its slot without feeding the concurrency limit; 429/5xx and connection failures
+     * still back off the limit and count towards the circuit breaker.
+     */
+    public <T> Mono<T> guardLongRunning(Supplier<Mono<T>> call) {
+        return guard(call, false);
+    }
+
+    private <T> Mono<T> guard(Supplier<Mono<T>> call, boolean latencyFeedback) {
+        if (!enabled) {
+            return Mono.defer(call);
+        }
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                rejectedCalls.increment();
+                return Mono.error(new ElasticsearchOverloadedException("Elasticsearch circuit is open after repeated 429/5xx or connection failures; retry in "
+                    + Math.max(1, circuitBreaker.retryAfter().toSeconds()) + " s"));
+            }
+            return limiter.acquire()
+                    .doOnError(e -> {
+                        rejectedCalls.increment();
+                        circuitBreaker.onIgnore();
+                    })
+                    .doOnCancel(circuitBreaker::onIgnore)
+                    .flatMap(permit -> {
+                        long start = System.nanoTime();
+                        return Mono.defer(call)
+                                .doOnSuccess(result -> {
+                                    if (latencyFeedback) {
+                                        permit.success(System.nanoTime() - start);
+                                    } else {
+                                        permit.ignore();
+                                    }
+                                    circuitBreaker.onSuccess();
+                                })
+                                .doOnError(e -> {
+                                    if (ElasticsearchErrors.isClusterFailure(e)) {
+                                        permit.dropped();
+                                        circuitBreaker.onFailure();
+                                    } else {
+                                        // The cluster answered (e.g. a bad query), so it is reachable.
+                                        permit.ignore();
+                                        circuitBreaker.onSuccess();
+                                    }
+                                })
+                                .doOnCancel(() -> {
+                                    permit.ignore();
+                                    circuitBreaker.onIgnore();
+                                });
+                    });
+        });
+    }
+
+    private static AdaptiveConcurrencyLimiter newLimiter(McpProperties.Guard settings) {
+        McpProperties.Guard.Limit limit = settings.getLimit();
+        return new AdaptiveConcurrencyLimiter(limit.getInitial(), limit.getMin(), limit.getMax(), limit.getLatencyThreshold(),
+            limit.getBackoffRatio(), settings.getQueue().getMaxSize(), settings.getQueue().getMaxWait());
+    }
+
+    private static CircuitBreaker newCircuitBreaker(McpProperties.Guard.Circuit circuit) {
+        return new CircuitBreaker(circuit.getFailureThreshold(), circuit.getOpenDuration());
+    }
+
+    public AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    public CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return number of calls rejected by the queue limit or the open circuit
+     */
+    public long rejectedCalls() {
+        return rejectedCalls.sum();
+    }
+}
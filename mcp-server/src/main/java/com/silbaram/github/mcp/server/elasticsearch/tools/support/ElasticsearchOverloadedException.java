@@ -0,0 +1,12 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+/**
+ * Thrown when a tool call is rejected before reaching Elasticsearch because the cluster is overloaded
+ * or the circuit breaker is open. The message is returned to the client as the tool error.
+ */
+public class ElasticsearchOverloadedException extends RuntimeException {
+
+    public ElasticsearchOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,86 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares a single in-flight Elasticsearch request among concurrent, identical tool calls.
+ * <p>
+ * Calls are keyed by tool name plus normalized arguments. The first caller starts the request and later
+ * callers with the same key subscribe to the same result while it is still running. The entry is removed as
+ * soon as the request terminates, so nothing is cached and a call that arrives afterwards always hits the cluster.
+ */
+@Component
+public class ToolCallCoalescer {
+
+    private final Map<CallKey, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    /**
+     * Runs the call, or joins an identical call that is already in flight.
+     *
+     * @param toolName name of the tool being invoked
+     * @param args tool arguments that identify the request
+     * @param call supplier of the Elasticsearch request, only invoked by the first caller
+     * @return a Mono emitting the shared result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> coalesce(String toolName, List<?> args, Supplier<Mono<T>> call) {
+        CallKey key = new CallKey(toolName, normalize(args));
+        return Mono.defer(() -> {
+            Mono<?> existing = inFlight.get(key);
+            if (existing != null) {
+                coalescedCalls.increment();
+                return (Mono<T>) existing;
+            }
+            return (Mono<T>) inFlight.computeIfAbsent(key, k -> share(k, call));
+        });
+    }
+
+    /**
+     * @return number of calls that were served by joining an in-flight request
+     */
+    public long coalescedCalls() {
+        return coalescedCalls.sum();
+    }
+
+    /**
+     * @return number of distinct requests currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> Mono<T> share(CallKey key, Supplier<Mono<T>> call) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        // Remove only our own entry; a newer request under the same key must not be evicted.
+        Mono<T> shared = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .share();
+        self.set(shared);
+        return shared;
+    }
+
+    private static List<String> normalize(List<?> args) {
+        if (args == null || args.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> normalized = new ArrayList<>(args.size());
+        for (Object arg : args) {
+            normalized.add(arg == null ? "" : arg.toString().trim());
+        }
+        return normalized;
+    }
+
+    private record CallKey(String toolName, List<String> args) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import com.silbaram.github.mcp.server.elasticsearch.properties.McpProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs tool calls behind per-tool bulkheads.
+ * <p>
+ * Each tool gets its own {@link Bulkhead}, so a flood of slow searches only queues behind other searches of the same
+ * tool while cheap metadata tools keep their own slots. Search tools listed in {@code mcp.bulkhead.search.tools} use
+ * the {@code mcp.bulkhead.search.*} limits, all other tools use {@code mcp.bulkhead.default.*}.
+ * <p>
+ * The tool body runs on the thread the MCP layer calls the tool on. The async MCP server already gives every tool
+ * call its own bounded elastic thread, so a second pool would only hold another thread per call.
+ */
+@Component
+public class ToolExecutor {
+
+    private final boolean bulkheadsEnabled;
+    private final Set<String> searchTools;
+    private final BulkheadSettings searchSettings;
+    private final BulkheadSettings defaultSettings;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public ToolExecutor(McpProperties props) {
+        this(props.getBulkhead().isEnabled(),
+            props.getBulkhead().getSearch().getTools(),
+            BulkheadSettings.of(props.getBulkhead().getSearch()),
+            BulkheadSettings.of(props.getBulkhead().getDefault()));
+    }
+
+    ToolExecutor(boolean bulkheadsEnabled, Set<String> searchTools, BulkheadSettings searchSettings, BulkheadSettings defaultSettings) {
+        this.bulkheadsEnabled = bulkheadsEnabled;
+        this.searchTools = Set.copyOf(searchTools);
+        this.searchSettings = searchSettings;
+        this.defaultSettings = defaultSettings;
+    }
+
+    /**
+     * Runs a tool call through the tool's bulkhead on the calling thread.
+     * Waiting for a slot blocks the calling thread, so it must not be a non-blocking (event loop) thread.
+     *
+     * @param toolName name of the tool being invoked
+     * @param call the tool body
+     * @return the tool result
+     * @throws ToolRejectedException if the tool's bulkhead rejects the call
+     */
+    public <T> T execute(String toolName, Supplier<T> call) {
+        if (!bulkheadsEnabled) {
+            return call.get();
+        }
+        return bulkheads.computeIfAbsent(toolName, this::newBulkhead).execute(call);
+    }
+
+    public Collection<Bulkhead> bulkheads() {
+        return bulkheads.values();
+    }
+
+    /**
+     * @return number of calls rejected by any tool's bulkhead
+     */
+    public long rejectedCalls() {
+        return bulkheads.values().stream().mapToLong(Bulkhead::rejectedCalls).sum();
+    }
+
+    private Bulkhead newBulkhead(String toolName) {
+        BulkheadSettings settings = searchTools.contains(toolName) ? searchSettings : defaultSettings;
+        return new Bulkhead(toolName, settings.maxConcurrent(), settings.queueDepth(), settings.queueTimeout());
+    }
+
+    record BulkheadSettings(int maxConcurrent, int queueDepth, Duration queueTimeout) {
+        static BulkheadSettings of(McpProperties.Bulkhead.Limits limits) {
+            return new BulkheadSettings(limits.getMaxConcurrent(), limits.getQueueDepth(), limits.getQueueTimeout());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records per-tool latency, queueing, response size and error metrics.
+ * <p>
+ * Meters:
+ * <ul>
+ *   <li>{@code mcp.tool.duration} (tool, outcome) - time the tool body runs once it holds its bulkhead slot, with p50/p95/p99</li>
+ *   <li>{@code mcp.tool.queue.wait} (tool, outcome) - time a call waited for its bulkhead slot; outcome is
+ *       {@code acquired} or {@code rejected}</li>
+ *   <li>{@code mcp.tool.response.bytes} (tool) - UTF-8 size of the text a tool callback returns to the client</li>
+ *   <li>{@code mcp.tool.errors} (tool, cause) - failed calls by root cause type, including calls the bulkhead
+ *       rejected ({@code ToolRejectedException})</li>
+ *   <li>{@code mcp.search.took} (tool) - time reported by Elasticsearch in the search response {@code took} field</li>
+ * </ul>
+ * {@code mcp.tool.queue.wait} plus {@code mcp.tool.duration} is the time the client waits for a call. Comparing
+ * {@code mcp.search.took} with {@code mcp.tool.duration} separates cluster time from network,
+ * parsing and serialization overhead on this server.
+ */
+@Component
+public class ToolMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final JsonCodec jsonCodec;
+
+    public ToolMetrics(MeterRegistry meterRegistry, JsonCodec jsonCodec) {
+        this.meterRegistry = meterRegistry;
+        this.jsonCodec = jsonCodec;
+    }
+
+    /**
+     * Runs a tool call and records its duration and failure cause.
+     *
+     * @param toolName name of the tool being invoked
+     * @param call the tool body
+     * @return the tool result
+     */
+    public <T> T record(String toolName, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            timer(toolName, "success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            timer(toolName, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            countError(toolName, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Records how long a call waited before its bulkhead let it run.
+     */
+    public void recordQueueWait(String toolName, long waitNanos) {
+        queueWait(toolName, "acquired").record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a call the bulkhead rejected: the time it waited and an error, since the tool body never ran.
+     */
+    public void recordRejected(String toolName, long waitNanos, ToolRejectedException rejection) {
+        queueWait(toolName, "rejected").record(waitNanos, TimeUnit.NANOSECONDS);
+        countError(toolName, rejection);
+    }
+
+    /**
+     * Same as {@link #record(String, Supplier)} and additionally records the {@code took} value of a search response.
+     */
+    public String recordSearch(String toolName, Supplier<String> call) {
+        String result = record(toolName, call);
+        long took = readTook(result);
+        if (took >= 0) {
+            Timer.builder("mcp.search.took")
+                    .tag("tool", toolName)
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry)
+                    .record(took, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
+    /**
+     * Records the size of a tool result as sent to the client. Called with the text the tool callback already
+     * produced, so nothing is serialized a second time.
+     */
+    public void recordResponseBytes(String toolName, String result) {
+        responseBytes(toolName).record(result == null ? 0 : result.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private Timer timer(String toolName, String outcome) {
+        return Timer.builder("mcp.tool.duration")
+                .tag("tool", toolName)
+                .tag("outcome", outcome)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    private Timer queueWait(String toolName, String outcome) {
+        return Timer.builder("mcp.tool.queue.wait")
+                .tag("tool", toolName)
+                .tag("outcome", outcome)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    private void countError(String toolName, Throwable error) {
+        Counter.builder("mcp.tool.errors")
+                .tag("tool", toolName)
+                .tag("cause", rootCause(error).getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private DistributionSummary responseBytes(String toolName) {
+        return DistributionSummary.builder("mcp.tool.response.bytes")
+                .tag("tool", toolName)
+                .baseUnit("bytes")
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the top-level {@code took} field, stopping as soon as it is found.
+     */
+    private long readTook(String searchResponse) {
+        if (searchResponse == null) {
+            return -1;
+        }
+        try (JsonParser parser = jsonCodec.jsonFactory().createParser(searchResponse)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return -1;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("took".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    private static Throwable rootCause(Throwable throwable) {
+        Throwable cause = Exceptions.unwrap(throwable);
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,12 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+/**
+ * Thrown when a tool call is rejected by its bulkhead because too many calls of the same tool are already
+ * running or waiting. The message is returned to the client as the tool error.
+ */
+public class ToolRejectedException extends RuntimeException {
+
+    public ToolRejectedException(String message) {
+        super(message);
+    }
+}
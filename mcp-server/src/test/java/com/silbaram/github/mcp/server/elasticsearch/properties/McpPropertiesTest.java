@@ -0,0 +1,55 @@
+package com.silbaram.github.mcp.server.elasticsearch.properties;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link McpProperties}.
+ */
+public class McpPropertiesTest {
+
+    @Test
+    void testBind_WithoutSettings_UsesDefaults() {
+        // Act
+        McpProperties props = bind(Map.of("mcp.guard.enabled", "true"));
+
+        // Assert
+        assertEquals(10, props.getGuard().getLimit().getInitial());
+        assertEquals(Duration.ofSeconds(2), props.getGuard().getLimit().getLatencyThreshold());
+        assertEquals(8, props.getBulkhead().getSearch().getMaxConcurrent());
+        assertEquals(Duration.ofSeconds(10), props.getBulkhead().getSearch().getQueueTimeout());
+        assertTrue(props.getBulkhead().getSearch().getTools().contains("get_document_search_by_index"));
+        assertEquals(4, props.getBulkhead().getDefault().getMaxConcurrent());
+        assertEquals(Duration.ofMinutes(30), props.getSessions().getIdleTimeout());
+    }
+
+    @Test
+    void testBind_OverridesNestedSettings() {
+        // Act
+        McpProperties props = bind(Map.of(
+            "mcp.guard.queue.max-wait", "1s",
+            "mcp.bulkhead.search.tools", "get_document_hits_by_index,get_async_search",
+            "mcp.bulkhead.default.max-concurrent", "2",
+            "mcp.metrics.logging.step", "30s"
+        ));
+
+        // Assert
+        assertEquals(Duration.ofSeconds(1), props.getGuard().getQueue().getMaxWait());
+        assertEquals(Set.of("get_document_hits_by_index", "get_async_search"), props.getBulkhead().getSearch().getTools());
+        assertEquals(2, props.getBulkhead().getDefault().getMaxConcurrent());
+        assertEquals(16, props.getBulkhead().getDefault().getQueueDepth());
+        assertEquals(Duration.ofSeconds(30), props.getMetrics().getLogging().getStep());
+    }
+
+    private static McpProperties bind(Map<String, String> settings) {
+        Binder binder = new Binder(new MapConfigurationPropertySource(settings));
+        return binder.bind("mcp", McpProperties.class).orElseGet(McpProperties::new);
+    }
+}
@@ -0,0 +1,75 @@
+package com.silbaram.github.mcp.server.elasticsearch.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link McpSessionRegistry}.
+ */
+public class McpSessionRegistryTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    @Test
+    void testMessagesAreAccountedPerSession() {
+        // Arrange
+        McpSessionRegistry registry = new McpSessionRegistry(10, Duration.ofMinutes(30), now::get);
+
+        // Act
+        registry.record("a", 100, Duration.ofMillis(5).toNanos(), false);
+        now.addAndGet(10);
+        registry.record("b", 50, Duration.ofMillis(1).toNanos(), false);
+        now.addAndGet(10);
+        registry.record("a", -1, Duration.ofMillis(7).toNanos(), true);
+
+        // Assert
+        List<SessionStats> sessions = registry.sessions();
+        assertEquals(2, sessions.size());
+        SessionStats a = sessions.get(0);
+        assertEquals("a", a.sessionId(), "most recently active session first");
+        assertEquals(2, a.messages());
+        assertEquals(1, a.errors());
+        assertEquals(100, a.requestBytes(), "unknown request sizes count as zero");
+        assertEquals(12, a.busyMillis());
+        assertEquals(1_000L, a.firstSeen().toEpochMilli());
+        assertEquals(1_020L, a.lastSeen().toEpochMilli());
+    }
+
+    @Test
+    void testIdleSessionsAreEvictedWhenOverTheLimit() {
+        // Arrange
+        McpSessionRegistry registry = new McpSessionRegistry(2, Duration.ofMinutes(1), now::get);
+        registry.record("idle", 1, 0, false);
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        registry.record("b", 1, 0, false);
+
+        // Act
+        registry.record("c", 1, 0, false);
+
+        // Assert
+        assertEquals(List.of("c", "b"), registry.sessions().stream().map(SessionStats::sessionId).toList());
+        assertEquals(1, registry.evictedSessions());
+    }
+
+    @Test
+    void testLeastRecentlyActiveSessionIsEvictedWhenNoneIsIdle() {
+        // Arrange
+        McpSessionRegistry registry = new McpSessionRegistry(2, Duration.ofMinutes(30), now::get);
+        registry.record("a", 1, 0, false);
+        now.incrementAndGet();
+        registry.record("b", 1, 0, false);
+        now.incrementAndGet();
+
+        // Act
+        registry.record("c", 1, 0, false);
+
+        // Assert
+        assertEquals(2, registry.trackedSessions());
+        assertTrue(registry.sessions().stream().noneMatch(session -> session.sessionId().equals("a")));
+    }
+}
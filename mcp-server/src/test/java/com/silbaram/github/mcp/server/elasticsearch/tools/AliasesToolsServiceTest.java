@@ -0,0 +1,84 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools;
+
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.infrastructures.elasticsearch.model.AliasInfo;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchAliasesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.support.CatListOptions;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AliasesToolsService}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class AliasesToolsServiceTest {
+
+    @Mock
+    private ElasticsearchAliasesProvider mockAliasesProvider;
+
+    @Mock
+    private ElasticsearchClusterRegistry mockClusterRegistry;
+
+    private AliasesToolsService aliasesToolsService;
+
+    private final List<AliasInfo> sampleAliases = List.of(new AliasInfo("logs", "logs-1", "-", "-", "-", "true"));
+
+    @BeforeEach
+    void setUp() {
+        aliasesToolsService = new AliasesToolsService(mockAliasesProvider, new ToolCallCoalescer(),
+                new ToolMetrics(new SimpleMeterRegistry(), new JsonCodec()), mockClusterRegistry);
+    }
+
+    @Test
+    void testGetCatAliases_WithoutOptions_UsesListAliases() {
+        // Arrange
+        when(mockAliasesProvider.listAliasesAsync(null, CatListOptions.NONE)).thenReturn(Mono.just(sampleAliases));
+
+        // Act
+        Object result = aliasesToolsService.getCatAliases(null, null, null, null, null);
+
+        // Assert
+        assertEquals(sampleAliases, result);
+        verify(mockAliasesProvider, never()).getCatAliasesAsync();
+        verifyNoInteractions(mockClusterRegistry);
+    }
+
+    @Test
+    void testGetCatAliasesByName_WithoutOptions_UsesListAliases() {
+        // Arrange
+        when(mockAliasesProvider.listAliasesAsync("logs*", CatListOptions.NONE)).thenReturn(Mono.just(sampleAliases));
+
+        // Act
+        Object result = aliasesToolsService.getCatAliasesByName("logs*", null, null, null, null, null);
+
+        // Assert
+        assertEquals(sampleAliases, result);
+        verify(mockAliasesProvider, never()).getCatAliasesByNameAsync(anyString());
+    }
+
+    @Test
+    void testGetCatAliases_WithSortAndLimit_PassesOptions() {
+        // Arrange
+        CatListOptions options = new CatListOptions(null, null, List.of("alias", "index:desc"), null, 5);
+        when(mockAliasesProvider.listAliasesAsync(null, options)).thenReturn(Mono.just(sampleAliases));
+
+        // Act
+        Object result = aliasesToolsService.getCatAliases("rows", "alias,index:desc", null, 5, null);
+
+        // Assert
+        assertEquals(sampleAliases, result);
+    }
+}
@@ -0,0 +1,155 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools;
+
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchCluster;
+import com.silbaram.github.infrastructures.elasticsearch.cluster.ElasticsearchClusterRegistry;
+import com.silbaram.github.infrastructures.elasticsearch.model.AllocationInfo;
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterOverview;
+import com.silbaram.github.infrastructures.elasticsearch.model.ClusterStatistics;
+import com.silbaram.github.infrastructures.elasticsearch.model.IndexInfo;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchCatAllocationProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchClusterStatisticsProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchHealthProvider;
+import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchIndicesProvider;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshot;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshotPoller;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolCallCoalescer;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ClusterOverviewToolsService}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ClusterOverviewToolsServiceTest {
+
+    // Health values in the cat form the provider hands to the overview
+    private static final Map<String, String> HEALTH = Map.ofEntries(
+            Map.entry("epoch", "-"), Map.entry("timestamp", "-"),
+            Map.entry("cluster", "prod"), Map.entry("status", "yellow"),
+            Map.entry("node.total", "3"), Map.entry("node.data", "2"),
+            Map.entry("shards", "18"), Map.entry("pri", "9"), Map.entry("relo", "1"), Map.entry("init", "0"),
+            Map.entry("unassign", "2"), Map.entry("unassign.pri", "2"), Map.entry("pending_tasks", "4"),
+            Map.entry("max_task_wait_time", "0"), Map.entry("active_shards_percent", "90.0%"));
+    private static final ClusterStatistics STATISTICS = new ClusterStatistics(
+            new ClusterStatistics.Cluster("prod", "uuid", "yellow", 0L),
+            new ClusterStatistics.Nodes(3, 2, 1, 1, 70, 8, 0L, 0L, 55.5),
+            new ClusterStatistics.Indices(4L, new ClusterStatistics.Shards(18, 9, 1.0), new ClusterStatistics.Docs(1000L, 0L)));
+    private static final List<AllocationInfo> ALLOCATION = List.of(
+            new AllocationInfo(9, 0L, 0L, 100L, 0L, 91, "hostA", "10.0.0.1", "nodeA"),
+            new AllocationInfo(9, 0L, 0L, 500L, 0L, 60, "hostB", "10.0.0.2", "nodeB"),
+            new AllocationInfo(2, 0L, 0L, 0L, 0L, 0, null, null, "UNASSIGNED"));
+    private static final List<IndexInfo> LARGEST = List.of(
+            new IndexInfo("logs-2", "green", "open", 600L, 0L, 300L, 600L),
+            new IndexInfo("logs-1", "green", "open", 400L, 0L, 200L, 400L));
+    private static final List<IndexInfo> RED = List.of(
+            new IndexInfo("broken", "red", "open", 0L, 0L, 0L, 0L));
+
+    @Mock
+    private ElasticsearchHealthProvider mockHealthProvider;
+
+    @Mock
+    private ElasticsearchClusterStatisticsProvider mockStatisticsProvider;
+
+    @Mock
+    private ElasticsearchCatAllocationProvider mockAllocationProvider;
+
+    @Mock
+    private ElasticsearchIndicesProvider mockIndicesProvider;
+
+    @Mock
+    private ClusterSnapshotPoller mockClusterSnapshotPoller;
+
+    private ClusterOverviewToolsService clusterOverviewToolsService;
+
+    @BeforeEach
+    void setUp() {
+        ElasticsearchCluster cluster = new ElasticsearchCluster(ElasticsearchClusterRegistry.DEFAULT_CLUSTER,
+                mockHealthProvider, mockStatisticsProvider, mockIndicesProvider, null, null, mockAllocationProvider, null, null);
+        ElasticsearchClusterRegistry registry = new ElasticsearchClusterRegistry(cluster, List.of(), Duration.ofSeconds(5), List.of());
+        clusterOverviewToolsService = new ClusterOverviewToolsService(registry, mockClusterSnapshotPoller, new ToolCallCoalescer(),
+                new ToolMetrics(new SimpleMeterRegistry(), new JsonCodec()));
+    }
+
+    @Test
+    void testGetClusterOverview_SendsSubRequestsConcurrentlyAndSummarizes() {
+        // Arrange: each sub-request takes 300 ms, so sequential calls would take at least 1.5 s
+        Duration delay = Duration.ofMillis(300);
+        when(mockHealthProvider.getClusterHealthAsync()).thenReturn(Mono.just(HEALTH).delayElement(delay));
+        when(mockStatisticsProvider.getClusterStatisticsAsync()).thenReturn(Mono.just(STATISTICS).delayElement(delay));
+        when(mockAllocationProvider.getCatAllocationAsync()).thenReturn(Mono.just(ALLOCATION).delayElement(delay));
+        when(mockIndicesProvider.listIndicesAsync(isNull(), argThat(options -> options != null && options.health() == null)))
+                .thenReturn(Mono.just(LARGEST).delayElement(delay));
+        when(mockIndicesProvider.listIndicesAsync(isNull(), argThat(options -> options != null && "red".equals(options.health()))))
+                .thenReturn(Mono.just(RED).delayElement(delay));
+
+        // Act
+        long start = System.nanoTime();
+        ClusterOverview overview = clusterOverviewToolsService.getClusterOverview(null, null, null);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Assert
+        assertTrue(elapsedMillis < 1200, "sub-requests should overlap, took " + elapsedMillis + " ms");
+        assertEquals("prod", overview.clusterName());
+        assertEquals("yellow", overview.status());
+        assertEquals(18, overview.shards().active());
+        assertEquals(2, overview.shards().unassigned());
+        assertEquals(1, overview.shards().relocating());
+        assertEquals(4, overview.shards().pendingTasks());
+        assertEquals(90.0, overview.shards().activePercent());
+        assertEquals(2, overview.nodes().data());
+        assertEquals(55.5, overview.nodes().heapUsedPercent());
+        assertEquals(1, overview.diskHotspots().size(), "only nodes at or above the 85% watermark are reported");
+        assertEquals("nodeA", overview.diskHotspots().get(0).node());
+        assertEquals(List.of("logs-2", "logs-1"), overview.largestIndices().stream().map(IndexInfo::index).toList());
+        assertEquals(List.of("broken"), overview.redIndices());
+        assertNull(overview.snapshotAgeMs());
+    }
+
+    @Test
+    void testGetClusterOverview_UsesFreshSnapshot() {
+        // Arrange
+        ClusterSnapshot snapshot = new ClusterSnapshot(HEALTH, STATISTICS, ALLOCATION, System.currentTimeMillis());
+        when(mockClusterSnapshotPoller.current()).thenReturn(Optional.of(snapshot));
+        when(mockIndicesProvider.listIndicesAsync(isNull(), argThat(options -> options != null && options.health() == null))).thenReturn(Mono.just(LARGEST));
+        when(mockIndicesProvider.listIndicesAsync(isNull(), argThat(options -> options != null && "red".equals(options.health())))).thenReturn(Mono.just(RED));
+
+        // Act
+        ClusterOverview overview = clusterOverviewToolsService.getClusterOverview(1, 50, null);
+
+        // Assert
+        assertNotNull(overview.snapshotAgeMs());
+        assertEquals(List.of("nodeA"), overview.diskHotspots().stream().map(ClusterOverview.DiskHotspot::node).toList());
+        assertEquals(1, overview.largestIndices().size());
+        verifyNoInteractions(mockHealthProvider, mockStatisticsProvider, mockAllocationProvider);
+    }
+
+    @Test
+    void testGetClusterOverview_SubRequestFails() {
+        // Arrange
+        when(mockHealthProvider.getClusterHealthAsync()).thenReturn(Mono.just(HEALTH));
+        when(mockStatisticsProvider.getClusterStatisticsAsync()).thenReturn(Mono.error(new IOException("Simulated Elasticsearch error")));
+        when(mockAllocationProvider.getCatAllocationAsync()).thenReturn(Mono.just(ALLOCATION));
+        when(mockIndicesProvider.listIndicesAsync(isNull(), any())).thenReturn(Mono.just(List.of()));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> clusterOverviewToolsService.getClusterOverview(null, null, null));
+        assertTrue(exception.getMessage().contains("Error building cluster overview"));
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+}
@@ -1,18 +1,25 @@
 package com.silbaram.github.mcp.server.elasticsearch.tools;
 
+import com.silbaram.github.infrastructures.elasticsearch.model.AllocationInfo;
 import com.silbaram.github.infrastructures.elasticsearch.provider.ElasticsearchCatAllocationProvider;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshot;
+import com.silbaram.github.infrastructures.elasticsearch.snapshot.ClusterSnapshotPoller;
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import com.silbaram.github.mcp.server.elasticsearch.tools.support.ToolMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,28 +33,25 @@ public class ShardAllocationToolsServiceTest {
     @Mock
     private ElasticsearchCatAllocationProvider mockElasticsearchCatAllocationProvider;
 
+    @Mock
+    private ClusterSnapshotPoller mockClusterSnapshotPoller;
+
+    @Spy
+    private ToolMetrics toolMetrics = new ToolMetrics(new SimpleMeterRegistry(), new JsonCodec());
+
     @InjectMocks
     private ShardAllocationToolsService shardAllocationToolsService;
 
-    private List<Map<String, Object>> sampleAllocationData;
+    private List<AllocationInfo> sampleAllocationData;
 
     /**
      * Sets up common test data before each test.
      */
     @BeforeEach
     void setUp() {
-        sampleAllocationData = new ArrayList<>();
-        Map<String, Object> node1Data = new HashMap<>();
-        node1Data.put("node", "nodeA");
-        node1Data.put("shards", "10");
-        node1Data.put("disk.indices", "100gb");
-        sampleAllocationData.add(node1Data);
-
-        Map<String, Object> node2Data = new HashMap<>();
-        node2Data.put("node", "nodeB");
-        node2Data.put("shards", "12");
-        node2Data.put("disk.indices", "120gb");
-        sampleAllocationData.add(node2Data);
+        sampleAllocationData = List.of(
+                new AllocationInfo(10, 107374182400L, 0L, 0L, 0L, 0, "hostA", "10.0.0.1", "nodeA"),
+                new AllocationInfo(12, 128849018880L, 0L, 0L, 0L, 0, "hostB", "10.0.0.2", "nodeB"));
     }
 
     /**
@@ -58,17 +62,18 @@ public class ShardAllocationToolsServiceTest {
     @Test
     void testGetShardAllocation_Success() throws IOException {
         // Arrange
-        when(mockElasticsearchCatAllocationProvider.getCatAllocation()).thenReturn(sampleAllocationData);
+        when(mockElasticsearchCatAllocationProvider.getCatAllocationAsync()).thenReturn(Mono.just(sampleAllocationData));
 
         // Act
-        List<Map<String, Object>> result = shardAllocationToolsService.getShardAllocation();
+        List<?> result = shardAllocationToolsService.getShardAllocation();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals("nodeA", result.get(0).get("node"));
-        assertEquals("10", result.get(0).get("shards"));
-        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocation();
+        AllocationInfo first = (AllocationInfo) result.get(0);
+        assertEquals("nodeA", first.node());
+        assertEquals(10, first.shards());
+        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocationAsync();
     }
 
     /**
@@ -79,7 +84,7 @@ public class ShardAllocationToolsServiceTest {
     @Test
     void testGetShardAllocation_ProviderThrowsIOException() throws IOException {
         // Arrange
-        when(mockElasticsearchCatAllocationProvider.getCatAllocation()).thenThrow(new IOException("Simulated Elasticsearch error"));
+        when(mockElasticsearchCatAllocationProvider.getCatAllocationAsync()).thenReturn(Mono.error(new IOException("Simulated Elasticsearch error")));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -87,11 +92,31 @@ public class ShardAllocationToolsServiceTest {
         });
         assertTrue(exception.getMessage().contains("Error retrieving shard allocation information"));
         assertTrue(exception.getCause() instanceof IOException);
-        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocation();
+        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocationAsync();
+    }
+
+    /**
+     * Tests {@link ShardAllocationToolsService#getShardAllocation()} when a fresh cluster snapshot is available.
+     */
+    @Test
+    void testGetShardAllocation_ServedFromSnapshot() {
+        // Arrange
+        ClusterSnapshot snapshot = new ClusterSnapshot(Map.of(), null, sampleAllocationData, System.currentTimeMillis());
+        when(mockClusterSnapshotPoller.current()).thenReturn(Optional.of(snapshot));
+
+        // Act
+        List<?> result = shardAllocationToolsService.getShardAllocation();
+
+        // Assert
+        assertEquals(2, result.size());
+        ShardAllocationToolsService.SnapshotAllocation second = (ShardAllocationToolsService.SnapshotAllocation) result.get(1);
+        assertEquals("nodeB", second.allocation().node());
+        assertTrue(second.snapshotAgeMs() >= 0);
+        verifyNoInteractions(mockElasticsearchCatAllocationProvider);
     }
 
     /**
-     * Tests {@link ShardAllocationToolsService#getShardAllocationForNode(String)} for a successful call.
+     * Tests {@link ShardAllocationToolsService#getShardAllocationForNode(String, String)} for a successful call.
      *
      * @throws IOException if the mocked provider call fails (not expected in this test).
      */
@@ -99,27 +124,23 @@ public class ShardAllocationToolsServiceTest {
     void testGetShardAllocationForNode_Success() throws IOException {
         // Arrange
         String nodeId = "nodeA";
-        List<Map<String, Object>> nodeSpecificData = new ArrayList<>();
-        Map<String, Object> nodeData = new HashMap<>();
-        nodeData.put("node", nodeId);
-        nodeData.put("shards", "10");
-        nodeSpecificData.add(nodeData);
+        List<AllocationInfo> nodeSpecificData = List.of(sampleAllocationData.get(0));
 
-        when(mockElasticsearchCatAllocationProvider.getCatAllocation(nodeId)).thenReturn(nodeSpecificData);
+        when(mockElasticsearchCatAllocationProvider.getCatAllocationAsync(nodeId)).thenReturn(Mono.just(nodeSpecificData));
 
         // Act
-        List<Map<String, Object>> result = shardAllocationToolsService.getShardAllocationForNode(nodeId);
+        List<AllocationInfo> result = shardAllocationToolsService.getShardAllocationForNode(nodeId, null);
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals(nodeId, result.get(0).get("node"));
-        assertEquals("10", result.get(0).get("shards"));
-        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocation(nodeId);
+        assertEquals(nodeId, result.get(0).node());
+        assertEquals(10, result.get(0).shards());
+        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocationAsync(nodeId);
     }
 
     /**
-     * Tests {@link ShardAllocationToolsService#getShardAllocationForNode(String)} when the provider throws an IOException.
+     * Tests {@link ShardAllocationToolsService#getShardAllocationForNode(String, String)} when the provider throws an IOException.
      *
      * @throws IOException if the mocked provider call fails (expected in this test).
      */
@@ -127,14 +148,14 @@ public class ShardAllocationToolsServiceTest {
     void testGetShardAllocationForNode_ProviderThrowsIOException() throws IOException {
         // Arrange
         String nodeId = "nodeX";
-        when(mockElasticsearchCatAllocationProvider.getCatAllocation(nodeId)).thenThrow(new IOException("Simulated Elasticsearch error for node"));
+        when(mockElasticsearchCatAllocationProvider.getCatAllocationAsync(nodeId)).thenReturn(Mono.error(new IOException("Simulated Elasticsearch error for node")));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            shardAllocationToolsService.getShardAllocationForNode(nodeId);
+            shardAllocationToolsService.getShardAllocationForNode(nodeId, null);
         });
         assertTrue(exception.getMessage().contains("Error retrieving shard allocation information for node " + nodeId));
         assertTrue(exception.getCause() instanceof IOException);
-        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocation(nodeId);
+        verify(mockElasticsearchCatAllocationProvider, times(1)).getCatAllocationAsync(nodeId);
     }
 }
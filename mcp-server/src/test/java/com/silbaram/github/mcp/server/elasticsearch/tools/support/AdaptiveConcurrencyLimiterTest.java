@@ -0,0 +1,84 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter}.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueued) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 1, 10, Duration.ofMillis(100), 0.5, maxQueued, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testCallsOverTheLimitWaitAndRunWhenASlotFrees() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire().block();
+        AtomicReference<AdaptiveConcurrencyLimiter.Permit> second = new AtomicReference<>();
+
+        // Act
+        limiter.acquire().subscribe(second::set);
+
+        // Assert
+        assertNull(second.get());
+        assertEquals(1, limiter.queued());
+        first.success(Duration.ofMillis(10).toNanos());
+        assertNotNull(second.get());
+        assertEquals(0, limiter.queued());
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void testFullQueueRejectsWithOverloadedError() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 0);
+        limiter.acquire().block();
+
+        // Act & Assert
+        ElasticsearchOverloadedException exception = assertThrows(ElasticsearchOverloadedException.class, () -> limiter.acquire().block());
+        assertTrue(exception.getMessage().contains("queue is full"));
+    }
+
+    @Test
+    void testLimitGrowsOnFastResponsesAndBacksOffOnOverload() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0);
+
+        // Act: about one window of fast responses (+1/limit each) adds one slot
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire().block().success(Duration.ofMillis(10).toNanos());
+        }
+        int grown = limiter.currentLimit();
+        limiter.acquire().block().dropped();
+        int afterDrop = limiter.currentLimit();
+        limiter.acquire().block().success(Duration.ofSeconds(1).toNanos());
+
+        // Assert
+        assertEquals(3, grown);
+        assertEquals(1, afterDrop);
+        assertEquals(1, limiter.currentLimit(), "the limit never drops below the minimum");
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testPermitIsReleasedOnlyOnce() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire().block();
+        limiter.acquire().block();
+
+        // Act
+        permit.ignore();
+        permit.ignore();
+
+        // Assert
+        assertEquals(1, limiter.inFlight());
+    }
+}
@@ -0,0 +1,88 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Bulkhead}.
+ */
+public class BulkheadTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testCallOverTheLimitIsRejectedWhenTheQueueIsFull() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("get_document_search_by_index", 1, 0, Duration.ofSeconds(5));
+        Future<String> running = executor.submit(() -> bulkhead.execute(this::blockUntilReleased));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        ToolRejectedException exception = assertThrows(ToolRejectedException.class, () -> bulkhead.execute(() -> "second"));
+        assertTrue(exception.getMessage().contains("get_document_search_by_index"));
+        assertEquals(1, bulkhead.inFlight());
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.inFlight());
+        assertEquals(1, bulkhead.rejectedCalls());
+    }
+
+    @Test
+    void testQueuedCallTimesOutWhenNoSlotFrees() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("get_cluster_health", 1, 1, Duration.ofMillis(50));
+        executor.submit(() -> bulkhead.execute(this::blockUntilReleased));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        ToolRejectedException exception = assertThrows(ToolRejectedException.class, () -> bulkhead.execute(() -> "second"));
+        assertTrue(exception.getMessage().contains("timed out"));
+        assertEquals(0, bulkhead.queued());
+    }
+
+    @Test
+    void testQueuedCallRunsWhenASlotFrees() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("get_cluster_health", 1, 1, Duration.ofSeconds(5));
+        executor.submit(() -> bulkhead.execute(this::blockUntilReleased));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        Future<String> queued = executor.submit(() -> bulkhead.execute(() -> "second"));
+        while (bulkhead.queued() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.rejectedCalls());
+    }
+
+    private String blockUntilReleased() {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "first";
+    }
+}
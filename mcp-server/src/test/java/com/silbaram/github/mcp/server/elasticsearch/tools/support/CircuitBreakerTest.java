@@ -0,0 +1,68 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CircuitBreaker}.
+ */
+public class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), now::get);
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        // Act
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state(), "a success resets the failure count");
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(Duration.ofSeconds(30), circuitBreaker.retryAfter());
+    }
+
+    @Test
+    void testHalfOpenAllowsOneProbeAndClosesOnSuccess() {
+        // Arrange
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Act & Assert
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire(), "only one probe at a time");
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void testFailedProbeReopensTheCircuit() {
+        // Arrange
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Act
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+}
@@ -0,0 +1,49 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ElasticsearchGuard}.
+ */
+public class ElasticsearchGuardTest {
+
+    // Every response counts as slow, so each latency sample halves the limit.
+    private static ElasticsearchGuard guard() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofNanos(1), 0.5, 0, Duration.ofSeconds(1));
+        return new ElasticsearchGuard(true, limiter, new CircuitBreaker(5, Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testGuard_SlowSuccess_BacksOffLimit() {
+        // Arrange
+        ElasticsearchGuard guard = guard();
+
+        // Act
+        String result = guard.guard(() -> Mono.just("done")).block();
+
+        // Assert
+        assertEquals("done", result);
+        assertEquals(5, guard.limiter().currentLimit());
+        assertEquals(0, guard.limiter().inFlight());
+    }
+
+    @Test
+    void testGuardLongRunning_SlowSuccess_KeepsLimit() {
+        // Arrange
+        ElasticsearchGuard guard = guard();
+
+        // Act
+        String result = guard.guardLongRunning(() -> Mono.just("done")).block();
+
+        // Assert
+        assertEquals("done", result);
+        assertEquals(10, guard.limiter().currentLimit());
+        assertEquals(0, guard.limiter().inFlight());
+        assertEquals(CircuitBreaker.State.CLOSED, guard.circuitBreaker().state());
+    }
+}
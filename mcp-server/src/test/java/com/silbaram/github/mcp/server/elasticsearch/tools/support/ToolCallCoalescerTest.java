@@ -0,0 +1,87 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ToolCallCoalescer}.
+ */
+public class ToolCallCoalescerTest {
+
+    private final ToolCallCoalescer coalescer = new ToolCallCoalescer();
+
+    @Test
+    void testConcurrentIdenticalCallsShareOneRequest() {
+        // Arrange
+        AtomicInteger invocations = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+
+        // Act
+        coalescer.coalesce("get_cat_indices_by_name", List.of("logs-*"), () -> {
+            invocations.incrementAndGet();
+            return response.asMono();
+        }).subscribe(first::set);
+        coalescer.coalesce("get_cat_indices_by_name", List.of(" logs-* "), () -> {
+            invocations.incrementAndGet();
+            return response.asMono();
+        }).subscribe(second::set);
+        response.tryEmitValue("result");
+
+        // Assert
+        assertEquals(1, invocations.get());
+        assertEquals("result", first.get());
+        assertEquals("result", second.get());
+        assertEquals(1, coalescer.coalescedCalls());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testDifferentArgumentsAreNotCoalesced() {
+        // Arrange
+        AtomicInteger invocations = new AtomicInteger();
+
+        // Act
+        coalescer.coalesce("get_cat_indices_by_name", List.of("a"), () -> Mono.never().doOnSubscribe(s -> invocations.incrementAndGet())).subscribe();
+        coalescer.coalesce("get_cat_indices_by_name", List.of("b"), () -> Mono.never().doOnSubscribe(s -> invocations.incrementAndGet())).subscribe();
+
+        // Assert
+        assertEquals(2, invocations.get());
+        assertEquals(2, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testCompletedCallIsNotReused() {
+        // Arrange
+        AtomicInteger invocations = new AtomicInteger();
+
+        // Act
+        String first = coalescer.coalesce("get_cluster_health", List.of(), () -> Mono.fromSupplier(() -> "v" + invocations.incrementAndGet())).block();
+        String second = coalescer.coalesce("get_cluster_health", List.of(), () -> Mono.fromSupplier(() -> "v" + invocations.incrementAndGet())).block();
+
+        // Assert
+        assertEquals("v1", first);
+        assertEquals("v2", second);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testErrorIsSharedAndEntryRemoved() {
+        // Arrange
+        Mono<String> call = coalescer.coalesce("get_cluster_statistics", List.of(), () -> Mono.error(new IOException("boom")));
+
+        // Act & Assert
+        Exception exception = assertThrows(Exception.class, call::block);
+        assertTrue(exception.getCause() instanceof IOException);
+        assertEquals(0, coalescer.inFlightCount());
+    }
+}
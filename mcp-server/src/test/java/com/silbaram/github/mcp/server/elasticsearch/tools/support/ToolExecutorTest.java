@@ -0,0 +1,58 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ToolExecutor}.
+ */
+public class ToolExecutorTest {
+
+    private static final ToolExecutor.BulkheadSettings SEARCH = new ToolExecutor.BulkheadSettings(8, 16, Duration.ofSeconds(1));
+    private static final ToolExecutor.BulkheadSettings DEFAULT = new ToolExecutor.BulkheadSettings(2, 0, Duration.ofSeconds(1));
+
+    @Test
+    void testEachToolGetsItsOwnBulkhead() {
+        // Arrange
+        ToolExecutor toolExecutor = new ToolExecutor(true, Set.of("get_document_search_by_index"), SEARCH, DEFAULT);
+
+        // Act
+        String health = toolExecutor.execute("get_cluster_health", () -> "green");
+        String search = toolExecutor.execute("get_document_search_by_index", () -> "hits");
+
+        // Assert
+        assertEquals("green", health);
+        assertEquals("hits", search);
+        assertEquals(2, toolExecutor.bulkheads().size());
+        assertEquals(0, toolExecutor.rejectedCalls());
+    }
+
+    @Test
+    void testCallsRunOnTheCallingThread() {
+        // Arrange
+        ToolExecutor toolExecutor = new ToolExecutor(true, Set.of(), SEARCH, DEFAULT);
+
+        // Act
+        String threadName = toolExecutor.execute("get_cluster_health", () -> Thread.currentThread().getName());
+
+        // Assert
+        assertEquals(Thread.currentThread().getName(), threadName);
+    }
+
+    @Test
+    void testToolErrorsPropagateToTheCaller() {
+        // Arrange
+        ToolExecutor toolExecutor = new ToolExecutor(true, Set.of(), SEARCH, DEFAULT);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> toolExecutor.execute("get_cluster_health", () -> {
+                throw new IllegalStateException("boom");
+            }));
+        assertEquals("boom", exception.getMessage());
+    }
+}
@@ -0,0 +1,82 @@
+package com.silbaram.github.mcp.server.elasticsearch.tools.support;
+
+import com.silbaram.github.infrastructures.elasticsearch.support.JsonCodec;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ToolMetrics}.
+ */
+public class ToolMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ToolMetrics toolMetrics = new ToolMetrics(registry, new JsonCodec());
+
+    @Test
+    void testRecord_Success_RecordsDuration() {
+        // Act
+        List<Map<String, Object>> result = toolMetrics.record("get_cat_indices", () -> List.of(Map.of("index", "a")));
+
+        // Assert
+        assertEquals(1, result.size());
+        Timer timer = registry.get("mcp.tool.duration").tag("tool", "get_cat_indices").tag("outcome", "success").timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void testRecordResponseBytes_CountsUtf8BytesOfCallbackResult() {
+        // Act
+        toolMetrics.recordResponseBytes("get_cat_indices", "[{\"index\":\"색인\"}]");
+
+        // Assert
+        DistributionSummary bytes = registry.get("mcp.tool.response.bytes").tag("tool", "get_cat_indices").summary();
+        assertEquals(1, bytes.count());
+        assertEquals("[{\"index\":\"\"}]".length() + 6, bytes.totalAmount());
+    }
+
+    @Test
+    void testRecord_Failure_CountsRootCause() {
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> toolMetrics.record("get_cluster_health", () -> {
+            throw new RuntimeException(new UncheckedIOException(new IOException("down")));
+        }));
+        assertEquals(1, registry.get("mcp.tool.errors").tag("tool", "get_cluster_health").tag("cause", "IOException").counter().count());
+        assertEquals(1, registry.get("mcp.tool.duration").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void testRecordRejected_RecordsQueueWaitAndError() {
+        // Act
+        toolMetrics.recordQueueWait("get_document_search_by_index", TimeUnit.MILLISECONDS.toNanos(5));
+        toolMetrics.recordRejected("get_document_search_by_index", TimeUnit.MILLISECONDS.toNanos(50),
+            new ToolRejectedException("Tool get_document_search_by_index is busy"));
+
+        // Assert
+        Timer acquired = registry.get("mcp.tool.queue.wait").tag("tool", "get_document_search_by_index").tag("outcome", "acquired").timer();
+        assertEquals(5.0, acquired.totalTime(TimeUnit.MILLISECONDS));
+        Timer rejected = registry.get("mcp.tool.queue.wait").tag("outcome", "rejected").timer();
+        assertEquals(1, rejected.count());
+        assertEquals(1, registry.get("mcp.tool.errors").tag("cause", "ToolRejectedException").counter().count());
+    }
+
+    @Test
+    void testRecordSearch_RecordsElasticsearchTook() {
+        // Act
+        toolMetrics.recordSearch("get_document_search_by_index", () -> "{\"_shards\":{\"total\":1},\"took\":42,\"hits\":{\"hits\":[]}}");
+
+        // Assert
+        Timer took = registry.get("mcp.search.took").tag("tool", "get_document_search_by_index").timer();
+        assertEquals(1, took.count());
+        assertEquals(42.0, took.totalTime(TimeUnit.MILLISECONDS));
+    }
+}